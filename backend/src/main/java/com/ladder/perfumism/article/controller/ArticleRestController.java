@@ -31,6 +31,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -41,10 +42,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class ArticleRestController {
 
     private final ArticleService articleService;
+    private final ImageUploader imageUploader;
 
 
-    public ArticleRestController(ArticleService articleService){
+    public ArticleRestController(ArticleService articleService, ImageUploader imageUploader){
         this.articleService = articleService;
+        this.imageUploader = imageUploader;
     }
 
     @PostMapping
@@ -61,22 +64,31 @@ public class ArticleRestController {
         Article article = articleService.createArticle(email,request);
 
         if (!files.get(0).isEmpty()){
-            articleService.createArticleImage(article,files);
+            articleService.createArticleImage(article, imageUploader.uploadAll(files, "article"));
         }
 
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping(value = {"/{subject}","/"})
-    @ApiOperation(value = "게시글 목록 조회", notes = "<b>(로그인 필요)</b> 게시글 목록을 받아오는 API")
+    @ApiOperation(value = "게시글 목록 조회", notes = "<b>(로그인 필요)</b> 게시글 목록을 받아오는 API\n"
+        + "cursor 파라미터를 보내면 최신순 커서 페이지로 조회합니다. (첫 페이지는 빈 값, 이후에는 응답의 next_cursor)")
     @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)"),
         @ApiResponse(code = 404, message = "NOT_FOUND\n로그인한 회원이 불분명할 때(C01)")
     })
-    @ApiImplicitParam(name = "subject", value = "조회할 말 머리", defaultValue = "null")
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "subject", value = "조회할 말 머리", defaultValue = "null"),
+        @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서 (커서 페이지 조회 시)")
+    })
     public ResponseEntity<ArticleReadListResponse> getArticleList(
         @PageableDefault(sort = "id", direction = Direction.DESC) Pageable pageable,
-        @PathVariable(required = false) ArticleSubject subject){
+        @PathVariable(required = false) ArticleSubject subject,
+        @RequestParam(value = "cursor", required = false) String cursor){
 
+        if (cursor != null) {
+            return ResponseEntity.ok().body(articleService.showArticleSlice(cursor, pageable, subject));
+        }
         return ResponseEntity.ok().body(articleService.showArticleList(pageable,subject));
 
     }
@@ -110,7 +122,7 @@ public class ArticleRestController {
         Article article = articleService.findById(articleId);
 
         if (!files.get(0).isEmpty()){
-            articleService.createArticleImage(article,files);
+            articleService.createArticleImage(article, imageUploader.uploadAll(files, "article"));
         }
         articleService.updateArticle(email,articleId, request);
 
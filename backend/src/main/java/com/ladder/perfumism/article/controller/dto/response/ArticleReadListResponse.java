@@ -1,12 +1,16 @@
 package com.ladder.perfumism.article.controller.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.article.domain.Article;
+import com.ladder.perfumism.article.domain.ArticleListItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 public class ArticleReadListResponse {
@@ -24,6 +28,16 @@ public class ArticleReadListResponse {
     @ApiModelProperty(position = 2, notes = "게시글 현재 페이지", example = "1")
     private int currentPageCount;
 
+    @JsonProperty("has_next")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 3, notes = "다음 페이지 존재 여부 (커서 페이지 조회 시에만 포함)", example = "true")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 4, notes = "다음 페이지 커서 (커서 페이지 조회 시에만 포함)", example = "aWQsZGVzYwoxMgoxMg")
+    private String nextCursor;
+
     public ArticleReadListResponse(){
 
     }
@@ -44,5 +58,28 @@ public class ArticleReadListResponse {
         );
     }
 
+    public static ArticleReadListResponse fromItems(Page<ArticleListItem> articleList){
+        return new ArticleReadListResponse(
+            articleList.stream()
+                .map(ArticleReadResponse::from)
+                .collect(Collectors.toList()),
+            articleList.getTotalPages(),
+            articleList.getNumber()
+        );
+    }
+
+    public static ArticleReadListResponse fromSlice(Slice<ArticleListItem> articleList, String nextCursor){
+        ArticleReadListResponse response = new ArticleReadListResponse(
+            articleList.stream()
+                .map(ArticleReadResponse::from)
+                .collect(Collectors.toList()),
+            0,
+            0
+        );
+        response.hasNext = articleList.hasNext();
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
 
 }
@@ -3,6 +3,7 @@ package com.ladder.perfumism.article.controller.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.article.domain.Article;
+import com.ladder.perfumism.article.domain.ArticleListItem;
 import com.ladder.perfumism.article.domain.ArticleSubject;
 import io.swagger.annotations.ApiModelProperty;
 import java.time.LocalDateTime;
@@ -83,4 +84,18 @@ public class ArticleReadResponse {
         );
     }
 
+    public static ArticleReadResponse from(ArticleListItem article){
+        return new ArticleReadResponse(
+            article.getId(),
+            article.getMemberId(),
+            article.getMemberName(),
+            article.getSubject(),
+            article.getTitle(),
+            article.getContent(),
+            article.getCreatedAt(),
+            article.getUpdatedAt(),
+            article.getDeletedAt()
+        );
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.ladder.perfumism.article.domain;
+
+import java.time.LocalDateTime;
+
+public interface ArticleListItem {
+
+    Long getId();
+
+    Long getMemberId();
+
+    String getMemberName();
+
+    ArticleSubject getSubject();
+
+    String getTitle();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getDeletedAt();
+}
@@ -3,6 +3,7 @@ package com.ladder.perfumism.article.domain;
 import com.ladder.perfumism.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,10 +11,28 @@ import org.springframework.data.repository.query.Param;
 
 public interface ArticleRepository extends JpaRepository<Article,Long> {
 
-    Page<Article> findBySubject(ArticleSubject subjects, Pageable pageable);
-
     Page<Article> findByMember(Member member, Pageable pageable);
 
+    // 게시글 목록 응답에 필요한 컬럼만 조회한다. 엔티티를 만들지 않으므로 영속성 컨텍스트와 변경 감지를 거치지 않는다.
+    String LIST_ITEM_SELECT = "select a.id as id, m.id as memberId, m.username as memberName, "
+        + "a.subject as subject, a.title as title, a.content as content, "
+        + "a.createdAt as createdAt, a.updatedAt as updatedAt, a.deletedAt as deletedAt "
+        + "from Article a left join a.member m ";
+
+    @Query(value = LIST_ITEM_SELECT, countQuery = "select count(a) from Article a")
+    Page<ArticleListItem> findListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "where a.subject = :subject",
+        countQuery = "select count(a) from Article a where a.subject = :subject")
+    Page<ArticleListItem> findListItemsBySubject(@Param("subject") ArticleSubject subject, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "where a.id < :id order by a.id desc")
+    Slice<ArticleListItem> findListItemsByIdLessThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "where a.subject = :subject and a.id < :id order by a.id desc")
+    Slice<ArticleListItem> findListItemsBySubjectAndIdLessThan(@Param("subject") ArticleSubject subject,
+        @Param("id") Long id, Pageable pageable);
+
     @Modifying
     @Query(value = "update Article a "
         + "set a.deletedAt = current_timestamp "
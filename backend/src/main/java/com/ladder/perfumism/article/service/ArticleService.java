@@ -6,12 +6,13 @@ import com.ladder.perfumism.article.controller.dto.response.ArticleReadListRespo
 import com.ladder.perfumism.article.domain.Article;
 import com.ladder.perfumism.article.domain.ArticleImage;
 import com.ladder.perfumism.article.domain.ArticleImageRepository;
+import com.ladder.perfumism.article.domain.ArticleListItem;
 import com.ladder.perfumism.article.domain.ArticleRepository;
 import com.ladder.perfumism.article.domain.ArticleSubject;
 import com.ladder.perfumism.comment.domain.CommentRepository;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
-import com.ladder.perfumism.image.ImageUploader;
+import com.ladder.perfumism.global.pagination.Cursor;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
 import com.ladder.perfumism.notification.service.NotificationService;
@@ -19,21 +20,20 @@ import com.ladder.perfumism.vote.domain.Vote;
 import com.ladder.perfumism.vote.domain.VoteItemRepository;
 import com.ladder.perfumism.vote.domain.VoteMemberRepository;
 import com.ladder.perfumism.vote.domain.VoteRepository;
-import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 @Service
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final MemberService memberService;
-    private final ImageUploader imageUploader;
     private final ArticleImageRepository articleImageRepository;
     private final CommentRepository commentRepository;
     private final VoteRepository voteRepository;
@@ -42,13 +42,12 @@ public class ArticleService {
     private final NotificationService notificationService;
 
     public ArticleService(ArticleRepository articleRepository, MemberService memberService,
-        ImageUploader imageUploader, ArticleImageRepository articleImageRepository,
+        ArticleImageRepository articleImageRepository,
         CommentRepository commentRepository, VoteRepository voteRepository,
         VoteItemRepository voteItemRepository, VoteMemberRepository voteMemberRepository,
         NotificationService notificationService) {
         this.articleRepository = articleRepository;
         this.memberService = memberService;
-        this.imageUploader = imageUploader;
         this.articleImageRepository = articleImageRepository;
         this.commentRepository = commentRepository;
         this.voteRepository = voteRepository;
@@ -85,18 +84,36 @@ public class ArticleService {
         return article;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ArticleReadListResponse showArticleList(Pageable pageable, ArticleSubject subject) {
 
-        Page<Article> articleList;
+        Page<ArticleListItem> articleList;
         if (subject != null) {
-            articleList = articleRepository.findBySubject(subject, pageable);
+            articleList = articleRepository.findListItemsBySubject(subject, pageable);
 
         } else {
-            articleList = articleRepository.findAll(pageable);
+            articleList = articleRepository.findListItems(pageable);
         }
 
-        return ArticleReadListResponse.from(articleList);
+        return ArticleReadListResponse.fromItems(articleList);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleReadListResponse showArticleSlice(String cursor, Pageable pageable, ArticleSubject subject) {
+
+        Long lastId = Cursor.isFirstPage(cursor) ? Long.MAX_VALUE : Cursor.decode(cursor, Cursor.SORT_ID_DESC).getId();
+        Pageable limit = PageRequest.of(0, pageable.getPageSize());
+
+        Slice<ArticleListItem> articleList;
+        if (subject != null) {
+            articleList = articleRepository.findListItemsBySubjectAndIdLessThan(subject, lastId, limit);
+
+        } else {
+            articleList = articleRepository.findListItemsByIdLessThan(lastId, limit);
+        }
+
+        return ArticleReadListResponse.fromSlice(articleList,
+            Cursor.nextCursor(articleList, article -> Cursor.ofId(Cursor.SORT_ID_DESC, article.getId())));
     }
 
     @Transactional
@@ -148,30 +165,22 @@ public class ArticleService {
         article.saveDeletedTime();
     }
 
+    // 업로드는 트랜잭션 밖에서 끝내고, 여기서는 올라간 이미지의 URL 만 저장한다.
     @Transactional
-    public void createArticleImage(Article article, List<MultipartFile> files) {
+    public void createArticleImage(Article article, List<String> urls) {
 
         if (!articleImageRepository.findByArticle(article).isEmpty()) {
             articleImageRepository.updateDeletedAtByArticle(article.getId());
         }
 
-        for (MultipartFile file : files) {
-
-            String url = null;
-            try {
-                url = imageUploader.upload(file, "article");
-
-                ArticleImage articleImage = ArticleImage.builder()
-                    .article(article)
-                    .url(url)
-                    .build();
-
-                articleImageRepository.save(articleImage);
+        for (String url : urls) {
 
-            } catch (IOException e) {
+            ArticleImage articleImage = ArticleImage.builder()
+                .article(article)
+                .url(url)
+                .build();
 
-                throw new BusinessException(ErrorCode.GLOBAL_ILLEGAL_ERROR);
-            }
+            articleImageRepository.save(articleImage);
         }
     }
 
@@ -4,6 +4,7 @@ import com.ladder.perfumism.auth.controller.dto.request.LoginRequest;
 import com.ladder.perfumism.auth.controller.dto.request.ReissueRequest;
 import com.ladder.perfumism.auth.service.AuthService;
 import com.ladder.perfumism.auth.service.OAuthService;
+import com.ladder.perfumism.global.cache.CacheStats;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import javax.servlet.http.HttpServletResponse;
@@ -42,6 +43,12 @@ public class AuthRestController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/admin/members/access-token-cache/stats")
+    @ApiOperation(value = "access token 캐시 통계", notes = "(관리자 전용) 검증된 access token 캐시의 적중/실패 횟수를 조회하는 API 입니다.")
+    public ResponseEntity<CacheStats> viewAccessTokenCacheStats() {
+        return ResponseEntity.ok().body(authService.getAccessTokenCacheStats());
+    }
+
     @GetMapping("/oauth2/authorization/google")
     @ApiOperation(value = "구글 로그인", notes = "구글 로그인 API")
     public ResponseEntity<Void> getGoogleCode(@RequestParam String code, HttpServletResponse response) {
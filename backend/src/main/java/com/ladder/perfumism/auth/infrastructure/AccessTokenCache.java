@@ -0,0 +1,49 @@
+package com.ladder.perfumism.auth.infrastructure;
+
+import com.ladder.perfumism.global.cache.CacheStats;
+import com.ladder.perfumism.global.cache.LocalCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 access token 의 인증 정보 캐시.
+ * <p>
+ * 토큰 원문 대신 SHA-256 digest 를 키로 쓰고, 항목은 토큰의 만료 시각(exp)에 함께 만료된다. 검증에 실패한 토큰은 넣지 않는다.
+ */
+@Component
+public class AccessTokenCache {
+
+    private final LocalCache<String, Authentication> cache;
+
+    public AccessTokenCache(@Value("${perfumism.cache.access-token.max-size:10000}") int maxSize,
+        @Value("${perfumism.cache.access-token.ttl-seconds:1800}") long ttlSeconds) {
+        this.cache = new LocalCache<>("access-token", maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    public Authentication get(String accessToken) {
+        return cache.get(digest(accessToken));
+    }
+
+    public void put(String accessToken, Authentication authentication, long expiresAtMillis) {
+        cache.put(digest(accessToken), authentication, expiresAtMillis);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static String digest(String accessToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.ladder.perfumism.auth.infrastructure;
 
 import com.ladder.perfumism.auth.controller.dto.response.TokenResponse;
 import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.global.cache.CacheStats;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
 import com.ladder.perfumism.global.exception.JwtException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -18,6 +20,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -33,6 +36,9 @@ public class JwtTokenProvider {
     private static final String JWT_PAYLOAD_AUTHORITY_TYPE = "auth";
 
     private final Key key;
+    // 불변이라 여러 스레드에서 같이 쓴다.
+    private final JwtParser jwtParser;
+    private final AccessTokenCache accessTokenCache;
     private final String headerType;
     private final String issuer;
     private final long accessTime;
@@ -42,9 +48,12 @@ public class JwtTokenProvider {
         @Value("${jwt.token.issuer}") String issuer,
         @Value("${jwt.token.secret}") String secret,
         @Value("${jwt.token.access-time}") long accessTime,
-        @Value("${jwt.token.refresh-time}") long refreshTime) {
+        @Value("${jwt.token.refresh-time}") long refreshTime,
+        AccessTokenCache accessTokenCache) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.accessTokenCache = accessTokenCache;
         this.headerType = headerType;
         this.issuer = issuer;
         this.accessTime = accessTime;
@@ -73,16 +82,25 @@ public class JwtTokenProvider {
             .build();
     }
 
+    // 한 번 검증한 토큰은 만료될 때까지 캐시에서 꺼내 쓴다. 캐시된 Authentication 은 요청 사이에 공유되므로 고치지 않는다.
     public Authentication resolveAccessToken(String accessToken) {
+        Authentication cached = accessTokenCache.get(accessToken);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
         try {
-            Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(accessToken).getBody();
+            Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
 
             Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get(JWT_PAYLOAD_AUTHORITY_TYPE).toString().split(","))
                     .map(SimpleGrantedAuthority::new)
                     .collect(Collectors.toList());
-            return new UsernamePasswordAuthenticationToken(claims.getSubject(), accessToken, authorities);
+            Authentication authentication =
+                new UsernamePasswordAuthenticationToken(claims.getSubject(), accessToken, authorities);
+            if (Objects.nonNull(claims.getExpiration())) {
+                accessTokenCache.put(accessToken, authentication, claims.getExpiration().getTime());
+            }
+            return authentication;
         } catch (ExpiredJwtException e) {
             throw new JwtException(ErrorCode.INVALID_EXPIRED_JWT);
         } catch (SecurityException | MalformedJwtException e) {
@@ -111,12 +129,16 @@ public class JwtTokenProvider {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
+    public CacheStats getAccessTokenCacheStats() {
+        return accessTokenCache.stats();
+    }
+
     public Authority getAuthority(Authentication authentication) {
         return authentication.getAuthorities().stream()
             .map(authority -> Authority.convertCodeToAuthority(authority.getAuthority()))
@@ -126,7 +148,7 @@ public class JwtTokenProvider {
 
     public void validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+            jwtParser.parseClaimsJws(refreshToken);
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             throw new JwtException(ErrorCode.INVALID_MALFORMED_REFRESH_TOKEN);
         } catch (ExpiredJwtException e) {
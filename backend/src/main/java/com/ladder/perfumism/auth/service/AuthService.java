@@ -6,6 +6,7 @@ import com.ladder.perfumism.auth.controller.dto.response.TokenResponse;
 import com.ladder.perfumism.auth.domain.RefreshToken;
 import com.ladder.perfumism.auth.domain.RefreshTokenRepository;
 import com.ladder.perfumism.auth.infrastructure.JwtTokenProvider;
+import com.ladder.perfumism.global.cache.CacheStats;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
 import com.ladder.perfumism.member.domain.Member;
@@ -72,6 +73,10 @@ public class AuthService {
         return refreshToken.getId();
     }
 
+    public CacheStats getAccessTokenCacheStats() {
+        return jwtTokenProvider.getAccessTokenCacheStats();
+    }
+
     @Transactional
     public void reissue(ReissueRequest request, HttpServletResponse response) {
         // Refresh Token 검증
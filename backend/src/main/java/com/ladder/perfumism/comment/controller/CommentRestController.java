@@ -3,6 +3,7 @@ package com.ladder.perfumism.comment.controller;
 import com.ladder.perfumism.comment.controller.request.CommentCreateRequest;
 import com.ladder.perfumism.comment.controller.response.CommentMyReadListResponse;
 import com.ladder.perfumism.comment.controller.response.CommentReadListResponse;
+import com.ladder.perfumism.comment.controller.response.CommentReplyReadListResponse;
 import com.ladder.perfumism.comment.service.CommentService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -53,15 +55,24 @@ public class CommentRestController {
     }
 
     @GetMapping("/{article_id}")
-    @ApiOperation(value = "댓글 조회", notes = "<b>(로그인 필요)</b> 댓글 조회 API")
+    @ApiOperation(value = "댓글 조회", notes = "<b>(로그인 필요)</b> 댓글 조회 API\n"
+        + "cursor 파라미터를 보내면 최신순 커서 페이지로 조회합니다. (첫 페이지는 빈 값, 이후에는 응답의 next_cursor)")
     @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)"),
         @ApiResponse(code = 404, message = "NOT_FOUND\n로그인한 회원이 불분명할 때(C01)\n게시글이 존재하지 않을 때(H01)")
     })
-    @ApiImplicitParam(name = "article_id", value = "게시글 ID", required = true)
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "article_id", value = "게시글 ID", required = true),
+        @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서 (커서 페이지 조회 시)")
+    })
     public ResponseEntity<CommentReadListResponse> getCommentList(
         @PageableDefault(sort = "id", direction = Direction.DESC)Pageable pageable,
-        @PathVariable(value = "article_id") Long articleId){
+        @PathVariable(value = "article_id") Long articleId,
+        @RequestParam(value = "cursor", required = false) String cursor){
 
+        if (cursor != null) {
+            return ResponseEntity.ok().body(commentService.showCommentSlice(cursor, pageable, articleId));
+        }
         return ResponseEntity.ok().body(commentService.showCommentList(pageable,articleId));
 
     }
@@ -132,6 +143,29 @@ public class CommentRestController {
 
     }
 
+    @GetMapping("/{article_id}/reply/{comment_id}")
+    @ApiOperation(value = "대댓글 조회", notes = "<b>(로그인 필요)</b> 대댓글 더보기 API\n"
+        + "댓글 조회 응답의 next_reply_cursor 를 cursor 로 보내면 그 뒤의 대댓글을 오래된 순으로 조회합니다. "
+        + "(처음부터는 빈 값, 이후에는 응답의 next_cursor)")
+    @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)"),
+        @ApiResponse(code = 404, message = "NOT_FOUND\n로그인한 회원이 불분명할 때(C01)\n게시글이 존재하지 않을 때(H01)\n"
+            + "댓글이 존재하지 않을 때(I01)")
+    })
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "article_id", value = "게시글 ID", required = true),
+        @ApiImplicitParam(name = "comment_id", value = "댓글 ID", required = true),
+        @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서")
+    })
+    public ResponseEntity<CommentReplyReadListResponse> getCommentReplyList(
+        @PageableDefault(sort = "id", direction = Direction.ASC) Pageable pageable,
+        @PathVariable(value = "article_id") Long articleId,
+        @PathVariable(value = "comment_id") Long commentId,
+        @RequestParam(value = "cursor", required = false) String cursor){
+
+        return ResponseEntity.ok().body(commentService.showReplySlice(cursor, pageable, articleId, commentId));
+    }
+
     @GetMapping("/members")
     @ApiOperation(value = "내 댓글 조회", notes = "<b>(로그인 필요)</b> 내 댓글 조회 API")
     @ApiResponses({
@@ -1,11 +1,13 @@
 package com.ladder.perfumism.comment.controller.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.comment.domain.CommentItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public class CommentReadListResponse {
 
@@ -21,6 +23,16 @@ public class CommentReadListResponse {
     @ApiModelProperty(position = 2, notes = "댓글 현재 페이지", example = "3")
     private int currentPageCount;
 
+    @JsonProperty("has_next")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 3, notes = "다음 페이지 존재 여부 (커서 페이지 조회 시에만 포함)", example = "true")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 4, notes = "다음 페이지 커서 (커서 페이지 조회 시에만 포함)", example = "aWQsZGVzYwoxMgoxMg")
+    private String nextCursor;
+
     public CommentReadListResponse(){
 
     }
@@ -31,13 +43,23 @@ public class CommentReadListResponse {
         this.currentPageCount = currentPageCount;
     }
 
-    public static CommentReadListResponse from(Page<Comment> commentList){
+    public static CommentReadListResponse from(List<CommentReadResponse> commentList, Page<CommentItem> page){
         return new CommentReadListResponse(
-            commentList.stream()
-                .map(CommentReadResponse::from)
-                .collect(Collectors.toList()),
-            commentList.getTotalPages(),
-            commentList.getNumber()
+            commentList,
+            page.getTotalPages(),
+            page.getNumber()
+        );
+    }
+
+    public static CommentReadListResponse fromSlice(List<CommentReadResponse> commentList, Slice<CommentItem> slice,
+        String nextCursor){
+        CommentReadListResponse response = new CommentReadListResponse(
+            commentList,
+            0,
+            0
         );
+        response.hasNext = slice.hasNext();
+        response.nextCursor = nextCursor;
+        return response;
     }
 }
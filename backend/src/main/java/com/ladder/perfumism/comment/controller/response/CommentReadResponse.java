@@ -1,12 +1,13 @@
 package com.ladder.perfumism.comment.controller.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.comment.domain.CommentItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -55,6 +56,16 @@ public class CommentReadResponse {
     @ApiModelProperty(position = 9, notes = "대댓글 리스트 없을 때 = []")
     private List<CommentReplyReadResponse> replyList;
 
+    @JsonProperty("reply_count")
+    @ApiModelProperty(position = 10, notes = "전체 대댓글 수", example = "12")
+    private Long replyCount;
+
+    @JsonProperty("next_reply_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 11, notes = "대댓글 더보기 커서 (replyList 에 다 담지 못한 대댓글이 있을 때만 포함)",
+        example = "aWQsYXNjCjQyCjQy")
+    private String nextReplyCursor;
+
 
     public CommentReadResponse(){
 
@@ -76,20 +87,23 @@ public class CommentReadResponse {
         this.deletion = deletion;
     }
 
-    public static CommentReadResponse from(Comment comment){
-        return new CommentReadResponse(
+    public static CommentReadResponse from(CommentItem comment, List<CommentReplyReadResponse> replyList,
+        Long replyCount, String nextReplyCursor){
+        CommentReadResponse response = new CommentReadResponse(
             comment.getId(),
-            comment.getMember().getId(),
-            comment.getMember().getUsername(),
-            comment.getArticle().getId(),
+            comment.getMemberId(),
+            comment.getMemberName(),
+            comment.getArticleId(),
             comment.getContent(),
             comment.getCreatedAt(),
             comment.getUpdatedAt(),
             comment.getDeletedAt(),
-            comment.getReplyList().stream().map(CommentReplyReadResponse::from)
-                .filter(c -> !c.getDeletion()).collect(Collectors.toList()),
+            replyList,
             comment.getDeletion()
         );
+        response.replyCount = replyCount;
+        response.nextReplyCursor = nextReplyCursor;
+        return response;
     }
 
 }
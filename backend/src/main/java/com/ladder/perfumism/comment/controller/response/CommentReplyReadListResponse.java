@@ -0,0 +1,48 @@
+package com.ladder.perfumism.comment.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ladder.perfumism.comment.domain.CommentItem;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+public class CommentReplyReadListResponse {
+
+    @JsonProperty("replyList")
+    @ApiModelProperty(position = 0, notes = "대댓글 목록")
+    private List<CommentReplyReadResponse> replyList;
+
+    @JsonProperty("has_next")
+    @ApiModelProperty(position = 1, notes = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 2, notes = "다음 페이지 커서", example = "aWQsYXNjCjQyCjQy")
+    private String nextCursor;
+
+    public CommentReplyReadListResponse(){
+
+    }
+
+    public CommentReplyReadListResponse(List<CommentReplyReadResponse> replyList, Boolean hasNext, String nextCursor){
+        this.replyList = replyList;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static CommentReplyReadListResponse fromSlice(Slice<CommentItem> replyList, String nextCursor){
+        return new CommentReplyReadListResponse(
+            replyList.stream()
+                .map(CommentReplyReadResponse::from)
+                .collect(Collectors.toList()),
+            replyList.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -2,7 +2,7 @@ package com.ladder.perfumism.comment.controller.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.comment.domain.CommentItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -74,13 +74,13 @@ public class CommentReplyReadResponse {
         this.deletion = deletion;
     }
 
-    public static CommentReplyReadResponse from(Comment comment){
+    public static CommentReplyReadResponse from(CommentItem comment){
         return new CommentReplyReadResponse(
             comment.getId(),
-            comment.getMember().getId(),
-            comment.getMember().getUsername(),
-            comment.getArticle().getId(),
-            comment.getParentId().getId(),
+            comment.getMemberId(),
+            comment.getMemberName(),
+            comment.getArticleId(),
+            comment.getParentId(),
             comment.getContent(),
             comment.getCreatedAt(),
             comment.getUpdatedAt(),
@@ -18,6 +18,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Where;
 
 @Entity
@@ -48,6 +49,7 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "parent_id")
     private Comment parentId;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "parentId")
     private List<Comment> replyList = new ArrayList<>();
 
@@ -0,0 +1,14 @@
+package com.ladder.perfumism.comment.domain;
+
+import lombok.Getter;
+
+// 댓글/답글이 저장되었을 때 발행한다. 알림 대상은 받는 쪽에서 댓글 id 로 찾는다.
+@Getter
+public class CommentCreatedEvent {
+
+    private final Long commentId;
+
+    public CommentCreatedEvent(Long commentId) {
+        this.commentId = commentId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ladder.perfumism.comment.domain;
+
+import java.time.LocalDateTime;
+
+public interface CommentItem {
+
+    Long getId();
+
+    Long getMemberId();
+
+    String getMemberName();
+
+    Long getArticleId();
+
+    Long getParentId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getDeletedAt();
+
+    Boolean getDeletion();
+}
@@ -0,0 +1,10 @@
+package com.ladder.perfumism.comment.domain;
+
+public interface CommentReplyPreview {
+
+    Long getId();
+
+    Long getParentId();
+
+    Long getReplyCount();
+}
@@ -2,9 +2,12 @@ package com.ladder.perfumism.comment.domain;
 
 import com.ladder.perfumism.article.domain.Article;
 import com.ladder.perfumism.member.domain.Member;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,7 +15,37 @@ import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment,Long> {
 
-    Page<Comment> findAllByParentIdIsNullAndArticle(Article article, Pageable pageable);
+    // 댓글 목록 응답에 필요한 컬럼만 작성자와 함께 조회한다.
+    String ITEM_SELECT = "select c.id as id, m.id as memberId, m.username as memberName, "
+        + "c.article.id as articleId, c.parentId.id as parentId, c.content as content, "
+        + "c.createdAt as createdAt, c.updatedAt as updatedAt, c.deletedAt as deletedAt, c.deletion as deletion "
+        + "from Comment c left join c.member m ";
+
+    @Query(value = ITEM_SELECT + "where c.parentId is null and c.article = :article",
+        countQuery = "select count(c) from Comment c where c.parentId is null and c.article = :article")
+    Page<CommentItem> findRootItemsByArticle(@Param("article") Article article, Pageable pageable);
+
+    @Query(value = ITEM_SELECT + "where c.parentId is null and c.article = :article and c.id < :id order by c.id desc")
+    Slice<CommentItem> findRootItemsByArticleAndIdLessThan(@Param("article") Article article, @Param("id") Long id,
+        Pageable pageable);
+
+    // 부모 댓글마다 살아있는 대댓글을 오래된 순으로 :limit 개까지 고르고, 부모별 전체 대댓글 수를 같이 돌려준다.
+    @Query(nativeQuery = true, value = "select t.comment_id as id, t.parent_id as parentId, t.reply_count as replyCount "
+        + "from (select c.comment_id, c.parent_id, "
+        + "row_number() over (partition by c.parent_id order by c.comment_id) as reply_rank, "
+        + "count(*) over (partition by c.parent_id) as reply_count "
+        + "from comment c "
+        + "where c.parent_id in (:parentIds) and c.deleted_at is null and c.deletion = false) t "
+        + "where t.reply_rank <= :limit")
+    List<CommentReplyPreview> findReplyPreviews(@Param("parentIds") Collection<Long> parentIds,
+        @Param("limit") int limit);
+
+    @Query(value = ITEM_SELECT + "where c.id in (:ids) order by c.id asc")
+    List<CommentItem> findItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = ITEM_SELECT + "where c.parentId = :parent and c.deletion = false and c.id > :id order by c.id asc")
+    Slice<CommentItem> findReplyItemsByParentAndIdGreaterThan(@Param("parent") Comment parent, @Param("id") Long id,
+        Pageable pageable);
 
     Boolean existsByArticle(Article article);
 
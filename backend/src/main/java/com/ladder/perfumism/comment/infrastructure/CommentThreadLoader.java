@@ -0,0 +1,77 @@
+package com.ladder.perfumism.comment.infrastructure;
+
+import com.ladder.perfumism.comment.controller.response.CommentReadResponse;
+import com.ladder.perfumism.comment.controller.response.CommentReplyReadResponse;
+import com.ladder.perfumism.comment.domain.CommentItem;
+import com.ladder.perfumism.comment.domain.CommentReplyPreview;
+import com.ladder.perfumism.comment.domain.CommentRepository;
+import com.ladder.perfumism.global.pagination.Cursor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 스레드 조립기.
+ * <p>
+ * 한 페이지의 부모 댓글에 대해 살아있는 대댓글을 부모마다 오래된 순으로 최대 replyPrefetchSize 개까지 가져와 트리로 묶는다.
+ * 부모 수나 대댓글 수와 관계없이 대댓글 id 를 고르는 쿼리와 대댓글 내용(작성자 포함)을 읽는 쿼리 두 번으로 끝난다. 잘린
+ * 스레드에는 마지막으로 내려준 대댓글의 커서를 붙여서 대댓글 조회 API 로 이어서 읽을 수 있게 한다.
+ */
+@Component
+public class CommentThreadLoader {
+
+    private final CommentRepository commentRepository;
+    private final int replyPrefetchSize;
+
+    public CommentThreadLoader(CommentRepository commentRepository,
+        @Value("${perfumism.comment.reply-prefetch-size:10}") int replyPrefetchSize) {
+        this.commentRepository = commentRepository;
+        this.replyPrefetchSize = replyPrefetchSize;
+    }
+
+    public List<CommentReadResponse> load(List<CommentItem> parents) {
+        if (parents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> parentIds = parents.stream()
+            .map(CommentItem::getId)
+            .collect(Collectors.toList());
+        List<CommentReplyPreview> previews = commentRepository.findReplyPreviews(parentIds, replyPrefetchSize);
+
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<Long> replyIds = new ArrayList<>(previews.size());
+        for (CommentReplyPreview preview : previews) {
+            replyCounts.put(preview.getParentId(), preview.getReplyCount());
+            replyIds.add(preview.getId());
+        }
+
+        Map<Long, List<CommentReplyReadResponse>> replies = new HashMap<>();
+        if (!replyIds.isEmpty()) {
+            for (CommentItem reply : commentRepository.findItemsByIdIn(replyIds)) {
+                replies.computeIfAbsent(reply.getParentId(), parentId -> new ArrayList<>())
+                    .add(CommentReplyReadResponse.from(reply));
+            }
+        }
+
+        return parents.stream()
+            .map(parent -> assemble(parent, replies.getOrDefault(parent.getId(), Collections.emptyList()),
+                replyCounts.getOrDefault(parent.getId(), 0L)))
+            .collect(Collectors.toList());
+    }
+
+    private CommentReadResponse assemble(CommentItem parent, List<CommentReplyReadResponse> replyList,
+        Long replyCount) {
+        String nextReplyCursor = null;
+        if (replyCount > replyList.size()) {
+            Long lastId = replyList.isEmpty() ? 0L : replyList.get(replyList.size() - 1).getCommentId();
+            nextReplyCursor = Cursor.ofId(Cursor.SORT_ID_ASC, lastId).encode();
+        }
+        return CommentReadResponse.from(parent, new ArrayList<>(replyList), replyCount, nextReplyCursor);
+    }
+}
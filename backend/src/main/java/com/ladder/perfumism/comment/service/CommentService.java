@@ -5,16 +5,24 @@ import com.ladder.perfumism.article.service.ArticleService;
 import com.ladder.perfumism.comment.controller.request.CommentCreateRequest;
 import com.ladder.perfumism.comment.controller.response.CommentMyReadListResponse;
 import com.ladder.perfumism.comment.controller.response.CommentReadListResponse;
+import com.ladder.perfumism.comment.controller.response.CommentReplyReadListResponse;
 import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.comment.domain.CommentCreatedEvent;
+import com.ladder.perfumism.comment.domain.CommentItem;
 import com.ladder.perfumism.comment.domain.CommentRepository;
+import com.ladder.perfumism.comment.infrastructure.CommentThreadLoader;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.global.pagination.Cursor;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
 import com.ladder.perfumism.notification.service.NotificationService;
 import java.util.Objects;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +33,18 @@ public class CommentService {
     private final ArticleService articleService;
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
+    private final CommentThreadLoader commentThreadLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentService(MemberService memberService, ArticleService articleService,
-        CommentRepository commentRepository, NotificationService notificationService) {
+        CommentRepository commentRepository, NotificationService notificationService,
+        CommentThreadLoader commentThreadLoader, ApplicationEventPublisher eventPublisher) {
         this.memberService = memberService;
         this.articleService = articleService;
         this.commentRepository = commentRepository;
         this.notificationService = notificationService;
+        this.commentThreadLoader = commentThreadLoader;
+        this.eventPublisher = eventPublisher;
     }
 
     private Comment findById(Long commentId){
@@ -59,17 +72,49 @@ public class CommentService {
             .build();
 
         commentRepository.save(comment);
-        notificationService.createCommentNotification(comment);
+        // 알림은 커밋된 뒤에 따로 저장한다.
+        eventPublisher.publishEvent(new CommentCreatedEvent(comment.getId()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public CommentReadListResponse showCommentList(Pageable pageable, Long articleId) {
 
         Article article = articleService.findById(articleId);
 
-        Page<Comment> commentList = commentRepository.findAllByParentIdIsNullAndArticle(article, pageable);
+        Page<CommentItem> commentList = commentRepository.findRootItemsByArticle(article, pageable);
+
+        return CommentReadListResponse.from(commentThreadLoader.load(commentList.getContent()), commentList);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentReadListResponse showCommentSlice(String cursor, Pageable pageable, Long articleId) {
+
+        Article article = articleService.findById(articleId);
+
+        Long lastId = Cursor.isFirstPage(cursor) ? Long.MAX_VALUE : Cursor.decode(cursor, Cursor.SORT_ID_DESC).getId();
+        Slice<CommentItem> commentList = commentRepository.findRootItemsByArticleAndIdLessThan(
+            article, lastId, PageRequest.of(0, pageable.getPageSize()));
+
+        return CommentReadListResponse.fromSlice(commentThreadLoader.load(commentList.getContent()), commentList,
+            Cursor.nextCursor(commentList, comment -> Cursor.ofId(Cursor.SORT_ID_DESC, comment.getId())));
+    }
+
+    @Transactional(readOnly = true)
+    public CommentReplyReadListResponse showReplySlice(String cursor, Pageable pageable, Long articleId,
+        Long commentId) {
+
+        articleService.findById(articleId);
+        Comment comment = findById(commentId);
+        if (comment.getParentId() != null || !comment.getArticle().getId().equals(articleId)) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+
+        Long lastId = Cursor.isFirstPage(cursor) ? 0L : Cursor.decode(cursor, Cursor.SORT_ID_ASC).getId();
+        Slice<CommentItem> replyList = commentRepository.findReplyItemsByParentAndIdGreaterThan(
+            comment, lastId, PageRequest.of(0, pageable.getPageSize()));
 
-        return CommentReadListResponse.from(commentList);
+        return CommentReplyReadListResponse.fromSlice(replyList,
+            Cursor.nextCursor(replyList, reply -> Cursor.ofId(Cursor.SORT_ID_ASC, reply.getId())));
     }
 
     @Transactional
@@ -125,7 +170,7 @@ public class CommentService {
             .build();
 
         commentRepository.save(reply);
-        notificationService.createReplyNotification(reply);
+        eventPublisher.publishEvent(new CommentCreatedEvent(reply.getId()));
     }
 
     @Transactional
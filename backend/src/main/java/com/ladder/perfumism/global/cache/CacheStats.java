@@ -0,0 +1,57 @@
+package com.ladder.perfumism.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+@Getter
+public class CacheStats {
+
+    @JsonProperty("name")
+    @ApiModelProperty(position = 0, notes = "캐시 이름", example = "perfume-detail")
+    private String name;
+
+    @JsonProperty("size")
+    @ApiModelProperty(position = 1, notes = "현재 항목 수", example = "120")
+    private int size;
+
+    @JsonProperty("max_size")
+    @ApiModelProperty(position = 2, notes = "최대 항목 수", example = "10000")
+    private int maxSize;
+
+    @JsonProperty("hit_count")
+    @ApiModelProperty(position = 3, notes = "적중 횟수", example = "900")
+    private long hitCount;
+
+    @JsonProperty("miss_count")
+    @ApiModelProperty(position = 4, notes = "실패 횟수", example = "100")
+    private long missCount;
+
+    @JsonProperty("hit_rate")
+    @ApiModelProperty(position = 5, notes = "적중률", example = "0.9")
+    private double hitRate;
+
+    @JsonProperty("eviction_count")
+    @ApiModelProperty(position = 6, notes = "크기 초과로 버린 항목 수", example = "0")
+    private long evictionCount;
+
+    @JsonProperty("expiration_count")
+    @ApiModelProperty(position = 7, notes = "만료로 버린 항목 수", example = "12")
+    private long expirationCount;
+
+    public CacheStats() {
+    }
+
+    public CacheStats(String name, int size, int maxSize, long hitCount, long missCount, long evictionCount,
+        long expirationCount) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        long requestCount = hitCount + missCount;
+        this.hitRate = requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+    }
+}
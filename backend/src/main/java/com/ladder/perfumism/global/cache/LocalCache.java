@@ -0,0 +1,167 @@
+package com.ladder.perfumism.global.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기와 TTL 로 제한되는 간단한 메모리 캐시.
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 버리고, 만료 시각이 지난 항목은 조회 시점에 버린다. 항목마다 만료 시각을
+ * 따로 줄 수도 있으며, 이 경우에도 캐시의 TTL 보다 오래 살지는 않는다.
+ * <p>
+ * 항목은 ConcurrentHashMap 에 두고 조회 때는 항목의 사용 순번만 바꾸므로 조회끼리는 락을 잡지 않는다. 넘친 항목은 한 스레드만
+ * 사용 순번을 정렬해 최대 크기의 1/10 만큼 여유가 생기도록 한꺼번에 버리고, 그동안 다른 스레드는 기다리지 않고 넘어간다.
+ */
+public class LocalCache<K, V> {
+
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong accessSequence = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public LocalCache(String name, int maxSize, long ttlMillis) {
+        this(name, maxSize, ttlMillis, System::currentTimeMillis);
+    }
+
+    LocalCache(String name, int maxSize, long ttlMillis, LongSupplier clock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (Objects.isNull(entry)) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.getAsLong())) {
+            // 그사이 새로 넣은 항목은 지우지 않는다.
+            if (entries.remove(key, entry)) {
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        entry.accessed = accessSequence.incrementAndGet();
+        hits.increment();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    public void put(K key, V value, long expiresAtMillis) {
+        long now = clock.getAsLong();
+        long expiresAt = Math.min(expiresAtMillis, now + ttlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt, accessSequence.incrementAndGet()));
+        evictOverflow();
+    }
+
+    // 남은 만료 시각은 그대로 두고 값만 바꾼다. 항목이 없거나 만료되었으면 아무것도 하지 않는다.
+    public void update(K key, UnaryOperator<V> updater) {
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (entry.isExpired(clock.getAsLong())) {
+                return entry;
+            }
+            V value = updater.apply(entry.value);
+            return Objects.isNull(value) ? null : new Entry<>(value, entry.expiresAt, entry.accessed);
+        });
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(name, size(), maxSize, hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private void evictOverflow() {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = entries.size() - (maxSize - maxSize / EVICTION_BATCH_DIVISOR);
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 순번이 바뀌지 않도록 지금 순번을 따로 떠 둔다.
+            List<Victim<K, V>> victims = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+                victims.add(new Victim<>(entry.getKey(), entry.getValue()));
+            }
+            victims.sort(Comparator.comparingLong(victim -> victim.accessed));
+            for (int i = 0; i < excess && i < victims.size(); i++) {
+                Victim<K, V> victim = victims.get(i);
+                if (entries.remove(victim.key, victim.entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+        private volatile long accessed;
+
+        Entry(V value, long expiresAt, long accessed) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.accessed = accessed;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private static class Victim<K, V> {
+
+        private final K key;
+        private final Entry<V> entry;
+        private final long accessed;
+
+        Victim(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.accessed = entry.accessed;
+        }
+    }
+}
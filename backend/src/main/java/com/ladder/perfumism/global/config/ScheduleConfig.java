@@ -0,0 +1,24 @@
+package com.ladder.perfumism.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ScheduleConfig {
+
+    // 보존 기간 정리 전용 스레드. 정리는 batch 사이에 쉬면서 오래 돌기 때문에 @Scheduled 스레드에서 돌리면 다른 주기 작업이 밀린다.
+    // 큐를 두지 않아 이전 정리가 끝나지 않았으면 이번 실행은 거절되고, 종료할 때는 인터럽트로 다음 batch 전에 멈춘다.
+    @Bean
+    public ThreadPoolTaskExecutor purgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("purge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -77,6 +77,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers(POST, "/api/members/join").permitAll()
             .antMatchers("/swagger-resources/**").permitAll()
             .antMatchers("/api/auth/**").hasAnyAuthority(Authority.ROLE_MEMBER.getAuthorityCode(), Authority.ROLE_ADMIN.getAuthorityCode())
+            .antMatchers("/api/admin/**").hasAuthority(Authority.ROLE_ADMIN.getAuthorityCode())
             .and()
             .formLogin()
             .disable()
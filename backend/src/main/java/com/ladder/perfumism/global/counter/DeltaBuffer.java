@@ -0,0 +1,48 @@
+package com.ladder.perfumism.global.counter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * id 별 증감량 누산기.
+ * <p>
+ * 증감량은 id 마다 원자적으로 더하며, 합이 0 이 된 id 는 바로 지운다. 그래서 크기는 아직 반영되지 않은 증감량이 있는 id 의 수를
+ * 넘지 않는다. 반영할 때는 {@link #drain()} 으로 그 순간까지의 증감량을 꺼내 가므로, 꺼낸 뒤에 들어온 증감량은 다음 반영 때
+ * 나간다. 반영이 확실히 실패했을 때만 {@link #restore(Map)} 로 되돌려 넣는다.
+ */
+public class DeltaBuffer {
+
+    private final ConcurrentHashMap<Long, Long> deltas = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        if (delta != 0) {
+            deltas.merge(id, delta, DeltaBuffer::sum);
+        }
+    }
+
+    public long pending(Long id) {
+        return deltas.getOrDefault(id, 0L);
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long id : deltas.keySet()) {
+            Long delta = deltas.remove(id);
+            if (delta != null) {
+                drained.put(id, delta);
+            }
+        }
+        return Collections.unmodifiableMap(drained);
+    }
+
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    private static Long sum(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+}
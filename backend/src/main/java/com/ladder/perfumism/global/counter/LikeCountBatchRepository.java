@@ -0,0 +1,40 @@
+package com.ladder.perfumism.global.counter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class LikeCountBatchRepository {
+
+    private static final String UPDATE_PERFUME_TOTAL_LIKE =
+        "update perfume set total_like = coalesce(total_like, 0) + ? where perfume_id = ?";
+    private static final String UPDATE_REVIEW_TOTAL_LIKE =
+        "update review set total_like = coalesce(total_like, 0) + ? where review_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LikeCountBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 두 테이블의 증감량을 한 트랜잭션으로 반영한다. 실패하면 둘 다 반영되지 않는다.
+    @Transactional
+    public void addTotalLikes(Map<Long, Long> perfumeDeltas, Map<Long, Long> reviewDeltas) {
+        batchUpdate(UPDATE_PERFUME_TOTAL_LIKE, perfumeDeltas);
+        batchUpdate(UPDATE_REVIEW_TOTAL_LIKE, reviewDeltas);
+    }
+
+    private void batchUpdate(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = deltas.entrySet().stream()
+            .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
@@ -0,0 +1,133 @@
+package com.ladder.perfumism.global.counter;
+
+import com.ladder.perfumism.global.transaction.AfterCommit;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeDetailCache;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 수 write-behind 버퍼.
+ * <p>
+ * 켜져 있으면 좋아요/취소 때 total_like 를 바로 고치지 않고 증감량만 메모리에 모았다가, 주기적으로 한 번의 batch update 로
+ * 반영한다. 인기 향수에 좋아요가 몰려도 같은 row 의 lock 을 두고 요청끼리 기다리지 않는다. 증감량은 좋아요 트랜잭션이 커밋된
+ * 뒤에 쌓으며, 반영은 한 번에 하나씩만 돈다. 종료할 때 남은 증감량을 반영한다.
+ * <p>
+ * 반영할 증감량은 DB 에 쓰기 전에 버퍼에서 꺼내므로, 조회 결과에 더하는 미반영 증감량과 DB 값이 겹쳐 두 번 세지 않는다. 쓰는
+ * 도중에 실패해 롤백된 것만 버퍼에 되돌려 넣는다. 커밋 중에 실패해 반영되었는지 알 수 없으면 다시 더하지 않고 버리며, 그 차이는
+ * 매일 도는 좋아요 수 보정이 좋아요 테이블 기준으로 바로잡는다.
+ * <p>
+ * 좋아요 행을 쓰는 트랜잭션은 끝날 때까지 보정을 막는다. 보정 도중에 커밋된 좋아요가 다시 세기에도 들어가고 다음 반영에도
+ * 더해지면 두 번 세므로, 보정은 진행 중인 좋아요 트랜잭션이 모두 끝나 증감량이 버퍼에 쌓인 뒤에 반영과 다시 세기를 하고, 그동안
+ * 새 좋아요 트랜잭션은 좋아요 행을 쓰기 전에 기다린다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private final boolean enabled;
+    private final LikeCountBatchRepository likeCountBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PerfumeDetailCache perfumeDetailCache;
+    private final DeltaBuffer perfumeDeltas = new DeltaBuffer();
+    private final DeltaBuffer reviewDeltas = new DeltaBuffer();
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    public LikeCountBuffer(@Value("${perfumism.like.write-behind.enabled:false}") boolean enabled,
+        LikeCountBatchRepository likeCountBatchRepository, TransactionTemplate transactionTemplate,
+        PerfumeDetailCache perfumeDetailCache) {
+        this.enabled = enabled;
+        this.likeCountBatchRepository = likeCountBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.perfumeDetailCache = perfumeDetailCache;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 좋아요 행을 쓰기 전에 부른다. 트랜잭션이 끝날 때까지 보정이 시작되지 않는다.
+    public void enterLikeWrite() {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        reconcileLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                reconcileLock.readLock().unlock();
+            }
+        });
+    }
+
+    public void addPerfumeLike(Long perfumeId, int delta) {
+        AfterCommit.run(() -> perfumeDeltas.add(perfumeId, delta));
+    }
+
+    public void addReviewLike(Long reviewId, int delta) {
+        AfterCommit.run(() -> reviewDeltas.add(reviewId, delta));
+    }
+
+    // 아직 DB 에 반영되지 않은 증감량. 조회 결과에 더해서 내려준다.
+    public int pendingPerfumeLike(Long perfumeId) {
+        return enabled ? (int) perfumeDeltas.pending(perfumeId) : 0;
+    }
+
+    public int pendingReviewLike(Long reviewId) {
+        return enabled ? (int) reviewDeltas.pending(reviewId) : 0;
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, Long> perfumes = perfumeDeltas.drain();
+        Map<Long, Long> reviews = reviewDeltas.drain();
+        if (perfumes.isEmpty() && reviews.isEmpty()) {
+            return;
+        }
+
+        AtomicBoolean written = new AtomicBoolean(false);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                likeCountBatchRepository.addTotalLikes(perfumes, reviews);
+                written.set(true);
+            });
+        } catch (DataAccessException | TransactionException e) {
+            if (!written.get()) {
+                // 롤백되었으므로 버퍼에 되돌려 넣고 다음 반영 때 다시 시도한다.
+                log.warn("좋아요 수 반영 실패 - 향수 {}건, 리뷰 {}건", perfumes.size(), reviews.size(), e);
+                perfumeDeltas.restore(perfumes);
+                reviewDeltas.restore(reviews);
+                return;
+            }
+            log.error("좋아요 수 반영 커밋 결과 알 수 없음, 보정 작업에 맡김 - 향수 {}건, 리뷰 {}건",
+                perfumes.size(), reviews.size(), e);
+        }
+
+        perfumes.keySet().forEach(perfumeDetailCache::expireCounts);
+    }
+
+    // 진행 중인 좋아요 트랜잭션이 끝나길 기다려 남은 증감량을 반영한 뒤, 새 좋아요와 다른 반영이 끼어들지 않게 한 상태로
+    // action 을 실행한다.
+    public synchronized void flushAndThen(Runnable action) {
+        reconcileLock.writeLock().lock();
+        try {
+            flush();
+            action.run();
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+}
@@ -7,6 +7,8 @@ public enum ErrorCode {
     // global
     GLOBAL_ILLEGAL_ERROR(HttpStatus.BAD_REQUEST, "ILLEGAL 에러입니다.", "Z01"),
     GLOBAL_INTERNAL_SERVER_ERROR(HttpStatus.BAD_REQUEST, "RUNTIME 에러입니다.", "Z02"),
+    GLOBAL_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다.", "Z03"),
+    GLOBAL_NOT_SUPPORTED_CURSOR_SORT(HttpStatus.BAD_REQUEST, "커서 페이지에서 지원하지 않는 정렬입니다.", "Z04"),
 
     // authentication
     INVALID_EXPIRED_JWT(HttpStatus.FORBIDDEN, "만료된 토큰입니다.", "A01"),
@@ -59,6 +61,9 @@ public enum ErrorCode {
     PERFUME_NOT_FOUND_BY_ID(HttpStatus.NOT_FOUND, "존재하지 않는 퍼퓸 ID 입니다", "S01"),
     PERFUME_ALREADY_LIKE(HttpStatus.CONFLICT, "이미 향수에 좋아요를 하셨습니다.", "S02"),
     PERFUME_NOT_LIKE_THIS_BEFORE(HttpStatus.NOT_FOUND, "이 향수를 좋아한 적이 없습니다.", "S03"),
+    PERFUME_NOT_SUPPORTED_TRENDING_PERIOD(HttpStatus.BAD_REQUEST, "지원하지 않는 인기 향수 기간입니다.", "S04"),
+    PERFUME_NOT_LIKE_ANYTHING(HttpStatus.NOT_FOUND, "사용자가 좋아요한 향수가 존재하지 않습니다.", "S05"),
+    PERFUME_RECOMMEND_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "향수 추천을 준비하고 있습니다.", "S06"),
 
     // search
     SEARCH_TOO_SHORT_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 2글자 이상 입력하셔야 합니다.", "T01"),
@@ -0,0 +1,92 @@
+package com.ladder.perfumism.global.pagination;
+
+import com.ladder.perfumism.global.exception.BusinessException;
+import com.ladder.perfumism.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 커서(seek) 페이지의 위치.
+ * <p>
+ * 마지막으로 내려준 row 의 (정렬 키, id) 를 정렬 이름과 함께 base64 로 감싸서 클라이언트에 내려준다. 클라이언트는 이 값을 그대로
+ * 다음 요청의 cursor 파라미터로 보내면 되고, 빈 값을 보내면 첫 페이지를 조회한다.
+ */
+public class Cursor {
+
+    public static final String SORT_ID_ASC = "id,asc";
+    public static final String SORT_ID_DESC = "id,desc";
+
+    private static final String DELIMITER = "\n";
+
+    private final String sort;
+    private final String key;
+    private final Long id;
+
+    private Cursor(String sort, String key, Long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static Cursor of(String sort, Object key, Long id) {
+        return new Cursor(sort, String.valueOf(key), id);
+    }
+
+    public static Cursor ofId(String sort, Long id) {
+        return new Cursor(sort, String.valueOf(id), id);
+    }
+
+    public static boolean isFirstPage(String cursor) {
+        return Objects.isNull(cursor) || cursor.trim().isEmpty();
+    }
+
+    public static Cursor decode(String cursor, String sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER, -1);
+            if (values.length != 3 || !values[0].equals(sort)) {
+                throw new BusinessException(ErrorCode.GLOBAL_INVALID_CURSOR);
+            }
+            return new Cursor(values[0], values[1], Long.valueOf(values[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.GLOBAL_INVALID_CURSOR);
+        }
+    }
+
+    public static <T> String nextCursor(Slice<T> slice, Function<T, Cursor> cursorOf) {
+        List<T> content = slice.getContent();
+        if (!slice.hasNext() || content.isEmpty()) {
+            return null;
+        }
+        return cursorOf.apply(content.get(content.size() - 1)).encode();
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getKeyAsLong() {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.GLOBAL_INVALID_CURSOR);
+        }
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ladder.perfumism.global.purge;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class BatchPurgeRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public BatchPurgeRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // 잠그지 않고 id 순서로 다음 batch 의 id 를 고른다.
+    public List<Long> findIds(PurgeTarget target, LocalDateTime cutoff, long afterId, int limit) {
+        String sql = "select " + target.getIdColumn() + " from " + target.getTable()
+            + " where " + target.getIdColumn() + " > :afterId and " + target.getCondition()
+            + " order by " + target.getIdColumn() + " limit :limit";
+        return namedParameterJdbcTemplate.queryForList(sql, new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("cutoff", cutoff)
+            .addValue("limit", limit), Long.class);
+    }
+
+    // batch 하나를 짧은 트랜잭션 하나로 옮기고 지운다. 그 사이에 조건이 바뀐 row 는 남긴다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purge(PurgeTarget target, List<Long> ids, LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("cutoff", cutoff);
+        String where = " where " + target.getIdColumn() + " in (:ids) and " + target.getRecheckCondition();
+        if (target.isArchived()) {
+            namedParameterJdbcTemplate.update(
+                "insert into " + target.getArchiveTable() + " select * from " + target.getTable() + where, params);
+        }
+        return namedParameterJdbcTemplate.update("delete from " + target.getTable() + where, params);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ladder.perfumism.global.purge;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 row 배치 정리기.
+ * <p>
+ * 대상 테이블을 id 순서로 훑으며 batchSize 개씩 골라, batch 마다 짧은 트랜잭션 하나로 지운다. 한 번에 잠그는 row 는 batch 크기를
+ * 넘지 않고, batch 사이에 쉬어서 서비스 쿼리가 끼어들 틈을 둔다. 한 번 실행에 maxBatches 까지만 돌고 나머지는 다음 실행으로 넘긴다.
+ */
+@Slf4j
+@Component
+public class BatchPurger {
+
+    private static final int PROGRESS_LOG_INTERVAL = 50;
+
+    private final BatchPurgeRepository batchPurgeRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long throttleMillis;
+
+    public BatchPurger(BatchPurgeRepository batchPurgeRepository,
+        @Value("${perfumism.purge.batch-size:500}") int batchSize,
+        @Value("${perfumism.purge.max-batches:200}") int maxBatches,
+        @Value("${perfumism.purge.throttle-ms:200}") long throttleMillis) {
+        this.batchPurgeRepository = batchPurgeRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.throttleMillis = throttleMillis;
+    }
+
+    public PurgeStats run(PurgeTarget target) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = target.cutoff(LocalDateTime.now());
+        long afterId = 0;
+        long deleted = 0;
+        int batches = 0;
+        boolean completed = false;
+
+        try {
+            while (batches < maxBatches) {
+                List<Long> ids = batchPurgeRepository.findIds(target, cutoff, afterId, batchSize);
+                if (ids.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+                deleted += batchPurgeRepository.purge(target, ids, cutoff);
+                batches++;
+                afterId = ids.get(ids.size() - 1);
+                if (batches % PROGRESS_LOG_INTERVAL == 0) {
+                    log.info("{} 정리 중 - 삭제 {}건, batch {}회, 마지막 id {}", target.getName(), deleted, batches, afterId);
+                }
+                if (ids.size() < batchSize) {
+                    completed = true;
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            // 실패한 batch 는 롤백되었으므로 다음 실행에서 다시 시도한다.
+            log.warn("{} 정리 실패 - 마지막 id {}", target.getName(), afterId, e);
+        }
+
+        long archived = target.isArchived() ? deleted : 0;
+        return new PurgeStats(target.getName(), deleted, archived, batches, completed,
+            System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean pause() {
+        if (throttleMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
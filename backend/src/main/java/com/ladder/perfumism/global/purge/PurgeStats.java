@@ -0,0 +1,30 @@
+package com.ladder.perfumism.global.purge;
+
+import lombok.Getter;
+
+// 정리 한 번의 진행 결과
+@Getter
+public class PurgeStats {
+
+    private final String name;
+    private final long deleted;
+    private final long archived;
+    private final int batches;
+    private final boolean completed;
+    private final long elapsedMillis;
+
+    public PurgeStats(String name, long deleted, long archived, int batches, boolean completed, long elapsedMillis) {
+        this.name = name;
+        this.deleted = deleted;
+        this.archived = archived;
+        this.batches = batches;
+        this.completed = completed;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - 삭제 %d건, 보관 %d건, batch %d회, %dms%s",
+            name, deleted, archived, batches, elapsedMillis, completed ? "" : " (남은 row 는 다음 실행에서 정리)");
+    }
+}
@@ -0,0 +1,68 @@
+package com.ladder.perfumism.global.purge;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * 배치 정리 대상 테이블과 지울 조건.
+ * <p>
+ * 조건은 :cutoff 파라미터를 기준으로 쓴다. condition 은 지울 id 를 고를 때 쓰고, recheckCondition 은 실제로 지울 때 한 번 더
+ * 확인한다. 같은 테이블을 보는 서브쿼리는 MySQL 의 delete 에 쓸 수 없으므로 condition 에만 넣는다.
+ */
+@Getter
+public class PurgeTarget {
+
+    private final String name;
+    private final String table;
+    private final String idColumn;
+    private final String condition;
+    private final String recheckCondition;
+    private final int retentionDays;
+    private final String archiveTable;
+
+    private PurgeTarget(String name, String table, String idColumn, String condition, String recheckCondition,
+        int retentionDays, String archiveTable) {
+        this.name = name;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.condition = condition;
+        this.recheckCondition = recheckCondition;
+        this.retentionDays = retentionDays;
+        this.archiveTable = archiveTable;
+    }
+
+    // soft delete 된 지 retentionDays 가 지난 row
+    public static PurgeTarget softDeleted(String table, String idColumn, int retentionDays) {
+        String condition = "deleted_at < :cutoff";
+        return new PurgeTarget(table, table, idColumn, condition, condition, retentionDays, null);
+    }
+
+    // 만든 지 retentionDays 가 지난 row
+    public static PurgeTarget expired(String name, String table, String idColumn, int retentionDays) {
+        String condition = "created_at < :cutoff";
+        return new PurgeTarget(name, table, idColumn, condition, condition, retentionDays, null);
+    }
+
+    // id 를 고를 때만 조건을 더한다. 더한 조건이 깨지는 경쟁은 외래 키 제약이 막는다.
+    public PurgeTarget onlyWhen(String extraCondition) {
+        return new PurgeTarget(name, table, idColumn, condition + " and " + extraCondition, recheckCondition,
+            retentionDays, archiveTable);
+    }
+
+    // 지우기 전에 같은 컬럼 구성의 archiveTable 로 옮긴다. 비어 있으면 지우기만 한다.
+    public PurgeTarget archiveTo(String archiveTable) {
+        if (Objects.isNull(archiveTable) || archiveTable.trim().isEmpty()) {
+            return this;
+        }
+        return new PurgeTarget(name, table, idColumn, condition, recheckCondition, retentionDays, archiveTable.trim());
+    }
+
+    public boolean isArchived() {
+        return Objects.nonNull(archiveTable);
+    }
+
+    public LocalDateTime cutoff(LocalDateTime now) {
+        return now.minusDays(retentionDays);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ladder.perfumism.global.schedule;
+
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
+import com.ladder.perfumism.perfume.service.PerfumeLikeService;
+import com.ladder.perfumism.review.service.ReviewLikeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LikeScheduleTasks {
+
+    private final PerfumeLikeService perfumeLikeService;
+    private final ReviewLikeService reviewLikeService;
+    private final LikeCountBuffer likeCountBuffer;
+
+    public LikeScheduleTasks(PerfumeLikeService perfumeLikeService, ReviewLikeService reviewLikeService,
+        LikeCountBuffer likeCountBuffer) {
+        this.perfumeLikeService = perfumeLikeService;
+        this.reviewLikeService = reviewLikeService;
+        this.likeCountBuffer = likeCountBuffer;
+    }
+
+    @Scheduled(fixedDelayString = "${perfumism.like.write-behind.flush-interval-ms:1000}")
+    // write-behind 모드일 때 모아 둔 좋아요 증감량을 반영한다.
+    public void flushLikeCounts() {
+        likeCountBuffer.flush();
+    }
+
+    @Scheduled(cron = "${perfumism.like.reconcile-cron:0 30 4 * * *}")
+    // 기본값은 매일 4시 30분
+    // 좋아요 수를 좋아요 테이블 기준으로 다시 맞춘다. 버퍼에 남은 증감량을 먼저 반영하고, 다시 세는 동안 새 좋아요를 막아야
+    // 두 번 더해지지 않는다.
+    public void reconcileTotalLikes() {
+        likeCountBuffer.flushAndThen(() -> {
+            Integer perfumes = perfumeLikeService.reconcileTotalLikes();
+            Integer reviews = reviewLikeService.reconcileTotalLikes();
+            if (perfumes > 0 || reviews > 0) {
+                log.warn("좋아요 수 보정 - 향수 {}건, 리뷰 {}건", perfumes, reviews);
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.ladder.perfumism.global.schedule;
+
+import com.ladder.perfumism.notification.infrastructure.NotificationEmitters;
+import com.ladder.perfumism.notification.infrastructure.NotificationQueue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationScheduleTasks {
+
+    private final NotificationQueue notificationQueue;
+    private final NotificationEmitters notificationEmitters;
+
+    public NotificationScheduleTasks(NotificationQueue notificationQueue,
+        NotificationEmitters notificationEmitters) {
+        this.notificationQueue = notificationQueue;
+        this.notificationEmitters = notificationEmitters;
+    }
+
+    @Scheduled(fixedDelayString = "${perfumism.notification.flush-interval-ms:200}")
+    // 큐에 모인 댓글 알림을 저장한다.
+    public void flushNotifications() {
+        notificationQueue.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${perfumism.notification.sse.heartbeat-ms:15000}")
+    // 알림 SSE 연결을 유지하고 끊긴 연결을 정리한다.
+    public void sendNotificationHeartbeat() {
+        notificationEmitters.heartbeat();
+    }
+}
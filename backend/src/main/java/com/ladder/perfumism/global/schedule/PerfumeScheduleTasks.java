@@ -1,22 +1,74 @@
 package com.ladder.perfumism.global.schedule;
 
+import com.ladder.perfumism.perfume.service.PerfumeRecommendService;
+import com.ladder.perfumism.perfume.service.PerfumeSearchService;
 import com.ladder.perfumism.perfume.service.PerfumeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class PerfumeScheduleTasks {
 
     private final PerfumeService perfumeService;
+    private final PerfumeRecommendService perfumeRecommendService;
+    private final PerfumeSearchService perfumeSearchService;
 
-    public PerfumeScheduleTasks(PerfumeService perfumeService) {
+    public PerfumeScheduleTasks(PerfumeService perfumeService, PerfumeRecommendService perfumeRecommendService,
+        PerfumeSearchService perfumeSearchService) {
         this.perfumeService = perfumeService;
+        this.perfumeRecommendService = perfumeRecommendService;
+        this.perfumeSearchService = perfumeSearchService;
     }
 
-    @Scheduled(cron = "0 1 0 1 * *")
-    // 초 분 시 일 월 요일
-    // 즉 매월 1일 0시 1분에 새로고침
-    public void refreshingMonthlyPerfume() {
-        perfumeService.refreshingMonthlyPerfumeList();
+    @Scheduled(fixedDelayString = "${perfumism.trending.refresh-interval-ms:60000}")
+    // 기본값은 1분마다
+    // 좋아요가 들어올 때마다 쌓아 둔 시간 버킷으로 일간/주간/월간 인기 향수 순위를 새로 만든다.
+    public void refreshTrendingPerfume() {
+        perfumeService.refreshTrendingPerfumeList();
+    }
+
+    // 서버가 뜰 때 한 번
+    // grade_sum, grade_count 가 비어 있는 기존 향수를 리뷰 테이블 기준으로 채운다. 그 사이 들어온 리뷰로 어긋난 값도 같이 바로잡는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPerfumeGrades() {
+        Integer backfilled = perfumeService.reconcileGrades();
+        if (backfilled > 0) {
+            log.info("향수 평점 합/개수 채움 - {}건", backfilled);
+        }
+    }
+
+    @Scheduled(cron = "${perfumism.review.grade-verify-cron:0 0 5 * * *}")
+    // 기본값은 매일 5시
+    // 향수별 평점 합/개수를 리뷰 테이블 기준으로 검증하고 어긋난 값을 바로잡는다.
+    public void verifyPerfumeGrades() {
+        Integer corrected = perfumeService.reconcileGrades();
+        if (corrected > 0) {
+            log.warn("향수 평점 보정 - {}건", corrected);
+        }
+    }
+
+    @Scheduled(cron = "${perfumism.similarity.rebuild-cron:0 30 5 * * *}")
+    // 기본값은 매일 5시 30분
+    // 그날 늘어난 설문 수까지 반영해 향수별 비슷한 향수 목록을 처음부터 다시 계산한다.
+    public void rebuildSimilarPerfume() {
+        perfumeService.rebuildSimilarPerfumes();
+    }
+
+    @Scheduled(cron = "${perfumism.recommend.refresh-cron:0 0 6 * * *}")
+    // 기본값은 매일 6시
+    // 향수 어코드가 바뀌었으면 추천 색인을 다시 만들고, 그대로면 아무것도 하지 않는다.
+    public void refreshRecommendIndex() {
+        perfumeRecommendService.refreshIndex();
+    }
+
+    @Scheduled(cron = "${perfumism.search.index-rebuild-cron:0 10 * * * *}")
+    // 기본값은 매시 10분
+    // 카탈로그 동기화로 바뀐 향수, 브랜드, 어코드를 반영하도록 검색 색인을 새로 만든다.
+    public void rebuildSearchIndex() {
+        perfumeSearchService.rebuildIndex();
     }
 }
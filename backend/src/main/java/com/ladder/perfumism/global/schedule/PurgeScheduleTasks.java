@@ -0,0 +1,68 @@
+package com.ladder.perfumism.global.schedule;
+
+import com.ladder.perfumism.global.purge.BatchPurger;
+import com.ladder.perfumism.global.purge.PurgeStats;
+import com.ladder.perfumism.global.purge.PurgeTarget;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class PurgeScheduleTasks {
+
+    private final BatchPurger batchPurger;
+    private final Executor purgeExecutor;
+    private final List<PurgeTarget> targets;
+
+    public PurgeScheduleTasks(BatchPurger batchPurger, @Qualifier("purgeExecutor") Executor purgeExecutor,
+        @Value("${perfumism.purge.deleted-retention-days:30}") int deletedRetentionDays,
+        @Value("${perfumism.purge.notification.retention-days:100}") int notificationRetentionDays,
+        @Value("${perfumism.purge.notification.archive-table:}") String notificationArchiveTable) {
+        this.batchPurger = batchPurger;
+        this.purgeExecutor = purgeExecutor;
+        // 댓글을 참조하는 알림을 먼저 지워야 댓글을 지울 수 있다.
+        // 알림 조회 기간은 3개월이므로 그보다 조금 더 두었다가 지우거나 보관 테이블로 옮긴다.
+        this.targets = Arrays.asList(
+            PurgeTarget.softDeleted("notification", "notification_id", deletedRetentionDays),
+            PurgeTarget.expired("notification-expired", "notification", "notification_id", notificationRetentionDays)
+                .archiveTo(notificationArchiveTable),
+            PurgeTarget.softDeleted("comment", "comment_id", deletedRetentionDays)
+                .onlyWhen("not exists (select 1 from comment r where r.parent_id = comment.comment_id) "
+                    + "and not exists (select 1 from notification n where n.comment_id = comment.comment_id)"),
+            PurgeTarget.softDeleted("review_like", "review_like_id", deletedRetentionDays),
+            PurgeTarget.softDeleted("perfume_like", "perfume_like_id", deletedRetentionDays),
+            PurgeTarget.softDeleted("vote_member", "vote_member_id", deletedRetentionDays)
+        );
+    }
+
+    @Scheduled(cron = "${perfumism.purge.cron:0 0 4 * * *}")
+    // 기본값은 매일 4시
+    // 보존 기간이 지난 soft delete row 와 오래된 알림을 작은 batch 로 나눠 지운다.
+    // batch 사이에 쉬는 동안 다른 주기 작업이 밀리지 않도록 정리 전용 스레드에서 돌린다.
+    public void purgeExpiredRows() {
+        try {
+            purgeExecutor.execute(this::purgeAll);
+        } catch (TaskRejectedException e) {
+            log.warn("이전 보존 기간 정리가 아직 끝나지 않아 이번 정리는 건너뜁니다.");
+        }
+    }
+
+    private void purgeAll() {
+        for (PurgeTarget target : targets) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            PurgeStats stats = batchPurger.run(target);
+            if (stats.getBatches() > 0) {
+                log.info("보존 기간 정리 {}", stats);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ladder.perfumism.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 실행할 작업을 등록한다. 트랜잭션 밖에서 부르면 바로 실행한다.
+ * <p>
+ * 메모리에 들고 있는 캐시나 집계를 DB 와 맞출 때, 롤백된 변경이 반영되지 않도록 쓴다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
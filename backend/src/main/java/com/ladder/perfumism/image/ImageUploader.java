@@ -1,68 +1,140 @@
 package com.ladder.perfumism.image;
 
 import com.amazonaws.AmazonServiceException;
-import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Optional;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * S3 이미지 업로더.
+ * <p>
+ * 업로드 파일을 디스크에 옮기지 않고 multipart 스트림을 크기와 함께 바로 S3 로 보낸다. 객체 이름은 UUID 에 원본 확장자만 붙여
+ * 만들므로 클라이언트가 보낸 파일 이름끼리 겹치지 않는다. 여러 장은 크기가 정해진 업로드 전용 스레드 풀에서 함께 올리고, 하나라도
+ * 실패하면 이미 올린 것을 지운다.
+ */
+@Slf4j
 @Component
 public class ImageUploader {
 
-    private final AmazonS3Client amazonS3Client;
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
 
-    public ImageUploader(AmazonS3Client amazonS3Client) {
-        this.amazonS3Client = amazonS3Client;
-    }
+    private final AmazonS3 amazonS3;
+    private final Executor imageUploadExecutor;
+    private final String bucket;
+    private final long timeoutSeconds;
 
-    @Value("${cloud.aws.s3.bucket}")
-    public String bucket;
+    public ImageUploader(AmazonS3 amazonS3, @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+        @Value("${cloud.aws.s3.bucket}") String bucket,
+        @Value("${perfumism.image.upload-timeout-seconds:60}") long timeoutSeconds) {
+        this.amazonS3 = amazonS3;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.bucket = bucket;
+        this.timeoutSeconds = timeoutSeconds;
+    }
 
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        File uploadFile = convert(multipartFile)
-            .orElseThrow(() -> new BusinessException(ErrorCode.GLOBAL_ILLEGAL_ERROR));
-        return upload(uploadFile, dirName);
+        return amazonS3.getUrl(bucket, put(multipartFile, dirName)).toString();
     }
 
-    private String upload(File uploadFile, String dirName) {
-        String fileName = dirName + "/" + UUID.randomUUID() + uploadFile.getName();
-
-        String uploadImageUrl = putS3(uploadFile, fileName);
-        uploadFile.delete();
-        return uploadImageUrl;
-    }
+    // 받은 순서대로 URL 을 돌려준다.
+    public List<String> uploadAll(List<MultipartFile> multipartFiles, String dirName) {
+        List<CompletableFuture<String>> uploads = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            uploads.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return put(multipartFile, dirName);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, imageUploadExecutor));
+        }
 
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
-            .withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3Client.getUrl(bucket, fileName).toString();
-    }
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failAll(uploads, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw failAll(uploads, e);
+        }
 
-    private Optional<File> convert(MultipartFile file) throws IOException {
-        File convertFile = new File(System.getProperty("user.dir") + "/" + file.getOriginalFilename());
-        if (convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)){
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
+        List<String> urls = new ArrayList<>();
+        for (CompletableFuture<String> upload : uploads) {
+            urls.add(amazonS3.getUrl(bucket, upload.join()).toString());
         }
-        return Optional.empty();
+        return urls;
     }
 
     public void deleteFile(String fileName) {
         try {
-            amazonS3Client.deleteObject(bucket, fileName);
+            amazonS3.deleteObject(bucket, fileName);
         } catch (AmazonServiceException e) {
             throw new BusinessException(ErrorCode.GLOBAL_INTERNAL_SERVER_ERROR);
         }
     }
+
+    private String put(MultipartFile multipartFile, String dirName) throws IOException {
+        String key = dirName + "/" + UUID.randomUUID() + extension(multipartFile.getOriginalFilename());
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            amazonS3.putObject(new PutObjectRequest(bucket, key, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        }
+        return key;
+    }
+
+    // 실패한 묶음에서 이미 올라간 객체를 지운다. 아직 올리는 중인 것은 끝나는 대로 지운다.
+    private BusinessException failAll(List<CompletableFuture<String>> uploads, Exception cause) {
+        log.warn("이미지 업로드 실패 - {}장", uploads.size(), cause);
+        for (CompletableFuture<String> upload : uploads) {
+            upload.thenAccept(this::deleteQuietly);
+        }
+        return new BusinessException(ErrorCode.GLOBAL_ILLEGAL_ERROR);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (SdkClientException e) {
+            log.warn("업로드 취소한 이미지 삭제 실패 - {}", key, e);
+        }
+    }
+
+    private static String extension(String originalFilename) {
+        if (Objects.isNull(originalFilename)) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
 }
@@ -14,11 +14,14 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Where;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+// 대댓글 작성자처럼 여러 회원을 지연 로딩할 때는 in 절로 묶어서 한 번에 가져온다.
 @Entity
 @Getter
+@BatchSize(size = 100)
 @Where(clause = "deleted_at is null")
 public class Member extends BaseEntity {
 
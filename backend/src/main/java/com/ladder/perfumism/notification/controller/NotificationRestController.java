@@ -1,20 +1,32 @@
 package com.ladder.perfumism.notification.controller;
 
+import com.ladder.perfumism.global.cache.CacheStats;
 import com.ladder.perfumism.notification.controller.dto.response.NotificationCountResponse;
 import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationSliceResponse;
 import com.ladder.perfumism.notification.service.NotificationService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api")
@@ -41,6 +53,24 @@ public class NotificationRestController {
         return ResponseEntity.ok().body(notificationService.showUnreadNotifications(email));
     }
 
+    @GetMapping("/auth/notifications/slice")
+    @ApiOperation(value = "알림 목록 커서 조회", notes = "(로그인 필요) 최근 3개월 알림 목록을 최신순 커서 페이지로 조회하는 API\n"
+        + "첫 페이지는 cursor 없이, 이후에는 응답의 next_cursor 를 보냅니다.")
+    @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)")
+    })
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서"),
+        @ApiImplicitParam(name = "unread_only", value = "안읽은 알림만 조회", defaultValue = "false")
+    })
+    public ResponseEntity<NotificationSliceResponse> showNotificationSlice(
+        @ApiParam(hidden = true) @AuthenticationPrincipal String email,
+        @PageableDefault(size = 20, sort = "id", direction = Direction.DESC) Pageable pageable,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "unread_only", defaultValue = "false") boolean unreadOnly) {
+        return ResponseEntity.ok().body(notificationService.showNotificationSlice(email, cursor, pageable, unreadOnly));
+    }
+
     @GetMapping("/auth/notifications/count-unread")
     @ApiOperation(value = "안읽은 알림 개수 조회", notes = "(로그인 필요) 안읽은 알림 개수를 조회하는 API")
     public ResponseEntity<NotificationCountResponse> showUnreadCount(
@@ -48,6 +78,34 @@ public class NotificationRestController {
         return ResponseEntity.ok().body(notificationService.showUnreadCount(email));
     }
 
+    @GetMapping("/admin/notifications/unread-counter/stats")
+    @ApiOperation(value = "안읽은 알림 수 캐시 통계", notes = "(관리자 전용) 회원별 안읽은 알림 수 캐시의 적중/실패 횟수를 조회하는 API 입니다.")
+    public ResponseEntity<CacheStats> viewUnreadCounterStats() {
+        return ResponseEntity.ok().body(notificationService.getUnreadCounterStats());
+    }
+
+    @GetMapping(value = "/auth/notifications/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "알림 구독",
+        notes = "(로그인 필요) 새 알림(notification)과 안읽은 알림 개수(unread-count)를 SSE 로 받는 API\n"
+            + "다시 연결할 때 Last-Event-ID 를 보내면 그 이후의 알림을 먼저 보낸다.")
+    public ResponseEntity<SseEmitter> subscribe(@ApiParam(hidden = true) @AuthenticationPrincipal String email,
+        @ApiParam(value = "마지막으로 받은 알림 ID") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(notificationService.subscribe(email, lastEventId));
+    }
+
+    @PutMapping("/auth/notifications")
+    @ApiOperation(value = "알림 모두 확인 처리",
+        notes = "(로그인 필요) 최근 3개월의 안읽은 알림을 한 번에 확인 처리하는 API\n"
+            + "last_notification_id 를 보내면 그 알림까지만 확인 처리합니다.")
+    @ApiImplicitParam(name = "last_notification_id", value = "마지막으로 확인 처리할 알림 ID")
+    public ResponseEntity<Void> readAllNotifications(@ApiParam(hidden = true) @AuthenticationPrincipal String email,
+        @RequestParam(value = "last_notification_id", required = false) Long lastNotificationId) {
+        notificationService.readAllNotifications(email, lastNotificationId);
+        return ResponseEntity.noContent().build();
+    }
+
     @PutMapping("/auth/notifications/{notificationId}")
     @ApiOperation(value = "알림 확인 처리", notes = "(로그인 필요) 알림을 확인 처리하는 API")
     @ApiImplicitParam(name = "notificationId", value = "알림 ID", required = true)
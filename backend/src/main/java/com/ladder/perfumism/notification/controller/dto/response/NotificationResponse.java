@@ -3,6 +3,7 @@ package com.ladder.perfumism.notification.controller.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.notification.domain.Notification;
+import com.ladder.perfumism.notification.domain.NotificationItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.time.LocalDateTime;
 import lombok.Getter;
@@ -84,4 +85,30 @@ public class NotificationResponse {
             );
         }
     }
+
+    public static NotificationResponse from(NotificationItem notification) {
+        if (notification.getType().equals("comment")) {
+            return new NotificationResponse(
+                notification.getId(),
+                notification.getType(),
+                notification.getArticleId(),
+                notification.getArticleTitle(),
+                null,
+                null,
+                notification.getCreatedAt(),
+                notification.getReadAt()
+            );
+        } else {
+            return new NotificationResponse(
+                notification.getId(),
+                notification.getType(),
+                notification.getArticleId(),
+                null,
+                notification.getParentCommentId(),
+                notification.getParentCommentContent(),
+                notification.getCreatedAt(),
+                notification.getReadAt()
+            );
+        }
+    }
 }
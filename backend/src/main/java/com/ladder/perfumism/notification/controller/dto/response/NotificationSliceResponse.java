@@ -0,0 +1,47 @@
+package com.ladder.perfumism.notification.controller.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ladder.perfumism.notification.domain.NotificationItem;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+@Getter
+public class NotificationSliceResponse {
+
+    @JsonProperty("notifications")
+    @ApiModelProperty(position = 0, notes = "알림 목록")
+    private List<NotificationResponse> notifications;
+
+    @JsonProperty("has_next")
+    @ApiModelProperty(position = 1, notes = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 2, notes = "다음 페이지 커서 (마지막 페이지면 포함하지 않음)", example = "aWQsZGVzYwoxMgoxMg")
+    private String nextCursor;
+
+    public NotificationSliceResponse() {
+    }
+
+    public NotificationSliceResponse(List<NotificationResponse> notifications, boolean hasNext, String nextCursor) {
+        this.notifications = notifications;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static NotificationSliceResponse from(Slice<NotificationItem> notifications, String nextCursor) {
+        return new NotificationSliceResponse(
+            notifications.stream()
+                .map(NotificationResponse::from)
+                .collect(Collectors.toList()),
+            notifications.hasNext(),
+            nextCursor
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.ladder.perfumism.notification.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class NotificationBatchRepository {
+
+    // 댓글이면 글 작성자에게 comment, 답글이면 부모 댓글 작성자에게 reply 알림을 만든다.
+    private static final String INSERT_COMMENT_NOTIFICATIONS =
+        "insert into notification (member_id, type, comment_id, created_at) "
+            + "select case when c.parent_id is null then a.member_id else p.member_id end, "
+            + "case when c.parent_id is null then 'comment' else 'reply' end, c.comment_id, :createdAt "
+            + "from comment c "
+            + "join article a on a.article_id = c.article_id "
+            + "left join comment p on p.comment_id = c.parent_id "
+            + "where c.comment_id in (:commentIds) and c.deleted_at is null";
+
+    // 댓글마다 알림은 하나이므로 댓글 id 로 방금 만든 알림을 회원별로 센다.
+    private static final String COUNT_INSERTED_BY_MEMBER =
+        "select n.member_id, count(*) as unread_count from notification n "
+            + "where n.comment_id in (:commentIds) and n.read_at is null and n.deleted_at is null "
+            + "group by n.member_id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public NotificationBatchRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // 안읽은 알림 수 증감량을 같은 트랜잭션에 묶을 수 있도록 부르는 쪽이 연 트랜잭션 안에서만 쓴다.
+    // 같은 트랜잭션에서 만든 알림을 회원별로 세어 돌려준다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<UnreadNotificationCount> insertCommentNotifications(Collection<Long> commentIds, LocalDateTime createdAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("commentIds", commentIds)
+            .addValue("createdAt", createdAt);
+        namedParameterJdbcTemplate.update(INSERT_COMMENT_NOTIFICATIONS, params);
+        return namedParameterJdbcTemplate.query(COUNT_INSERTED_BY_MEMBER, params, (rs, rowNum) ->
+            new UnreadNotificationCount(rs.getLong("member_id"), createdAt.toLocalDate(), rs.getInt("unread_count")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.ladder.perfumism.notification.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationCountRepository {
+
+    private static final String UNREAD = "n.read_at is null and n.deleted_at is null";
+
+    private static final String COUNT_UNREAD_BY_DAY =
+        "select date(n.created_at) as day, count(*) as unread_count from notification n "
+            + "where n.member_id = :memberId and n.created_at >= :since and " + UNREAD + " "
+            + "group by date(n.created_at)";
+
+    private static final String COUNT_UNREAD =
+        "select count(*) from notification n "
+            + "where n.member_id = :memberId and n.created_at >= :from and n.created_at < :to and " + UNREAD;
+
+    // 아래 쿼리들은 NotificationRepository 의 deleteAllBy*, readAllByMemberAndIdLessThanEqual 과 같은 조건으로
+    // 지워지거나 확인 처리될 안읽은 알림을 센다. 세는 사이에 다른 확인 처리가 끼어들지 않도록 row 를 잠근다.
+    private static final String LOCK_UNREAD_BY_MEMBER_AND_DAY =
+        "select n.member_id, date(n.created_at) as day, count(*) as unread_count from notification n where ";
+
+    private static final String GROUP_AND_LOCK = " and " + UNREAD + " group by n.member_id, date(n.created_at) for update";
+
+    private static final String LOCK_UNREAD_BY_ARTICLE = LOCK_UNREAD_BY_MEMBER_AND_DAY
+        + "n.comment_id in (select comment_id from comment c where c.article_id = :id)" + GROUP_AND_LOCK;
+
+    private static final String LOCK_UNREAD_BY_COMMENT = LOCK_UNREAD_BY_MEMBER_AND_DAY
+        + "(n.comment_id in (select comment_id from comment c where c.parent_id = :id and c.deleted_at is null) "
+        + "or n.comment_id = :id)" + GROUP_AND_LOCK;
+
+    private static final String LOCK_UNREAD_BY_REPLY = LOCK_UNREAD_BY_MEMBER_AND_DAY
+        + "n.comment_id = :id" + GROUP_AND_LOCK;
+
+    private static final String LOCK_UNREAD_BY_MEMBER = LOCK_UNREAD_BY_MEMBER_AND_DAY
+        + "n.member_id = :memberId and n.created_at >= :start and n.notification_id <= :id" + GROUP_AND_LOCK;
+
+    private static final RowMapper<UnreadNotificationCount> UNREAD_COUNT_MAPPER = (rs, rowNum) ->
+        new UnreadNotificationCount(rs.getLong("member_id"), rs.getDate("day").toLocalDate(), rs.getInt("unread_count"));
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public NotificationCountRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    public Map<LocalDate, Integer> countUnreadByDay(Long memberId, LocalDateTime since) {
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        namedParameterJdbcTemplate.query(COUNT_UNREAD_BY_DAY, new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("since", since),
+            rs -> {
+                counts.put(rs.getDate("day").toLocalDate(), rs.getInt("unread_count"));
+            });
+        return counts;
+    }
+
+    // from 이상 to 미만에 만든 안읽은 알림 수
+    public int countUnread(Long memberId, LocalDateTime from, LocalDateTime to) {
+        Integer count = namedParameterJdbcTemplate.queryForObject(COUNT_UNREAD, new MapSqlParameterSource()
+            .addValue("memberId", memberId)
+            .addValue("from", from)
+            .addValue("to", to), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    public List<UnreadNotificationCount> lockUnreadByArticle(Long articleId) {
+        return namedParameterJdbcTemplate.query(LOCK_UNREAD_BY_ARTICLE,
+            new MapSqlParameterSource("id", articleId), UNREAD_COUNT_MAPPER);
+    }
+
+    public List<UnreadNotificationCount> lockUnreadByComment(Long commentId) {
+        return namedParameterJdbcTemplate.query(LOCK_UNREAD_BY_COMMENT,
+            new MapSqlParameterSource("id", commentId), UNREAD_COUNT_MAPPER);
+    }
+
+    // NotificationRepository.readAllByMemberAndIdLessThanEqual 로 확인 처리될 알림을 센다.
+    public List<UnreadNotificationCount> lockUnreadByMember(Long memberId, LocalDateTime start, Long lastNotificationId) {
+        return namedParameterJdbcTemplate.query(LOCK_UNREAD_BY_MEMBER, new MapSqlParameterSource()
+            .addValue("memberId", memberId)
+            .addValue("start", start)
+            .addValue("id", lastNotificationId), UNREAD_COUNT_MAPPER);
+    }
+
+    public List<UnreadNotificationCount> lockUnreadByReply(Long replyId) {
+        return namedParameterJdbcTemplate.query(LOCK_UNREAD_BY_REPLY,
+            new MapSqlParameterSource("id", replyId), UNREAD_COUNT_MAPPER);
+    }
+}
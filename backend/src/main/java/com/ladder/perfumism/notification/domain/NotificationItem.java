@@ -0,0 +1,28 @@
+package com.ladder.perfumism.notification.domain;
+
+import java.time.LocalDateTime;
+
+public interface NotificationItem {
+
+    Long getId();
+
+    Long getMemberId();
+
+    String getMemberEmail();
+
+    String getType();
+
+    Long getArticleId();
+
+    String getArticleTitle();
+
+    Long getCommentId();
+
+    Long getParentCommentId();
+
+    String getParentCommentContent();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getReadAt();
+}
@@ -2,7 +2,10 @@ package com.ladder.perfumism.notification.domain;
 
 import com.ladder.perfumism.member.domain.Member;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,11 +13,47 @@ import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findAllByMemberAndCreatedAtBetweenOrderByCreatedAtDesc(Member member, LocalDateTime start, LocalDateTime end);
+    // 알림 응답에 필요한 컬럼만 글, 댓글, 부모 댓글과 함께 조회한다.
+    String ITEM_SELECT = "select n.id as id, m.id as memberId, m.email as memberEmail, n.type as type, "
+        + "a.id as articleId, a.title as articleTitle, c.id as commentId, "
+        + "p.id as parentCommentId, p.content as parentCommentContent, n.createdAt as createdAt, n.readAt as readAt "
+        + "from Notification n join n.member m join n.comment c join c.article a left join c.parentId p ";
 
-    List<Notification> findAllByMemberAndCreatedAtBetweenAndReadAtIsNullOrderByCreatedAtDesc(Member member, LocalDateTime start, LocalDateTime end);
+    @Query(value = ITEM_SELECT + "where c.id in (:commentIds) order by n.id asc")
+    List<NotificationItem> findItemsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
 
-    int countAllByMemberAndCreatedAtBetweenAndReadAtIsNull(Member member, LocalDateTime start, LocalDateTime end);
+    @Query(value = ITEM_SELECT + "where n.member = :member and n.id > :id and n.createdAt >= :start order by n.id asc")
+    List<NotificationItem> findItemsByMemberAndIdGreaterThan(@Param("member") Member member, @Param("id") Long id,
+        @Param("start") LocalDateTime start);
+
+    @Query(value = ITEM_SELECT + "where n.member = :member and n.createdAt between :start and :end order by n.createdAt desc")
+    List<NotificationItem> findItemsByMember(@Param("member") Member member, @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end);
+
+    @Query(value = ITEM_SELECT + "where n.member = :member and n.createdAt between :start and :end and n.readAt is null "
+        + "order by n.createdAt desc")
+    List<NotificationItem> findUnreadItemsByMember(@Param("member") Member member, @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end);
+
+    @Query(value = ITEM_SELECT + "where n.member = :member and n.createdAt >= :start and n.id < :id order by n.id desc")
+    Slice<NotificationItem> findItemsByMemberAndIdLessThan(@Param("member") Member member,
+        @Param("start") LocalDateTime start, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = ITEM_SELECT + "where n.member = :member and n.createdAt >= :start and n.id < :id and n.readAt is null "
+        + "order by n.id desc")
+    Slice<NotificationItem> findUnreadItemsByMemberAndIdLessThan(@Param("member") Member member,
+        @Param("start") LocalDateTime start, @Param("id") Long id, Pageable pageable);
+
+    // 이미 확인한 알림이면 0 을 돌려주므로, 동시에 확인해도 안읽은 알림 수는 한 번만 줄어든다.
+    @Modifying
+    @Query(value = "update Notification n set n.readAt = :readAt where n.id = :id and n.readAt is null and n.deletedAt is null")
+    int readById(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query(value = "update Notification n set n.readAt = :readAt where n.member = :member and n.createdAt >= :start "
+        + "and n.id <= :id and n.readAt is null and n.deletedAt is null")
+    int readAllByMemberAndIdLessThanEqual(@Param("member") Member member, @Param("start") LocalDateTime start,
+        @Param("id") Long id, @Param("readAt") LocalDateTime readAt);
 
     @Modifying
     @Query(nativeQuery = true, value = "update notification n set n.deleted_at = current_timestamp where n.comment_id in (select comment_id from comment c where c.article_id = (:id)) and n.deleted_at is null")
@@ -0,0 +1,19 @@
+package com.ladder.perfumism.notification.domain;
+
+import java.time.LocalDate;
+import lombok.Getter;
+
+// 회원별, 만든 날짜별 안읽은 알림 수
+@Getter
+public class UnreadNotificationCount {
+
+    private final Long memberId;
+    private final LocalDate day;
+    private final int count;
+
+    public UnreadNotificationCount(Long memberId, LocalDate day, int count) {
+        this.memberId = memberId;
+        this.day = day;
+        this.count = count;
+    }
+}
@@ -0,0 +1,148 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import com.ladder.perfumism.notification.controller.dto.response.NotificationCountResponse;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 알림 SSE 연결 저장소.
+ * <p>
+ * 회원 이메일마다 열린 연결(탭)과 회원 id 를 들고 있다. 연결할 때와 새 알림, 확인 처리가 있을 때 안읽은 알림 개수를
+ * {@link UnreadNotificationCounter} 에서 읽어 보내므로, 조회 API 와 같은 개수를 보낸다.
+ */
+@Slf4j
+@Component
+public class NotificationEmitters {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final ConcurrentMap<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final long timeoutMillis;
+
+    public NotificationEmitters(UnreadNotificationCounter unreadNotificationCounter,
+        @Value("${perfumism.notification.sse.timeout-ms:1800000}") long timeoutMillis) {
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe(String email, Long memberId, List<NotificationResponse> missed) {
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        emitter.onCompletion(() -> remove(email, emitter));
+        emitter.onTimeout(() -> remove(email, emitter));
+        emitter.onError(e -> remove(email, emitter));
+
+        subscriptions.compute(email, (key, current) -> {
+            Subscription next = current == null ? new Subscription(memberId) : current;
+            next.emitters.add(emitter);
+            return next;
+        });
+
+        // 연결 직후 아무것도 보내지 않으면 첫 응답이 시간 제한까지 미뤄지므로 개수를 바로 보낸다.
+        for (NotificationResponse notification : missed) {
+            send(email, emitter, notificationEvent(notification));
+        }
+        send(email, emitter, unreadCountEvent(unreadNotificationCounter.count(memberId)));
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public boolean isSubscribed(String email) {
+        return subscriptions.containsKey(email);
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    public void push(String email, NotificationResponse notification) {
+        Subscription subscription = subscriptions.get(email);
+        if (subscription == null) {
+            return;
+        }
+        int unreadCount = unreadNotificationCounter.count(subscription.memberId);
+        broadcast(email, subscription, () -> notificationEvent(notification));
+        broadcast(email, subscription, () -> unreadCountEvent(unreadCount));
+    }
+
+    // 확인 처리가 커밋되어 안읽은 알림 수에 반영된 뒤에 부른다.
+    public void read(String email) {
+        Subscription subscription = subscriptions.get(email);
+        if (subscription == null) {
+            return;
+        }
+        int unreadCount = unreadNotificationCounter.count(subscription.memberId);
+        broadcast(email, subscription, () -> unreadCountEvent(unreadCount));
+    }
+
+    // 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주석 한 줄을 보내고, 이미 끊긴 연결은 정리한다.
+    public void heartbeat() {
+        subscriptions.forEach((email, subscription) ->
+            broadcast(email, subscription, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // SseEventBuilder 는 한 번만 만들 수 있어 연결마다 새로 만든다.
+    private void broadcast(String email, Subscription subscription, Supplier<SseEventBuilder> event) {
+        for (SseEmitter emitter : subscription.emitters) {
+            send(email, emitter, event.get());
+        }
+    }
+
+    private void send(String email, SseEmitter emitter, SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("알림 SSE 전송 실패 - {}", email, e);
+            remove(email, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String email, SseEmitter emitter) {
+        subscriptions.computeIfPresent(email, (key, subscription) -> {
+            subscription.emitters.remove(emitter);
+            return subscription.emitters.isEmpty() ? null : subscription;
+        });
+    }
+
+    private SseEventBuilder notificationEvent(NotificationResponse notification) {
+        return SseEmitter.event()
+            .id(String.valueOf(notification.getId()))
+            .name(NOTIFICATION_EVENT)
+            .data(notification);
+    }
+
+    private SseEventBuilder unreadCountEvent(int unreadCount) {
+        return SseEmitter.event()
+            .name(UNREAD_COUNT_EVENT)
+            .data(NotificationCountResponse.from(unreadCount));
+    }
+
+    private static class Subscription {
+
+        private final Long memberId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        Subscription(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+}
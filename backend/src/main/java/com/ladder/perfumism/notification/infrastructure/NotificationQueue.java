@@ -0,0 +1,189 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import com.ladder.perfumism.comment.domain.CommentCreatedEvent;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import com.ladder.perfumism.notification.domain.NotificationBatchRepository;
+import com.ladder.perfumism.notification.domain.NotificationItem;
+import com.ladder.perfumism.notification.domain.NotificationRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 알림 쓰기 큐.
+ * <p>
+ * 댓글 트랜잭션이 커밋된 뒤에 댓글 id 만 크기가 정해진 큐에 넣고, 주기적으로 batchSize 개씩 꺼내 insert ... select 한 번으로
+ * 알림을 만든다. 한 글에 답글이 몰려도 알림 쓰기는 묶음당 쿼리 하나이고, 알림 쓰기가 실패해도 댓글은 이미 커밋되어 있다. 큐가
+ * 가득 차면 그 댓글의 알림은 요청 스레드에서 바로 쓴다. 종료할 때 남은 알림을 쓴다. 댓글 트랜잭션이 끝난 뒤에도 불리므로
+ * 알림은 항상 새 트랜잭션으로 쓰고, 안읽은 알림 수 증감량도 그 트랜잭션에 묶어 커밋된 뒤에 반영한다.
+ * <p>
+ * 묶음 쓰기가 실패하면 그 댓글들을 큐에 다시 넣고, 다음 반영 때는 한 건씩 써서 문제가 되는 댓글만 걸러낸다. 한 댓글이
+ * maxAttempts 번 실패하면 그 알림은 버린다.
+ * <p>
+ * 알림을 쓴 뒤 SSE 로 연결된 회원이 있으면 방금 만든 알림을 한 번에 조회해 그 회원에게 보낸다.
+ */
+@Slf4j
+@Component
+public class NotificationQueue {
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationEmitters notificationEmitters;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Long> commentIds;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // 저장에 실패한 댓글 id 별 실패 횟수. flush 안에서만 다룬다.
+    private final Map<Long, Integer> failures = new HashMap<>();
+
+    public NotificationQueue(NotificationBatchRepository notificationBatchRepository,
+        NotificationRepository notificationRepository, NotificationEmitters notificationEmitters,
+        UnreadNotificationCounter unreadNotificationCounter, PlatformTransactionManager transactionManager,
+        @Value("${perfumism.notification.queue-capacity:10000}") int queueCapacity,
+        @Value("${perfumism.notification.batch-size:500}") int batchSize,
+        @Value("${perfumism.notification.max-attempts:3}") int maxAttempts) {
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationEmitters = notificationEmitters;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.commentIds = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        if (commentIds.offer(event.getCommentId())) {
+            return;
+        }
+        try {
+            write(Collections.singleton(event.getCommentId()));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("댓글 알림 저장 실패 - 댓글 {}", event.getCommentId(), e);
+        }
+    }
+
+    public int pending() {
+        return commentIds.size();
+    }
+
+    @PreDestroy
+    public synchronized void flush() {
+        while (true) {
+            List<Long> drained = new ArrayList<>(batchSize);
+            commentIds.drainTo(drained, batchSize);
+            if (drained.isEmpty()) {
+                return;
+            }
+            Set<Long> batch = new LinkedHashSet<>(drained);
+            List<Long> retries = new ArrayList<>();
+            for (Long commentId : drained) {
+                if (failures.containsKey(commentId) && batch.remove(commentId)) {
+                    retries.add(commentId);
+                }
+            }
+            // 실패하면 이번 반영은 여기서 멈추고 다음 반영 때 이어서 시도한다. 시도하지 못한 댓글은 실패로 세지 않는다.
+            if (!writeBatch(batch)) {
+                retries.forEach(this::requeue);
+                return;
+            }
+            if (!writeEach(retries)) {
+                return;
+            }
+        }
+    }
+
+    private boolean writeBatch(Set<Long> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        try {
+            write(batch);
+            return true;
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("댓글 알림 저장 실패 - {}건, 다음 반영 때 한 건씩 다시 시도합니다.", batch.size(), e);
+            batch.forEach(this::fail);
+            return false;
+        }
+    }
+
+    // 한 건이라도 실패하면 남은 댓글을 먼저 큐에 다시 넣고, 실패한 댓글은 그 뒤에 넣는다.
+    private boolean writeEach(List<Long> retries) {
+        for (int i = 0; i < retries.size(); i++) {
+            Long commentId = retries.get(i);
+            try {
+                write(Collections.singleton(commentId));
+                failures.remove(commentId);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("댓글 알림 저장 실패 - 댓글 {}", commentId, e);
+                retries.subList(i + 1, retries.size()).forEach(this::requeue);
+                fail(commentId);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void fail(Long commentId) {
+        int attempts = failures.merge(commentId, 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            failures.remove(commentId);
+            log.error("댓글 알림 저장 포기 - 댓글 {}, {}번 실패", commentId, attempts);
+            return;
+        }
+        requeue(commentId);
+    }
+
+    // 큐 뒤에 다시 넣는다. 자리가 없으면 버린다.
+    private void requeue(Long commentId) {
+        if (!commentIds.offer(commentId)) {
+            failures.remove(commentId);
+            log.warn("댓글 알림 버림 - 댓글 {}, 큐에 자리가 없습니다.", commentId);
+        }
+    }
+
+    private void write(Set<Long> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+            notificationBatchRepository.insertCommentNotifications(batch, LocalDateTime.now())
+                .forEach(count -> unreadNotificationCounter.add(count.getMemberId(), count.getDay(), count.getCount())));
+        push(batch);
+    }
+
+    // 전송 실패로 저장을 다시 시도하지 않도록 여기서 예외를 삼킨다.
+    private void push(Set<Long> batch) {
+        if (!notificationEmitters.hasSubscribers()) {
+            return;
+        }
+        try {
+            for (NotificationItem item : notificationRepository.findItemsByCommentIdIn(batch)) {
+                if (notificationEmitters.isSubscribed(item.getMemberEmail())) {
+                    notificationEmitters.push(item.getMemberEmail(), NotificationResponse.from(item));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 SSE 전송 실패 - {}건", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import com.ladder.perfumism.global.cache.CacheStats;
+import com.ladder.perfumism.notification.domain.NotificationCountRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 안읽은 알림 수.
+ * <p>
+ * 회원마다 최근 3개월의 안읽은 알림 수를 만든 날짜별로 나눠 들고 있다. 날이 바뀌면 기간을 벗어난 날짜의 수를 버리고, 기간의
+ * 시작 시각이 걸친 날짜만 DB 에서 다시 센다. 처음 조회할 때 DB 에서 날짜별로 세어 채우고, 이후에는 알림을 만들고 확인하고 지울
+ * 때마다 바뀐 row 수만큼 더하고 뺀다.
+ * <p>
+ * 증감량은 트랜잭션이 커밋된 뒤에 반영한다. 그래서 DB 에서 세는 동안 알림 쓰기가 커밋되면 그 쓰기가 센 결과에 들어갔는지 알 수
+ * 없으므로, 세는 동안 같은 회원 구간(stripe)의 쓰기가 진행 중이었거나 끝났으면 센 값을 돌려주기만 하고 담아 두지 않는다.
+ * 다른 회원의 쓰기는 센 값을 담아 두는 데 영향을 주지 않는다.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private static final long WINDOW_MONTHS = 3;
+    private static final int STRIPES = 1024;
+
+    private final NotificationCountRepository notificationCountRepository;
+    private final int maxSize;
+    private final Supplier<LocalDateTime> clock;
+    private final ConcurrentHashMap<Long, MemberCount> counts = new ConcurrentHashMap<>();
+
+    private final AtomicIntegerArray writesInFlight = new AtomicIntegerArray(STRIPES);
+    private final AtomicLongArray writeVersions = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Autowired
+    public UnreadNotificationCounter(NotificationCountRepository notificationCountRepository,
+        @Value("${perfumism.notification.unread-counter.max-size:100000}") int maxSize) {
+        this(notificationCountRepository, maxSize, LocalDateTime::now);
+    }
+
+    UnreadNotificationCounter(NotificationCountRepository notificationCountRepository, int maxSize,
+        Supplier<LocalDateTime> clock) {
+        this.notificationCountRepository = notificationCountRepository;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public int count(Long memberId) {
+        LocalDateTime start = clock.get().minusMonths(WINDOW_MONTHS);
+        LocalDate startDay = start.toLocalDate();
+
+        MemberCount count = counts.get(memberId);
+        if (Objects.isNull(count)) {
+            misses.increment();
+            count = load(memberId, startDay);
+        } else {
+            hits.increment();
+        }
+
+        int unread = count.countAfter(startDay);
+        if (count.get(startDay) > 0) {
+            // 시작 시각이 걸친 날짜는 일부만 기간에 들어가므로 그날 것만 DB 에서 센다.
+            unread += notificationCountRepository.countUnread(memberId, start, startDay.plusDays(1).atStartOfDay());
+        }
+        return Math.max(unread, 0);
+    }
+
+    /**
+     * 안읽은 알림 수를 delta 만큼 바꾼다. 알림을 바꾼 트랜잭션 안에서 불러야 하며, 커밋된 뒤에 반영하고 롤백되면 버린다. 커밋
+     * 뒤에 할 일을 이 다음에 등록하면 바뀐 수를 읽을 수 있다. 트랜잭션 밖에서 부르면 바로 반영한다.
+     */
+    public void add(Long memberId, LocalDate day, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(memberId, day, delta);
+            return;
+        }
+        int stripe = stripe(memberId);
+        writesInFlight.incrementAndGet(stripe);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(memberId, day, delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                writeVersions.incrementAndGet(stripe);
+                writesInFlight.decrementAndGet(stripe);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return new CacheStats("unread-notification", counts.size(), maxSize, hits.sum(), misses.sum(), 0,
+            expirations.sum());
+    }
+
+    private MemberCount load(Long memberId, LocalDate startDay) {
+        int stripe = stripe(memberId);
+        boolean quiet = writesInFlight.get(stripe) == 0;
+        long version = writeVersions.get(stripe);
+        MemberCount loaded = new MemberCount(startDay,
+            notificationCountRepository.countUnreadByDay(memberId, startDay.atStartOfDay()));
+        if (!quiet || version != writeVersions.get(stripe) || writesInFlight.get(stripe) != 0
+            || counts.size() >= maxSize) {
+            return loaded;
+        }
+        MemberCount current = counts.putIfAbsent(memberId, loaded);
+        return Objects.isNull(current) ? loaded : current;
+    }
+
+    private static int stripe(Long memberId) {
+        return (int) (memberId & (STRIPES - 1));
+    }
+
+    private void apply(Long memberId, LocalDate day, int delta) {
+        MemberCount count = counts.get(memberId);
+        if (Objects.nonNull(count)) {
+            count.add(day, delta);
+        }
+    }
+
+    private class MemberCount {
+
+        private final TreeMap<LocalDate, Integer> days;
+        private LocalDate firstDay;
+
+        MemberCount(LocalDate firstDay, Map<LocalDate, Integer> days) {
+            this.firstDay = firstDay;
+            this.days = new TreeMap<>(days);
+        }
+
+        synchronized void add(LocalDate day, int delta) {
+            // 이미 버린 날짜의 증감량은 버린다.
+            if (day.isBefore(firstDay)) {
+                return;
+            }
+            days.merge(day, delta, (current, added) -> current + added == 0 ? null : current + added);
+        }
+
+        synchronized int get(LocalDate day) {
+            return days.getOrDefault(day, 0);
+        }
+
+        // startDay 이전 날짜를 버리고, startDay 다음 날부터의 합을 돌려준다.
+        synchronized int countAfter(LocalDate startDay) {
+            if (startDay.isAfter(firstDay)) {
+                Map<LocalDate, Integer> expired = days.headMap(startDay);
+                expirations.add(expired.size());
+                expired.clear();
+                firstDay = startDay;
+            }
+            int sum = 0;
+            for (int count : days.tailMap(startDay, false).values()) {
+                sum += count;
+            }
+            return sum;
+        }
+    }
+}
@@ -1,50 +1,51 @@
 package com.ladder.perfumism.notification.service;
 
-import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.global.cache.CacheStats;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.global.pagination.Cursor;
+import com.ladder.perfumism.global.transaction.AfterCommit;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
 import com.ladder.perfumism.notification.controller.dto.response.NotificationCountResponse;
 import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationSliceResponse;
 import com.ladder.perfumism.notification.domain.Notification;
+import com.ladder.perfumism.notification.domain.NotificationCountRepository;
+import com.ladder.perfumism.notification.domain.NotificationItem;
 import com.ladder.perfumism.notification.domain.NotificationRepository;
+import com.ladder.perfumism.notification.domain.UnreadNotificationCount;
+import com.ladder.perfumism.notification.infrastructure.NotificationEmitters;
+import com.ladder.perfumism.notification.infrastructure.UnreadNotificationCounter;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final MemberService memberService;
+    private final NotificationCountRepository notificationCountRepository;
+    private final NotificationEmitters notificationEmitters;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     public NotificationService(NotificationRepository notificationRepository,
-        MemberService memberService) {
+        MemberService memberService, NotificationCountRepository notificationCountRepository,
+        NotificationEmitters notificationEmitters, UnreadNotificationCounter unreadNotificationCounter) {
         this.notificationRepository = notificationRepository;
         this.memberService = memberService;
-    }
-
-    @Transactional
-    public void createCommentNotification(Comment comment) {
-        Notification notification = Notification.builder()
-            .member(comment.getArticle().getMember())
-            .type("comment")
-            .comment(comment)
-            .build();
-        notificationRepository.save(notification);
-    }
-
-    @Transactional
-    public void createReplyNotification(Comment reply) {
-        Notification notification = Notification.builder()
-            .member(reply.getParentId().getMember())
-            .type("reply")
-            .comment(reply)
-            .build();
-        notificationRepository.save(notification);
+        this.notificationCountRepository = notificationCountRepository;
+        this.notificationEmitters = notificationEmitters;
+        this.unreadNotificationCounter = unreadNotificationCounter;
     }
 
     @Transactional(readOnly = true)
@@ -52,7 +53,7 @@ public class NotificationService {
         Member member = memberService.findByEmail(email);
         LocalDateTime start = LocalDateTime.now().minusMonths(3);
         LocalDateTime end = LocalDateTime.now();
-        List<Notification> notifications = notificationRepository.findAllByMemberAndCreatedAtBetweenOrderByCreatedAtDesc(member, start, end);
+        List<NotificationItem> notifications = notificationRepository.findItemsByMember(member, start, end);
         return notifications.stream()
             .map(NotificationResponse::from)
             .collect(Collectors.toList());
@@ -63,19 +64,51 @@ public class NotificationService {
         Member member = memberService.findByEmail(email);
         LocalDateTime start = LocalDateTime.now().minusMonths(3);
         LocalDateTime end = LocalDateTime.now();
-        List<Notification> notifications = notificationRepository.findAllByMemberAndCreatedAtBetweenAndReadAtIsNullOrderByCreatedAtDesc(member, start, end);
+        List<NotificationItem> notifications = notificationRepository.findUnreadItemsByMember(member, start, end);
         return notifications.stream()
             .map(NotificationResponse::from)
             .collect(Collectors.toList());
     }
 
+    // 최신순 커서 페이지. unreadOnly 면 안읽은 알림만 조회한다.
+    @Transactional(readOnly = true)
+    public NotificationSliceResponse showNotificationSlice(String email, String cursor, Pageable pageable,
+        boolean unreadOnly) {
+        Member member = memberService.findByEmail(email);
+        LocalDateTime start = LocalDateTime.now().minusMonths(3);
+        Long lastId = Cursor.isFirstPage(cursor) ? Long.MAX_VALUE : Cursor.decode(cursor, Cursor.SORT_ID_DESC).getId();
+        Pageable limit = PageRequest.of(0, pageable.getPageSize());
+
+        Slice<NotificationItem> notifications = unreadOnly
+            ? notificationRepository.findUnreadItemsByMemberAndIdLessThan(member, start, lastId, limit)
+            : notificationRepository.findItemsByMemberAndIdLessThan(member, start, lastId, limit);
+        return NotificationSliceResponse.from(notifications,
+            Cursor.nextCursor(notifications, notification -> Cursor.ofId(Cursor.SORT_ID_DESC, notification.getId())));
+    }
+
     @Transactional(readOnly = true)
     public NotificationCountResponse showUnreadCount(String email) {
+        Member member = memberService.findByEmail(email);
+        return NotificationCountResponse.from(unreadNotificationCounter.count(member.getId()));
+    }
+
+    public CacheStats getUnreadCounterStats() {
+        return unreadNotificationCounter.stats();
+    }
+
+    // 끊긴 동안 놓친 알림은 Last-Event-ID 이후부터 다시 보낸다.
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(String email, String lastEventId) {
         Member member = memberService.findByEmail(email);
         LocalDateTime start = LocalDateTime.now().minusMonths(3);
-        LocalDateTime end = LocalDateTime.now();
-        int unreadCount = notificationRepository.countAllByMemberAndCreatedAtBetweenAndReadAtIsNull(member, start, end);
-        return NotificationCountResponse.from(unreadCount);
+        List<NotificationResponse> missed = Collections.emptyList();
+        Long lastNotificationId = parseEventId(lastEventId);
+        if (lastNotificationId != null) {
+            missed = notificationRepository.findItemsByMemberAndIdGreaterThan(member, lastNotificationId, start).stream()
+                .map(NotificationResponse::from)
+                .collect(Collectors.toList());
+        }
+        return notificationEmitters.subscribe(email, member.getId(), missed);
     }
 
     @Transactional
@@ -83,21 +116,64 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND_BY_ID));
         notification.checkNotificationByEmail(email);
-        notification.changeReadAt();
+        if (notificationRepository.readById(notificationId, LocalDateTime.now()) > 0) {
+            unreadNotificationCounter.add(notification.getMember().getId(), notification.getCreatedAt().toLocalDate(), -1);
+            AfterCommit.run(() -> notificationEmitters.read(email));
+        }
+    }
+
+    // 최근 3개월의 안읽은 알림을 쿼리 한 번으로 확인 처리한다. lastNotificationId 가 있으면 그 알림까지만 처리한다.
+    @Transactional
+    public void readAllNotifications(String email, Long lastNotificationId) {
+        Member member = memberService.findByEmail(email);
+        LocalDateTime start = LocalDateTime.now().minusMonths(3);
+        Long lastId = Objects.isNull(lastNotificationId) ? Long.MAX_VALUE : lastNotificationId;
+
+        List<UnreadNotificationCount> unreadCounts =
+            notificationCountRepository.lockUnreadByMember(member.getId(), start, lastId);
+        int readCount = notificationRepository.readAllByMemberAndIdLessThanEqual(member, start, lastId,
+            LocalDateTime.now());
+        subtractUnread(unreadCounts);
+        if (readCount > 0) {
+            AfterCommit.run(() -> notificationEmitters.read(email));
+        }
     }
 
+    // 지울 알림 중 안읽은 것을 먼저 잠그고 세어, 지운 만큼 안읽은 알림 수에서 뺀다.
     @Transactional
     public void deleteAllByArticle(Long articleId) {
+        List<UnreadNotificationCount> unreadCounts = notificationCountRepository.lockUnreadByArticle(articleId);
         notificationRepository.deleteAllByArticle(articleId);
+        subtractUnread(unreadCounts);
     }
 
     @Transactional
     public void deleteAllByComment(Long commentId) {
+        List<UnreadNotificationCount> unreadCounts = notificationCountRepository.lockUnreadByComment(commentId);
         notificationRepository.deleteAllByComment(commentId);
+        subtractUnread(unreadCounts);
     }
 
     @Transactional
     public void deleteAllByReply(Long replyId) {
+        List<UnreadNotificationCount> unreadCounts = notificationCountRepository.lockUnreadByReply(replyId);
         notificationRepository.deleteAllByReply(replyId);
+        subtractUnread(unreadCounts);
+    }
+
+    private void subtractUnread(List<UnreadNotificationCount> unreadCounts) {
+        unreadCounts.forEach(unread ->
+            unreadNotificationCounter.add(unread.getMemberId(), unread.getDay(), -unread.getCount()));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
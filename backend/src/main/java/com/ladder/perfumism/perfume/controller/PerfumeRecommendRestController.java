@@ -0,0 +1,42 @@
+package com.ladder.perfumism.perfume.controller;
+
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeRecommendResponse;
+import com.ladder.perfumism.perfume.service.PerfumeRecommendService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+@Api(tags = {"향수 추천"})
+public class PerfumeRecommendRestController {
+
+    private final PerfumeRecommendService perfumeRecommendService;
+
+    public PerfumeRecommendRestController(PerfumeRecommendService perfumeRecommendService) {
+        this.perfumeRecommendService = perfumeRecommendService;
+    }
+
+    @GetMapping("/auth/perfumes/recommend/likes")
+    @ApiOperation(value = "좋아요 기반 향수 추천", notes = "<b>(로그인 필요)</b> 내가 좋아요한 향수들의 어코드로 취향을 계산해 "
+        + "비슷한 향수를 추천하는 API 입니다.\n좋아요한 향수는 추천에서 제외됩니다. (size 최대 30)")
+    @ApiResponses({
+        @ApiResponse(code = 404, message = "NOT_FOUND\n로그인한 회원이 불분명할 때(C01)\n좋아요한 향수가 없을 때(S05)"),
+        @ApiResponse(code = 503, message = "SERVICE_UNAVAILABLE\n추천 색인을 준비하고 있을 때(S06)")
+    })
+    @ApiImplicitParam(name = "size", value = "추천 향수 개수 (기본값 3)")
+    public ResponseEntity<PerfumeRecommendResponse> recommendByLikes(
+        @ApiParam(hidden = true) @AuthenticationPrincipal String email,
+        @RequestParam(value = "size", defaultValue = "3") int size) {
+        return ResponseEntity.ok().body(perfumeRecommendService.recommendByLikes(email, size));
+    }
+}
@@ -1,5 +1,6 @@
 package com.ladder.perfumism.perfume.controller;
 
+import com.ladder.perfumism.global.cache.CacheStats;
 import com.ladder.perfumism.perfume.controller.dto.response.BrandListResponse;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeDetailResponse;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeListResponse;
@@ -16,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -39,10 +41,26 @@ public class PerfumeRestController {
         return ResponseEntity.ok().body(perfumeService.viewDetailPerfume(perfumeId));
     }
 
+    @GetMapping("/admin/perfumes/detail-cache/stats")
+    @ApiOperation(value = "향수 상세 정보 캐시 통계", notes = "(관리자 전용) 향수 상세 정보 캐시의 적중/실패 횟수를 조회하는 API 입니다.")
+    public ResponseEntity<CacheStats> viewDetailCacheStats() {
+        return ResponseEntity.ok().body(perfumeService.getDetailCacheStats());
+    }
+
     @GetMapping("/perfumes")
     @ApiOperation(value = "향수 목록", notes = "향수 목록 API 입니다.\n"
-        + "(가능한 sort column: id, name, totalSurvey, totalLike... etc)")
-    public ResponseEntity<PerfumeListResponse> viewPerfumeList(Pageable pageable) {
+        + "(가능한 sort column: id, name, totalSurvey, totalLike... etc)\n"
+        + "cursor 파라미터를 보내면 커서 페이지로 조회합니다. (첫 페이지는 빈 값, 이후에는 응답의 next_cursor)\n"
+        + "커서 페이지에서 가능한 sort: id,asc(기본값) / id,desc / totalLike,desc")
+    @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)\n커서 페이지에서 지원하지 않는 정렬일 때(Z04)")
+    })
+    @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서 (커서 페이지 조회 시)")
+    public ResponseEntity<PerfumeListResponse> viewPerfumeList(Pageable pageable,
+        @RequestParam(value = "cursor", required = false) String cursor) {
+        if (cursor != null) {
+            return ResponseEntity.ok().body(perfumeService.getPerfumeSlice(cursor, pageable));
+        }
         return ResponseEntity.ok().body(perfumeService.getPerfumeList(pageable));
     }
 
@@ -53,15 +71,25 @@ public class PerfumeRestController {
     }
 
     @GetMapping("/perfumes/monthly/forced-refresh")
-    @ApiOperation(value = "이달의 향수 목록 강제 새로 고침", notes = "이달의 향수 목록을 강제로 새로고침하는 API 입니다.")
+    @ApiOperation(value = "인기 향수 순위 강제 새로 고침", notes = "일간/주간/월간 인기 향수 순위를 강제로 새로고침하는 API 입니다.\n"
+        + "순위는 평소에도 주기적으로(기본 1분) 새로고침 됩니다.")
     public ResponseEntity<Void> forcedRefreshMonthlyPerfumeList() {
-        perfumeService.refreshingMonthlyPerfumeList();
+        perfumeService.refreshTrendingPerfumeList();
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/perfumes/monthly")
-    @ApiOperation(value = "이달의 향수 목록", notes = "이달의 향수 목록 API 입니다.")
+    @ApiOperation(value = "이달의 향수 목록", notes = "이달의 향수 목록 API 입니다.\n최근 30일 동안 좋아요를 많이 받은 향수 순입니다.")
     public ResponseEntity<List<PerfumeSimpleResponse>> viewMonthlyPerfumeList() {
         return ResponseEntity.ok().body(perfumeService.getMonthlyPerfumeList());
     }
+
+    @GetMapping("/perfumes/trending")
+    @ApiOperation(value = "기간별 인기 향수 목록", notes = "기간별 인기 향수 목록 API 입니다.\n"
+        + "period: daily(최근 24시간), weekly(최근 7일), monthly(최근 30일)\n"
+        + "기간 동안 좋아요를 많이 받은 향수 순입니다.")
+    public ResponseEntity<List<PerfumeSimpleResponse>> viewTrendingPerfumeList(
+        @RequestParam(value = "period", defaultValue = "monthly") String period) {
+        return ResponseEntity.ok().body(perfumeService.getTrendingPerfumeList(period));
+    }
 }
\ No newline at end of file
@@ -49,7 +49,8 @@ public class PerfumeSearchRestController {
 
     @GetMapping("/perfumes/search-all")
     @ApiOperation(value = "항수 통합 검색", notes = "향수 통합 검색 API 입니다.\n"
-        + "이 검색 API는 향수명, 브랜드명, 어코드 모두 검색합니다.")
+        + "이 검색 API는 향수명, 브랜드명, 어코드 모두 검색합니다.\n"
+        + "정렬 조건이 없으면 관련도(완전 일치 > 접두사 일치 > 부분 일치)와 인기도(설문 수, 좋아요 수) 순으로 정렬됩니다.")
     @ApiResponses({
         @ApiResponse(code = 400, message = "BAD_REQUEST\n검색어가 2글자 미만일 때(T01)")
     })
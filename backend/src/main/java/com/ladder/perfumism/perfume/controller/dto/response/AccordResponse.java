@@ -1,6 +1,7 @@
 package com.ladder.perfumism.perfume.controller.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ladder.perfumism.perfume.domain.Accord;
 import com.ladder.perfumism.perfume.domain.PerfumeAccord;
 import io.swagger.annotations.ApiModelProperty;
 
@@ -27,6 +28,14 @@ public class AccordResponse {
         this.engName = engName;
     }
 
+    public static AccordResponse from(Accord accord) {
+        return new AccordResponse(
+            accord.getId(),
+            accord.getKorName(),
+            accord.getEngName()
+        );
+    }
+
     public static AccordResponse from(PerfumeAccord perfumeAccord) {
         return new AccordResponse(
             perfumeAccord.getAccordId().getId(),
@@ -3,7 +3,6 @@ package com.ladder.perfumism.perfume.controller.dto.response;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeAccord;
-import com.ladder.perfumism.perfume.domain.SimilarPerfume;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -96,8 +95,13 @@ public class PerfumeDetailResponse {
         this.likes = likes;
     }
 
+    public PerfumeDetailResponse withCounts(Integer likes, Double averageGrade, Long totalSurvey) {
+        return new PerfumeDetailResponse(id, name, brand, image, launchYear, averageGrade, topNotes, middleNotes,
+            baseNotes, totalSurvey, longevity, sillage, accordResponse, similarPerfumeResponse, likes);
+    }
+
     public static PerfumeDetailResponse from(Perfume perfume, List<PerfumeAccord> perfumeAccords,
-        List<SimilarPerfume> similarPerfumes) {
+        List<SimilarPerfumeResponse> similarPerfumes) {
         return new PerfumeDetailResponse(
             perfume.getId(),
             perfume.getName(),
@@ -114,9 +118,7 @@ public class PerfumeDetailResponse {
             perfumeAccords.stream()
                 .map(AccordResponse::from)
                 .collect(Collectors.toList()),
-            similarPerfumes.stream()
-                .map(SimilarPerfumeResponse::from)
-                .collect(Collectors.toList()),
+            similarPerfumes,
             perfume.getTotalLike()
         );
     }
@@ -1,14 +1,17 @@
 package com.ladder.perfumism.perfume.controller.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.perfume.domain.Perfume;
-import com.ladder.perfumism.perfume.domain.PerfumeLike;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 public class PerfumeListResponse {
@@ -25,6 +28,16 @@ public class PerfumeListResponse {
     @ApiModelProperty(position = 2, notes = "현재 페이지", example = "0")
     private int currentPageCount;
 
+    @JsonProperty("has_next")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 3, notes = "다음 페이지 존재 여부 (커서 페이지 조회 시에만 포함)", example = "true")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 4, notes = "다음 페이지 커서 (커서 페이지 조회 시에만 포함)", example = "aWQsYXNjCjIwCjIw")
+    private String nextCursor;
+
     public PerfumeListResponse() {
     }
 
@@ -35,7 +48,7 @@ public class PerfumeListResponse {
         this.currentPageCount = currentPageCount;
     }
 
-    public static PerfumeListResponse fromLikes(Page<PerfumeLike> perfumes) {
+    public static PerfumeListResponse from(Page<Perfume> perfumes) {
         return new PerfumeListResponse(
             perfumes.stream()
                 .map(PerfumeSimpleResponse::from)
@@ -45,7 +58,7 @@ public class PerfumeListResponse {
         );
     }
 
-    public static PerfumeListResponse from(Page<Perfume> perfumes) {
+    public static PerfumeListResponse fromItems(Page<PerfumeListItem> perfumes) {
         return new PerfumeListResponse(
             perfumes.stream()
                 .map(PerfumeSimpleResponse::from)
@@ -55,6 +68,19 @@ public class PerfumeListResponse {
         );
     }
 
+    public static PerfumeListResponse fromSlice(Slice<PerfumeListItem> perfumes, String nextCursor) {
+        PerfumeListResponse response = new PerfumeListResponse(
+            perfumes.stream()
+                .map(PerfumeSimpleResponse::from)
+                .collect(Collectors.toList()),
+            0,
+            0
+        );
+        response.hasNext = perfumes.hasNext();
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
     public static PerfumeListResponse createEmptyList() {
         return new PerfumeListResponse(new ArrayList<>(), 0, 0);
     }
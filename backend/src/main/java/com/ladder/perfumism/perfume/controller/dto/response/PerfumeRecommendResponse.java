@@ -0,0 +1,40 @@
+package com.ladder.perfumism.perfume.controller.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ladder.perfumism.perfume.domain.Accord;
+import com.ladder.perfumism.perfume.domain.Perfume;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+@Getter
+public class PerfumeRecommendResponse {
+
+    @JsonProperty("accords")
+    @ApiModelProperty(position = 0, notes = "좋아요한 향수에서 비중이 큰 어코드")
+    private List<AccordResponse> accords;
+
+    @JsonProperty("perfume_list")
+    @ApiModelProperty(position = 1, notes = "추천 향수 목록")
+    private List<PerfumeSimpleResponse> perfumeList;
+
+    public PerfumeRecommendResponse() {
+    }
+
+    public PerfumeRecommendResponse(List<AccordResponse> accords, List<PerfumeSimpleResponse> perfumeList) {
+        this.accords = accords;
+        this.perfumeList = perfumeList;
+    }
+
+    public static PerfumeRecommendResponse from(List<Accord> accords, List<Perfume> perfumes) {
+        return new PerfumeRecommendResponse(
+            accords.stream()
+                .map(AccordResponse::from)
+                .collect(Collectors.toList()),
+            perfumes.stream()
+                .map(PerfumeSimpleResponse::from)
+                .collect(Collectors.toList())
+        );
+    }
+}
@@ -2,8 +2,7 @@ package com.ladder.perfumism.perfume.controller.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.perfume.domain.Perfume;
-import com.ladder.perfumism.perfume.domain.PerfumeLike;
-import com.ladder.perfumism.perfume.domain.PerfumeMonthly;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 
@@ -47,17 +46,6 @@ public class PerfumeSimpleResponse {
         this.likes = likes;
     }
 
-    public static PerfumeSimpleResponse from(PerfumeLike perfumeLike) {
-        return new PerfumeSimpleResponse(
-            perfumeLike.getPerfumeId().getId(),
-            perfumeLike.getPerfumeId().getName(),
-            BrandResponse.from(perfumeLike.getPerfumeId().getBrandId()),
-            perfumeLike.getPerfumeId().getImage(),
-            perfumeLike.getPerfumeId().getAverageGrade(),
-            perfumeLike.getPerfumeId().getTotalLike()
-        );
-    }
-
     public static PerfumeSimpleResponse from(Perfume perfume) {
         return new PerfumeSimpleResponse(
             perfume.getId(),
@@ -69,14 +57,15 @@ public class PerfumeSimpleResponse {
         );
     }
 
-    public static PerfumeSimpleResponse from(PerfumeMonthly perfumeMonthly) {
+    public static PerfumeSimpleResponse from(PerfumeListItem perfume) {
         return new PerfumeSimpleResponse(
-            perfumeMonthly.getPerfumeId().getId(),
-            perfumeMonthly.getPerfumeId().getName(),
-            BrandResponse.from(perfumeMonthly.getPerfumeId().getBrandId()),
-            perfumeMonthly.getPerfumeId().getImage(),
-            perfumeMonthly.getPerfumeId().getAverageGrade(),
-            perfumeMonthly.getPerfumeId().getTotalLike()
+            perfume.getId(),
+            perfume.getName(),
+            new BrandResponse(perfume.getBrandId(), perfume.getBrandName()),
+            perfume.getImage(),
+            perfume.getAverageGrade(),
+            perfume.getTotalLike()
         );
     }
+
 }
@@ -1,6 +1,7 @@
 package com.ladder.perfumism.perfume.controller.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.SimilarPerfume;
 import io.swagger.annotations.ApiModelProperty;
 
@@ -40,4 +41,13 @@ public class SimilarPerfumeResponse {
             similarPerfume.getSimilarId().getImage()
         );
     }
+
+    public static SimilarPerfumeResponse from(Perfume perfume) {
+        return new SimilarPerfumeResponse(
+            perfume.getId(),
+            perfume.getName(),
+            perfume.getBrandId().getName(),
+            perfume.getImage()
+        );
+    }
 }
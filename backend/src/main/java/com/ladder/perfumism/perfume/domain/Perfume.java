@@ -9,9 +9,11 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
+@DynamicUpdate
 public class Perfume {
 
     @Id
@@ -56,6 +58,13 @@ public class Perfume {
     @Column(name = "total_like")
     private Integer totalLike;
 
+    // 앱에서 작성된 리뷰 중 평점(1~5)이 있는 리뷰의 평점 합과 개수. averageGrade 는 이 둘로 계산된다.
+    @Column(name = "grade_sum")
+    private Long gradeSum;
+
+    @Column(name = "grade_count")
+    private Long gradeCount;
+
     public Perfume() {
     }
 
@@ -77,20 +86,4 @@ public class Perfume {
         this.sillage = sillage;
         this.totalLike = totalLike;
     }
-
-    public void increaseTotalSurvey() {
-        this.totalSurvey++;
-    }
-
-    public void decreaseTotalSurvey() {
-        this.totalSurvey--;
-    }
-
-    public void saveGrade(Double avgGrade) {
-        this.averageGrade = avgGrade;
-    }
-
-    public void saveLike(Integer totalLike) {
-        this.totalLike = totalLike;
-    }
 }
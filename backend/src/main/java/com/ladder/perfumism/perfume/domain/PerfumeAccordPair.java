@@ -0,0 +1,8 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeAccordPair {
+
+    Long getPerfumeId();
+
+    Long getAccordId();
+}
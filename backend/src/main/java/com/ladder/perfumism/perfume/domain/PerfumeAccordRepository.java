@@ -2,8 +2,12 @@ package com.ladder.perfumism.perfume.domain;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PerfumeAccordRepository extends JpaRepository<PerfumeAccord, Long> {
 
     List<PerfumeAccord> findByPerfumeId(Perfume perfume);
+
+    @Query(value = "select pa.perfumeId.id as perfumeId, pa.accordId.id as accordId from PerfumeAccord pa")
+    List<PerfumeAccordPair> findAllPairs();
 }
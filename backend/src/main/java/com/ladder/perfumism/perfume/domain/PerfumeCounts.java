@@ -0,0 +1,10 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeCounts {
+
+    Integer getTotalLike();
+
+    Double getAverageGrade();
+
+    Long getTotalSurvey();
+}
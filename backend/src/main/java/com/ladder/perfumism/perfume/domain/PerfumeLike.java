@@ -10,12 +10,15 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import org.hibernate.annotations.Where;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_perfume_like_member_perfume", columnNames = {"member_id", "perfume_id"}))
 @Where(clause = "deleted_at is null")
 public class PerfumeLike extends BaseEntity {
 
@@ -0,0 +1,11 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeLikeHourlyCount {
+
+    Long getPerfumeId();
+
+    // yyyy-MM-dd HH
+    String getHour();
+
+    Long getLikeCount();
+}
@@ -1,10 +1,15 @@
 package com.ladder.perfumism.perfume.domain;
 
 import com.ladder.perfumism.member.domain.Member;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PerfumeLikeRepository extends JpaRepository<PerfumeLike, Long> {
 
@@ -14,5 +19,43 @@ public interface PerfumeLikeRepository extends JpaRepository<PerfumeLike, Long>
 
     Optional<PerfumeLike> findByPerfumeIdAndMemberId(Perfume perfume, Member member);
 
-    Page<PerfumeLike> findByMemberId(Member member, Pageable pageable);
+    @Query(value = "select pl.createdAt from PerfumeLike pl where pl.memberId = :member and pl.perfumeId = :perfume")
+    Optional<LocalDateTime> findCreatedAtByMemberIdAndPerfumeId(@Param("member") Member member,
+        @Param("perfume") Perfume perfume);
+
+    // 정렬 기준(id)은 좋아요 id 이므로 select 절의 향수 id 와 별개로 pl 기준으로 정렬된다.
+    @Query(value = "select p.id as id, p.name as name, b.id as brandId, b.name as brandName, "
+        + "p.image as image, p.averageGrade as averageGrade, p.totalLike as totalLike "
+        + "from PerfumeLike pl join pl.perfumeId p left join p.brandId b "
+        + "where pl.memberId = :member",
+        countQuery = "select count(pl) from PerfumeLike pl where pl.memberId = :member")
+    Page<PerfumeListItem> findListItemsByMemberId(@Param("member") Member member, Pageable pageable);
+
+    @Query(value = "select pl.perfumeId.id from PerfumeLike pl where pl.memberId.id = :memberId")
+    List<Long> findPerfumeIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query(nativeQuery = true, value = "select pl.perfume_id as perfumeId, "
+        + "date_format(pl.created_at, '%Y-%m-%d %H') as hour, count(*) as likeCount "
+        + "from perfume_like pl "
+        + "where pl.deleted_at is null "
+        + "and pl.created_at >= :since "
+        + "group by pl.perfume_id, date_format(pl.created_at, '%Y-%m-%d %H')")
+    List<PerfumeLikeHourlyCount> countHourlySince(@Param("since") LocalDateTime since);
+
+    // (member_id, perfume_id) 는 unique 이므로 예전에 취소한 좋아요가 있으면 그 row 를 되살린다.
+    @Modifying
+    @Query(nativeQuery = true, value = "update perfume_like pl "
+        + "set pl.deleted_at = null, pl.created_at = current_timestamp, pl.updated_at = current_timestamp "
+        + "where pl.member_id = :memberId "
+        + "and pl.perfume_id = :perfumeId "
+        + "and pl.deleted_at is not null")
+    Integer restoreByMemberIdAndPerfumeId(@Param("memberId") Long memberId, @Param("perfumeId") Long perfumeId);
+
+    @Modifying
+    @Query(value = "update PerfumeLike pl "
+        + "set pl.deletedAt = current_timestamp "
+        + "where pl.memberId = :member "
+        + "and pl.perfumeId = :perfume "
+        + "and pl.deletedAt is null")
+    Integer updateDeletedAtByMemberIdAndPerfumeId(@Param("member") Member member, @Param("perfume") Perfume perfume);
 }
@@ -0,0 +1,18 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeListItem {
+
+    Long getId();
+
+    String getName();
+
+    Long getBrandId();
+
+    String getBrandName();
+
+    String getImage();
+
+    Double getAverageGrade();
+
+    Integer getTotalLike();
+}
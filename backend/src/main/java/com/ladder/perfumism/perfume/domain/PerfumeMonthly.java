@@ -1,39 +0,0 @@
-package com.ladder.perfumism.perfume.domain;
-
-import com.ladder.perfumism.global.domain.BaseEntity;
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.ManyToOne;
-import lombok.Getter;
-import org.hibernate.annotations.Where;
-
-@Entity
-@Getter
-@Where(clause = "deleted_at is null")
-public class PerfumeMonthly extends BaseEntity {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "perfume_monthly_id")
-    private Long id;
-
-    @ManyToOne(targetEntity = Perfume.class, fetch = FetchType.LAZY)
-    @JoinColumn(name = "perfume_id")
-    private Perfume perfumeId;
-
-    @Column(name = "like_count")
-    private Long likeCount;
-
-    public PerfumeMonthly() {
-    }
-
-    public PerfumeMonthly(Perfume perfumeId, Long likeCount) {
-        this.perfumeId = perfumeId;
-        this.likeCount = likeCount;
-    }
-}
@@ -0,0 +1,14 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeNotes {
+
+    Long getId();
+
+    String getTopNotes();
+
+    String getMiddleNotes();
+
+    String getBaseNotes();
+
+    Long getTotalSurvey();
+}
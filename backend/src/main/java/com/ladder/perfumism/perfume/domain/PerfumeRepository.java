@@ -1,27 +1,121 @@
 package com.ladder.perfumism.perfume.domain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface PerfumeRepository extends JpaRepository<Perfume, Long> {
 
+    // 검색 목록은 브랜드를 같은 쿼리에서 함께 가져온다. count 쿼리는 따로 나간다.
+    @EntityGraph(attributePaths = "brandId")
     Page<Perfume> findByNameContainsIgnoreCase(String keyword, Pageable pageable);
 
+    @EntityGraph(attributePaths = "brandId")
     @Query(value = "select p from Perfume p where p.brandId in (:brands)")
     Page<Perfume> findByBrandId(@Param("brands") List<Brand> brands, Pageable pageable);
 
+    @EntityGraph(attributePaths = "brandId")
     @Query(value = "select p from Perfume p where p.id in "
         + "(select a.perfumeId from PerfumeAccord a where a.accordId = :accordId)")
     Page<Perfume> findByAccordId(Accord accordId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "brandId")
     @Query(value = "select p from Perfume p "
         + "where lower(p.name) like lower(concat('%', :keyword, '%')) "
         + "or p.id in (select pa.perfumeId from PerfumeAccord pa where pa.accordId = ("
         + "select a from Accord a where lower(a.engName) = lower(:keyword) or a.korName = :keyword)) "
         + "or p.brandId in (select b.id from Brand b where lower(b.name) like lower(concat(:keyword,'%')))")
     Page<Perfume> searchAll(@Param("keyword") String Keyword, Pageable pageable);
+
+    @Query(value = "select p.id as id, p.name as name, b.id as brandId, "
+        + "p.totalSurvey as totalSurvey, p.totalLike as totalLike "
+        + "from Perfume p left join p.brandId b")
+    List<PerfumeSummary> findAllSummaries();
+
+    @Query(value = "select p.id as id, p.topNotes as topNotes, p.middleNotes as middleNotes, "
+        + "p.baseNotes as baseNotes, p.totalSurvey as totalSurvey from Perfume p")
+    List<PerfumeNotes> findAllNotes();
+
+    @Query(value = "select p.totalLike as totalLike, p.averageGrade as averageGrade, p.totalSurvey as totalSurvey "
+        + "from Perfume p where p.id = :id")
+    Optional<PerfumeCounts> findCountsById(@Param("id") Long id);
+
+    @Query(value = "select p from Perfume p left join fetch p.brandId where p.id in (:ids)")
+    List<Perfume> findWithBrandByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "brandId")
+    Page<Perfume> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    @Modifying
+    @Query(value = "update Perfume p "
+        + "set p.totalLike = coalesce(p.totalLike, 0) + :delta "
+        + "where p.id = :id")
+    Integer addTotalLike(@Param("id") Long id, @Param("delta") Integer delta);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "update perfume p "
+        + "left join (select pl.perfume_id, count(*) as like_count from perfume_like pl "
+        + "where pl.deleted_at is null group by pl.perfume_id) l on l.perfume_id = p.perfume_id "
+        + "set p.total_like = coalesce(l.like_count, 0) "
+        + "where p.total_like is null or p.total_like <> coalesce(l.like_count, 0)")
+    Integer reconcileTotalLike();
+
+    // average_grade 를 먼저 대입해야 MySQL 에서도 갱신 전의 grade_sum, grade_count 로 계산된다.
+    // JPQL update 의 set 절은 case 안의 산술식을 파싱하지 못해서 native 쿼리로 작성한다.
+    @Modifying
+    @Query(nativeQuery = true, value = "update perfume "
+        + "set average_grade = case when coalesce(grade_count, 0) + :countDelta > 0 "
+        + "then (coalesce(grade_sum, 0) + :sumDelta) / (coalesce(grade_count, 0) + :countDelta) "
+        + "else 0 end, "
+        + "grade_sum = coalesce(grade_sum, 0) + :sumDelta, "
+        + "grade_count = coalesce(grade_count, 0) + :countDelta, "
+        + "total_survey = coalesce(total_survey, 0) + :surveyDelta "
+        + "where perfume_id = :id")
+    Integer addReviewStats(@Param("id") Long id, @Param("surveyDelta") Long surveyDelta,
+        @Param("sumDelta") Long sumDelta, @Param("countDelta") Long countDelta);
+
+    // 리뷰 테이블 기준으로 grade_sum, grade_count 가 어긋난 향수만 다시 맞춘다. 평점이 있는 리뷰가 없으면 addReviewStats 와
+    // 같이 평점을 0 으로 둔다. 앱 리뷰가 한 번도 없던 향수는 어긋나지 않았으므로 건드리지 않는다.
+    @Modifying
+    @Query(nativeQuery = true, value = "update perfume p "
+        + "left join (select r.perfume_id, sum(r.grade) as grade_sum, count(*) as grade_count from review r "
+        + "where r.deleted_at is null and r.grade > 0 group by r.perfume_id) g on g.perfume_id = p.perfume_id "
+        + "set p.average_grade = case when coalesce(g.grade_count, 0) > 0 "
+        + "then g.grade_sum / g.grade_count else 0 end, "
+        + "p.grade_sum = coalesce(g.grade_sum, 0), "
+        + "p.grade_count = coalesce(g.grade_count, 0) "
+        + "where coalesce(p.grade_sum, 0) <> coalesce(g.grade_sum, 0) "
+        + "or coalesce(p.grade_count, 0) <> coalesce(g.grade_count, 0) "
+        + "or (g.grade_count > 0 and abs(p.average_grade - g.grade_sum / g.grade_count) > 0.000001)")
+    Integer reconcileGrade();
+
+    // 목록 응답에 필요한 컬럼만 조회한다. 엔티티를 만들지 않으므로 영속성 컨텍스트와 변경 감지를 거치지 않는다.
+    String LIST_ITEM_SELECT = "select p.id as id, p.name as name, b.id as brandId, b.name as brandName, "
+        + "p.image as image, p.averageGrade as averageGrade, p.totalLike as totalLike "
+        + "from Perfume p left join p.brandId b ";
+
+    @Query(value = LIST_ITEM_SELECT, countQuery = "select count(p) from Perfume p")
+    Page<PerfumeListItem> findListItems(Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "where p.id > :id order by p.id asc")
+    Slice<PerfumeListItem> findListItemsByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(value = LIST_ITEM_SELECT + "where p.id < :id order by p.id desc")
+    Slice<PerfumeListItem> findListItemsByIdLessThan(@Param("id") Long id, Pageable pageable);
+
+    // total_like 가 null 인 향수는 0 으로 보고 정렬한다. idx_perfume_total_like 가 같은 식으로 만들어져 있어야 색인을 탄다.
+    @Query(value = LIST_ITEM_SELECT
+        + "where coalesce(p.totalLike, 0) < :totalLike "
+        + "or (coalesce(p.totalLike, 0) = :totalLike and p.id > :id) "
+        + "order by coalesce(p.totalLike, 0) desc, p.id asc")
+    Slice<PerfumeListItem> findNextListItemsByTotalLike(@Param("totalLike") Integer totalLike, @Param("id") Long id,
+        Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.ladder.perfumism.perfume.domain;
+
+public interface PerfumeSummary {
+
+    Long getId();
+
+    String getName();
+
+    Long getBrandId();
+
+    Long getTotalSurvey();
+
+    Integer getTotalLike();
+}
@@ -0,0 +1,485 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 정규화된 벡터에 대한 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 그래프.
+ * <p>
+ * 벡터, 층(level), 이웃 목록을 모두 원시 배열에 담는다. 거리는 1 - 내적(코사인 거리)이다. 만든 그래프는 파일에 그대로 써 두고, 다음
+ * 기동 때 메모리 매핑으로 읽어 다시 만들지 않는다.
+ */
+class HnswIndex {
+
+    private static final int MAGIC = 0x50484E53;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 8 + Long.BYTES;
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final long[] ids;
+    private final float[] vectors;
+    private final int[] levels;
+    // 0층 이웃. 노드마다 [이웃 수, 이웃...] 을 maxM0 + 1 칸씩 쓴다.
+    private final int[] links0;
+    // 1층 이상 이웃. 노드마다 층별로 [이웃 수, 이웃...] 을 m + 1 칸씩 쓴다.
+    private final int[][] upperLinks;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    private HnswIndex(int dimension, int m, long[] ids, float[] vectors, int[] levels) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.ids = ids;
+        this.vectors = vectors;
+        this.levels = levels;
+        this.links0 = new int[ids.length * (maxM0 + 1)];
+        this.upperLinks = new int[ids.length][];
+    }
+
+    /**
+     * vectors 는 노드 순서대로 dimension 개씩 이어 붙인 L2 정규화 벡터다. 같은 입력과 seed 면 같은 그래프가 만들어진다.
+     */
+    static HnswIndex build(long[] ids, float[] vectors, int dimension, int m, int efConstruction, long seed) {
+        Random random = new Random(seed);
+        double levelMultiplier = 1 / Math.log(m);
+        int[] levels = new int[ids.length];
+        for (int node = 0; node < ids.length; node++) {
+            levels[node] = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        }
+
+        HnswIndex index = new HnswIndex(dimension, m, ids, vectors, levels);
+        Searcher searcher = index.new Searcher();
+        for (int node = 0; node < ids.length; node++) {
+            index.insert(node, efConstruction, searcher);
+        }
+        return index;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    long idOf(int node) {
+        return ids[node];
+    }
+
+    void addVector(int node, float[] target) {
+        for (int d = 0; d < dimension; d++) {
+            target[d] += vectors[node * dimension + d];
+        }
+    }
+
+    /**
+     * query 와 가까운 순서로 최대 k 개의 id 를 돌려준다. exclude 에 든 id 는 건너뛴다.
+     */
+    List<Long> search(float[] query, int k, int ef, Collection<Long> exclude) {
+        if (entryPoint < 0 || k <= 0) {
+            return new ArrayList<>();
+        }
+        Searcher searcher = new Searcher();
+        int current = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            current = searcher.greedy(query, current, level);
+        }
+        NodeHeap results = searcher.searchLayer(query, current, Math.max(ef, k + exclude.size()), 0);
+
+        int[] nodes = results.drainAscending();
+        List<Long> found = new ArrayList<>(k);
+        for (int node : nodes) {
+            if (!exclude.contains(ids[node])) {
+                found.add(ids[node]);
+                if (found.size() == k) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private void insert(int node, int efConstruction, Searcher searcher) {
+        int level = levels[node];
+        if (level > 0) {
+            upperLinks[node] = new int[level * (m + 1)];
+        }
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        float[] query = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = searcher.greedy(query, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            int[] candidates = searcher.searchLayer(query, current, efConstruction, l).drainAscending();
+            int[] selected = selectNeighbours(node, candidates, m);
+            setLinks(node, l, selected, selected.length);
+            for (int neighbour : selected) {
+                connect(neighbour, node, l);
+            }
+            current = candidates[0];
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    private void connect(int node, int neighbour, int level) {
+        int capacity = level == 0 ? maxM0 : m;
+        int[] links = linksOf(node, level);
+        int offset = offsetOf(node, level);
+        int count = links[offset];
+        if (count < capacity) {
+            links[offset + 1 + count] = neighbour;
+            links[offset] = count + 1;
+            return;
+        }
+
+        // 자리가 없으면 기존 이웃과 새 이웃을 합쳐 다시 고른다.
+        int[] candidates = Arrays.copyOfRange(links, offset + 1, offset + 1 + count + 1);
+        candidates[count] = neighbour;
+        sortByDistance(node, candidates);
+        int[] selected = selectNeighbours(node, candidates, capacity);
+        setLinks(node, level, selected, selected.length);
+    }
+
+    // 후보는 base 와 가까운 순서여야 한다. 이미 고른 이웃보다 base 에 더 가까운 후보만 남겨 그래프가 한쪽으로 몰리지 않게 한다.
+    private int[] selectNeighbours(int base, int[] candidates, int limit) {
+        int[] selected = new int[Math.min(limit, candidates.length)];
+        int count = 0;
+        for (int candidate : candidates) {
+            if (count == selected.length) {
+                break;
+            }
+            float distance = distance(base, candidate);
+            boolean diverse = true;
+            for (int k = 0; k < count; k++) {
+                if (distance(selected[k], candidate) < distance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private void sortByDistance(int base, int[] nodes) {
+        float[] distances = new float[nodes.length];
+        for (int k = 0; k < nodes.length; k++) {
+            distances[k] = distance(base, nodes[k]);
+        }
+        for (int i = 1; i < nodes.length; i++) {
+            int node = nodes[i];
+            float distance = distances[i];
+            int j = i - 1;
+            while (j >= 0 && distances[j] > distance) {
+                nodes[j + 1] = nodes[j];
+                distances[j + 1] = distances[j];
+                j--;
+            }
+            nodes[j + 1] = node;
+            distances[j + 1] = distance;
+        }
+    }
+
+    private void setLinks(int node, int level, int[] neighbours, int count) {
+        int[] links = linksOf(node, level);
+        int offset = offsetOf(node, level);
+        links[offset] = count;
+        System.arraycopy(neighbours, 0, links, offset + 1, count);
+    }
+
+    private int[] linksOf(int node, int level) {
+        return level == 0 ? links0 : upperLinks[node];
+    }
+
+    private int offsetOf(int node, int level) {
+        return level == 0 ? node * (maxM0 + 1) : (level - 1) * (m + 1);
+    }
+
+    private float distance(int a, int b) {
+        float dot = 0;
+        int offsetA = a * dimension;
+        int offsetB = b * dimension;
+        for (int d = 0; d < dimension; d++) {
+            dot += vectors[offsetA + d] * vectors[offsetB + d];
+        }
+        return 1 - dot;
+    }
+
+    private float distance(float[] query, int node) {
+        float dot = 0;
+        int offset = node * dimension;
+        for (int d = 0; d < dimension; d++) {
+            dot += query[d] * vectors[offset + d];
+        }
+        return 1 - dot;
+    }
+
+    void write(Path path, long fingerprint) throws IOException {
+        long upperInts = 0;
+        for (int level : levels) {
+            upperInts += (long) level * (m + 1);
+        }
+        long bytes = HEADER_BYTES + (long) ids.length * (Long.BYTES + Integer.BYTES)
+            + (long) vectors.length * Float.BYTES + (long) links0.length * Integer.BYTES + upperInts * Integer.BYTES;
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, bytes);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(fingerprint)
+                .putInt(dimension).putInt(m).putInt(ids.length).putInt(entryPoint).putInt(maxLevel).putInt(0);
+            buffer.asLongBuffer().put(ids);
+            buffer.position(buffer.position() + ids.length * Long.BYTES);
+            putInts(buffer, levels);
+            buffer.asFloatBuffer().put(vectors);
+            buffer.position(buffer.position() + vectors.length * Float.BYTES);
+            putInts(buffer, links0);
+            for (int[] links : upperLinks) {
+                if (links != null) {
+                    putInts(buffer, links);
+                }
+            }
+            buffer.force();
+        }
+        // 읽는 쪽이 반쯤 쓴 파일을 보지 않도록 다 쓴 뒤에 바꿔 끼운다.
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일이 없거나 형식, fingerprint 가 다르면 null 을 돌려준다.
+     */
+    static HnswIndex read(Path path, long fingerprint) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) < HEADER_BYTES) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != fingerprint) {
+                return null;
+            }
+            int dimension = buffer.getInt();
+            int m = buffer.getInt();
+            int size = buffer.getInt();
+            int entryPoint = buffer.getInt();
+            int maxLevel = buffer.getInt();
+            buffer.getInt();
+
+            long[] ids = new long[size];
+            buffer.asLongBuffer().get(ids);
+            buffer.position(buffer.position() + size * Long.BYTES);
+            int[] levels = getInts(buffer, size);
+            float[] vectors = new float[size * dimension];
+            buffer.asFloatBuffer().get(vectors);
+            buffer.position(buffer.position() + vectors.length * Float.BYTES);
+
+            HnswIndex index = new HnswIndex(dimension, m, ids, vectors, levels);
+            buffer.asIntBuffer().get(index.links0);
+            buffer.position(buffer.position() + index.links0.length * Integer.BYTES);
+            for (int node = 0; node < size; node++) {
+                if (levels[node] > 0) {
+                    index.upperLinks[node] = getInts(buffer, levels[node] * (m + 1));
+                }
+            }
+            index.entryPoint = entryPoint;
+            index.maxLevel = maxLevel;
+            return index;
+        }
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * 한 번의 탐색에 쓰는 방문 표시와 힙. 삽입 중에는 하나를 재사용하고, 조회는 요청마다 새로 만든다.
+     */
+    private class Searcher {
+
+        private final BitSet visited = new BitSet(ids.length);
+        private final NodeHeap candidates = new NodeHeap(false);
+        private final NodeHeap results = new NodeHeap(true);
+
+        int greedy(float[] query, int start, int level) {
+            int current = start;
+            float currentDistance = distance(query, current);
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                int[] links = linksOf(current, level);
+                int offset = offsetOf(current, level);
+                for (int k = 1; k <= links[offset]; k++) {
+                    int neighbour = links[offset + k];
+                    float distance = distance(query, neighbour);
+                    if (distance < currentDistance) {
+                        current = neighbour;
+                        currentDistance = distance;
+                        changed = true;
+                    }
+                }
+            }
+            return current;
+        }
+
+        NodeHeap searchLayer(float[] query, int entry, int ef, int level) {
+            visited.clear();
+            candidates.clear();
+            results.clear();
+
+            float entryDistance = distance(query, entry);
+            visited.set(entry);
+            candidates.push(entry, entryDistance);
+            results.push(entry, entryDistance);
+
+            while (candidates.size() > 0) {
+                float closest = candidates.peekDistance();
+                int current = candidates.pop();
+                if (closest > results.peekDistance() && results.size() >= ef) {
+                    break;
+                }
+                int[] links = linksOf(current, level);
+                int offset = offsetOf(current, level);
+                for (int k = 1; k <= links[offset]; k++) {
+                    int neighbour = links[offset + k];
+                    if (visited.get(neighbour)) {
+                        continue;
+                    }
+                    visited.set(neighbour);
+                    float distance = distance(query, neighbour);
+                    if (results.size() < ef || distance < results.peekDistance()) {
+                        candidates.push(neighbour, distance);
+                        results.push(neighbour, distance);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+            return results;
+        }
+    }
+
+    /**
+     * (거리, 노드) 이진 힙. max 가 true 면 가장 먼 노드가 맨 위에 온다.
+     */
+    private static class NodeHeap {
+
+        private final boolean max;
+        private int[] nodes = new int[16];
+        private float[] distances = new float[16];
+        private int size;
+
+        NodeHeap(boolean max) {
+            this.max = max;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        float peekDistance() {
+            return distances[0];
+        }
+
+        void push(int node, float distance) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!above(distance, distances[parent])) {
+                    break;
+                }
+                nodes[position] = nodes[parent];
+                distances[position] = distances[parent];
+                position = parent;
+            }
+            nodes[position] = node;
+            distances[position] = distance;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            size--;
+            int node = nodes[size];
+            float distance = distances[size];
+            int position = 0;
+            while (true) {
+                int child = position * 2 + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(distances[child + 1], distances[child])) {
+                    child++;
+                }
+                if (!above(distances[child], distance)) {
+                    break;
+                }
+                nodes[position] = nodes[child];
+                distances[position] = distances[child];
+                position = child;
+            }
+            nodes[position] = node;
+            distances[position] = distance;
+            return top;
+        }
+
+        // max 힙에서 모두 꺼내 가까운 순서로 돌려준다.
+        int[] drainAscending() {
+            int[] drained = new int[size];
+            for (int k = drained.length - 1; k >= 0; k--) {
+                drained[k] = pop();
+            }
+            return drained;
+        }
+
+        private boolean above(float distance, float other) {
+            return max ? distance > other : distance < other;
+        }
+    }
+}
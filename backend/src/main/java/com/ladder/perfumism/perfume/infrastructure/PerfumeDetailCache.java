@@ -0,0 +1,118 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.global.cache.CacheStats;
+import com.ladder.perfumism.global.cache.LocalCache;
+import com.ladder.perfumism.global.transaction.AfterCommit;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeDetailResponse;
+import com.ladder.perfumism.perfume.domain.PerfumeCounts;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 향수 상세 정보 캐시.
+ * <p>
+ * 조립이 끝난 {@link PerfumeDetailResponse} 를 향수 id 로 보관한다. 좋아요 수, 평균 평점, 설문 수가 바뀌면 해당 항목만 stale
+ * 로 표시해 두고, 다음 조회 때 이 세 값만 DB 에서 다시 읽어 채운다. 표시는 트랜잭션이 커밋된 뒤에 하며, 표시 이전에 읽기 시작한
+ * 결과는 캐시에 넣지 않는다.
+ * <p>
+ * 읽기 시작한 뒤에 바뀌었는지는 향수 id 를 나눈 구역마다 따로 둔 버전으로 판단한다. 그래서 다른 향수에 좋아요나 리뷰가 몰려도
+ * 읽고 있던 향수는 캐시에 들어간다. 전체를 비울 때만 모든 구역의 결과를 버린다.
+ */
+@Component
+public class PerfumeDetailCache {
+
+    private static final int STRIPES = 1024;
+
+    private final PerfumeRepository perfumeRepository;
+    private final LocalCache<Long, Entry> cache;
+    private final AtomicLongArray stripeVersions = new AtomicLongArray(STRIPES);
+    private final AtomicLong allVersion = new AtomicLong();
+
+    public PerfumeDetailCache(PerfumeRepository perfumeRepository,
+        @Value("${perfumism.cache.perfume-detail.max-size:10000}") int maxSize,
+        @Value("${perfumism.cache.perfume-detail.ttl-seconds:600}") long ttlSeconds) {
+        this.perfumeRepository = perfumeRepository;
+        this.cache = new LocalCache<>("perfume-detail", maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+    }
+
+    // 두 버전 모두 늘어나기만 하므로, 둘 중 하나라도 바뀌면 합이 바뀐다.
+    public long currentVersion(Long perfumeId) {
+        return allVersion.get() + stripeVersions.get(stripe(perfumeId));
+    }
+
+    public PerfumeDetailResponse get(Long perfumeId) {
+        Entry entry = cache.get(perfumeId);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (!entry.stale) {
+            return entry.response;
+        }
+
+        long loadedVersion = currentVersion(perfumeId);
+        Optional<PerfumeCounts> counts = perfumeRepository.findCountsById(perfumeId);
+        if (!counts.isPresent()) {
+            cache.invalidate(perfumeId);
+            return null;
+        }
+
+        PerfumeDetailResponse refreshed = entry.response.withCounts(counts.get().getTotalLike(),
+            counts.get().getAverageGrade(), counts.get().getTotalSurvey());
+        synchronized (this) {
+            if (loadedVersion == currentVersion(perfumeId)) {
+                cache.update(perfumeId, current -> new Entry(refreshed, false));
+            }
+        }
+        return refreshed;
+    }
+
+    public synchronized void put(Long perfumeId, PerfumeDetailResponse response, long loadedVersion) {
+        if (loadedVersion == currentVersion(perfumeId)) {
+            cache.put(perfumeId, new Entry(response, false));
+        }
+    }
+
+    // 좋아요 수, 평균 평점, 설문 수가 바뀌었을 때 호출한다.
+    public void expireCounts(Long perfumeId) {
+        AfterCommit.run(() -> markStale(perfumeId));
+    }
+
+    public void expireAll() {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                allVersion.incrementAndGet();
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private synchronized void markStale(Long perfumeId) {
+        stripeVersions.incrementAndGet(stripe(perfumeId));
+        cache.update(perfumeId, current -> new Entry(current.response, true));
+    }
+
+    private static int stripe(Long perfumeId) {
+        return (int) (perfumeId & (STRIPES - 1));
+    }
+
+    private static class Entry {
+
+        private final PerfumeDetailResponse response;
+        private final boolean stale;
+
+        Entry(PerfumeDetailResponse response, boolean stale) {
+            this.response = response;
+            this.stale = stale;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 기반 향수 추천 색인.
+ * <p>
+ * 향수마다 어코드 TF-IDF 벡터(어코드가 있으면 1, 흔한 어코드일수록 가중치가 낮다)를 만들어 HNSW 그래프에 넣는다. 회원이 좋아요한
+ * 향수 벡터를 더해 취향 벡터를 만들고, 그래프에서 가까운 향수를 찾는다. 그래프는 파일로 저장해 두고, 어코드 데이터가 그대로면 다음
+ * 기동 때 파일을 읽어 쓴다.
+ */
+@Slf4j
+@Component
+public class PerfumeRecommendIndex {
+
+    private static final long SEED = 42L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final PerfumeAccordRepository perfumeAccordRepository;
+    private final Path indexPath;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+
+    private volatile Snapshot snapshot;
+
+    public PerfumeRecommendIndex(PerfumeAccordRepository perfumeAccordRepository,
+        @Value("${perfumism.recommend.index-path:${java.io.tmpdir}/perfumism/perfume-recommend.idx}") String indexPath,
+        @Value("${perfumism.recommend.m:16}") int m,
+        @Value("${perfumism.recommend.ef-construction:100}") int efConstruction,
+        @Value("${perfumism.recommend.ef-search:64}") int efSearch) {
+        this.perfumeAccordRepository = perfumeAccordRepository;
+        this.indexPath = Paths.get(indexPath);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("향수 추천 색인 준비 실패", e);
+        }
+    }
+
+    /**
+     * 어코드 데이터가 바뀌었을 때만 그래프를 다시 만든다. 저장된 파일이 지금 데이터로 만든 것이면 파일을 읽는다.
+     */
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        Map<Long, Set<Long>> accords = new TreeMap<>();
+        for (PerfumeAccordPair pair : perfumeAccordRepository.findAllPairs()) {
+            accords.computeIfAbsent(pair.getPerfumeId(), key -> new TreeSet<>()).add(pair.getAccordId());
+        }
+        long fingerprint = fingerprint(accords);
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current) && current.fingerprint == fingerprint) {
+            return;
+        }
+
+        Snapshot next = new Snapshot(accords, fingerprint);
+        HnswIndex index = load(fingerprint);
+        if (Objects.isNull(index)) {
+            index = HnswIndex.build(next.perfumeIds, next.vectors, next.accordIds.length, m, efConstruction, SEED);
+            save(index, fingerprint);
+        }
+        next.index = index;
+        this.snapshot = next;
+        log.info("향수 추천 색인 준비 완료: 향수 {}개, 어코드 {}개, {}ms", index.size(), index.dimension(),
+            System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return Objects.nonNull(snapshot);
+    }
+
+    /**
+     * 좋아요한 향수의 취향 벡터와 가까운 향수 id 를 가까운 순서로 size 개까지 돌려준다. 좋아요한 향수는 빼고, 색인에 있는 향수를
+     * 하나도 좋아하지 않았으면 빈 목록이다.
+     */
+    public List<Long> recommend(Collection<Long> likedPerfumeIds, int size) {
+        Snapshot current = snapshot;
+        if (Objects.isNull(current)) {
+            return new ArrayList<>();
+        }
+        float[] profile = current.profile(likedPerfumeIds);
+        if (Objects.isNull(profile)) {
+            return new ArrayList<>();
+        }
+        return current.index.search(profile, size, efSearch, new HashSet<>(likedPerfumeIds));
+    }
+
+    // 취향 벡터에서 비중이 큰 어코드 id 를 size 개까지 돌려준다.
+    public List<Long> topAccords(Collection<Long> likedPerfumeIds, int size) {
+        Snapshot current = snapshot;
+        if (Objects.isNull(current)) {
+            return new ArrayList<>();
+        }
+        float[] profile = current.profile(likedPerfumeIds);
+        if (Objects.isNull(profile)) {
+            return new ArrayList<>();
+        }
+        return IntStream.range(0, profile.length)
+            .filter(d -> profile[d] > 0)
+            .boxed()
+            .sorted(Comparator.<Integer>comparingDouble(d -> profile[d]).reversed()
+                .thenComparingLong(d -> current.accordIds[d]))
+            .limit(size)
+            .map(d -> current.accordIds[d])
+            .collect(Collectors.toList());
+    }
+
+    private HnswIndex load(long fingerprint) {
+        try {
+            return HnswIndex.read(indexPath, fingerprint);
+        } catch (IOException | RuntimeException e) {
+            log.warn("향수 추천 색인 파일을 읽지 못해 다시 만듭니다: {}", indexPath, e);
+            return null;
+        }
+    }
+
+    private void save(HnswIndex index, long fingerprint) {
+        try {
+            index.write(indexPath, fingerprint);
+        } catch (IOException e) {
+            log.warn("향수 추천 색인 파일 저장 실패: {}", indexPath, e);
+        }
+    }
+
+    // 향수-어코드 쌍과 그래프 설정이 같으면 같은 값이 나온다.
+    private long fingerprint(Map<Long, Set<Long>> accords) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, m);
+        hash = mix(hash, efConstruction);
+        for (Map.Entry<Long, Set<Long>> entry : accords.entrySet()) {
+            hash = mix(hash, entry.getKey());
+            for (Long accordId : entry.getValue()) {
+                hash = mix(hash, accordId);
+            }
+            hash = mix(hash, -1L);
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static class Snapshot {
+
+        private final long fingerprint;
+        private final long[] perfumeIds;
+        private final long[] accordIds;
+        private final float[] vectors;
+        private final Map<Long, Integer> nodeOf = new HashMap<>();
+        private HnswIndex index;
+
+        Snapshot(Map<Long, Set<Long>> accords, long fingerprint) {
+            this.fingerprint = fingerprint;
+
+            Map<Long, Integer> documentFrequency = new TreeMap<>();
+            for (Set<Long> perfumeAccords : accords.values()) {
+                for (Long accordId : perfumeAccords) {
+                    documentFrequency.merge(accordId, 1, Integer::sum);
+                }
+            }
+            this.accordIds = documentFrequency.keySet().stream().mapToLong(Long::longValue).toArray();
+            Map<Long, Integer> dimensionOf = new HashMap<>();
+            float[] idf = new float[accordIds.length];
+            for (int d = 0; d < accordIds.length; d++) {
+                dimensionOf.put(accordIds[d], d);
+                // sklearn TfidfVectorizer 의 smooth_idf 와 같은 식
+                idf[d] = (float) (Math.log((1.0 + accords.size()) / (1.0 + documentFrequency.get(accordIds[d]))) + 1);
+            }
+
+            int dimension = accordIds.length;
+            this.perfumeIds = new long[accords.size()];
+            this.vectors = new float[accords.size() * dimension];
+            int node = 0;
+            for (Map.Entry<Long, Set<Long>> entry : accords.entrySet()) {
+                perfumeIds[node] = entry.getKey();
+                nodeOf.put(entry.getKey(), node);
+                for (Long accordId : entry.getValue()) {
+                    int d = dimensionOf.get(accordId);
+                    vectors[node * dimension + d] = idf[d];
+                }
+                normalize(vectors, node * dimension, dimension);
+                node++;
+            }
+        }
+
+        float[] profile(Collection<Long> likedPerfumeIds) {
+            float[] profile = new float[accordIds.length];
+            boolean found = false;
+            for (Long perfumeId : likedPerfumeIds) {
+                Integer node = nodeOf.get(perfumeId);
+                if (Objects.nonNull(node)) {
+                    index.addVector(node, profile);
+                    found = true;
+                }
+            }
+            if (!found) {
+                return null;
+            }
+            normalize(profile, 0, profile.length);
+            return profile;
+        }
+
+        private static void normalize(float[] values, int offset, int length) {
+            double norm = 0;
+            for (int k = offset; k < offset + length; k++) {
+                norm += values[k] * values[k];
+            }
+            if (norm == 0) {
+                return;
+            }
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int k = offset; k < offset + length; k++) {
+                values[k] *= scale;
+            }
+        }
+    }
+}
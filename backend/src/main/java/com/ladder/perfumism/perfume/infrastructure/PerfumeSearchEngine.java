@@ -0,0 +1,94 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 향수 통합 검색 엔진.
+ * <p>
+ * 향수명, 브랜드 접두사, 어코드를 각각 색인에서 조회한 뒤 하나의 점수로 합쳐 정렬한다. 일치 정도는 완전 일치 > 접두사 일치 > 부분
+ * 일치 순이며, 같은 일치 정도 안에서는 설문 수와 좋아요 수가 많은 향수가 앞에 온다. 점수가 같으면 id 순으로 정렬해 페이지가
+ * 바뀌어도 순서가 흔들리지 않는다.
+ */
+@Component
+public class PerfumeSearchEngine {
+
+    static final double NAME_EXACT = 1000;
+    static final double NAME_PREFIX = 600;
+    static final double BRAND_EXACT = 500;
+    static final double NAME_SUBSTRING = 300;
+    static final double BRAND_PREFIX = 250;
+    static final double ACCORD_EXACT = 200;
+
+    private static final double POPULARITY_WEIGHT = 10;
+
+    private final PerfumeSearchIndex perfumeSearchIndex;
+
+    public PerfumeSearchEngine(PerfumeSearchIndex perfumeSearchIndex) {
+        this.perfumeSearchIndex = perfumeSearchIndex;
+    }
+
+    public boolean isReady() {
+        return perfumeSearchIndex.isReady();
+    }
+
+    public List<Long> search(String keyword) {
+        String normalized = PerfumeSearchIndex.normalize(keyword);
+        Map<Long, Double> scores = new HashMap<>();
+
+        for (Long perfumeId : perfumeSearchIndex.searchByName(keyword)) {
+            scores.merge(perfumeId, scoreName(perfumeId, normalized), Double::sum);
+        }
+        for (Long perfumeId : perfumeSearchIndex.searchByBrand(keyword)) {
+            scores.merge(perfumeId, scoreBrand(perfumeId, normalized), Double::sum);
+        }
+        for (Long perfumeId : perfumeSearchIndex.searchByAccord(keyword)) {
+            scores.merge(perfumeId, ACCORD_EXACT, Double::sum);
+        }
+
+        List<Entry<Long, Double>> ranked = new ArrayList<>(scores.size());
+        for (Entry<Long, Double> score : scores.entrySet()) {
+            score.setValue(score.getValue() + popularityBoost(score.getKey()));
+            ranked.add(score);
+        }
+        ranked.sort(Comparator.<Entry<Long, Double>>comparingDouble(Entry::getValue).reversed()
+            .thenComparing(Entry::getKey));
+
+        return ranked.stream()
+            .map(Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    private double scoreName(Long perfumeId, String keyword) {
+        String name = perfumeSearchIndex.getNormalizedName(perfumeId);
+        if (Objects.isNull(name)) {
+            return NAME_SUBSTRING;
+        }
+        if (name.equals(keyword)) {
+            return NAME_EXACT;
+        }
+        if (name.startsWith(keyword)) {
+            return NAME_PREFIX;
+        }
+        return NAME_SUBSTRING;
+    }
+
+    private double scoreBrand(Long perfumeId, String keyword) {
+        String brandName = perfumeSearchIndex.getNormalizedBrandName(perfumeId);
+        if (Objects.nonNull(brandName) && brandName.equals(keyword)) {
+            return BRAND_EXACT;
+        }
+        return BRAND_PREFIX;
+    }
+
+    private double popularityBoost(Long perfumeId) {
+        return POPULARITY_WEIGHT * Math.log1p(perfumeSearchIndex.getPopularity(perfumeId));
+    }
+}
@@ -0,0 +1,277 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.perfume.domain.Accord;
+import com.ladder.perfumism.perfume.domain.AccordRepository;
+import com.ladder.perfumism.perfume.domain.Brand;
+import com.ladder.perfumism.perfume.domain.BrandRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeSummary;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 향수 검색용 메모리 역색인.
+ * <p>
+ * 향수명은 2-gram 으로 색인해 부분 일치(contains)를, 브랜드명은 정렬 맵으로 접두사 일치를, 어코드는 영문/한글 이름의 완전
+ * 일치를 찾는다. 결과는 향수 id 오름차순으로 돌려주며, 실제 향수 row 는 필요한 페이지만 DB 에서 조회한다.
+ * <p>
+ * 향수, 브랜드, 어코드는 앱이 아니라 perfume_db_generator 의 카탈로그 동기화가 바꾼다. 그래서 색인을 고쳐 쓰지 않고, 시작할 때와
+ * 이후 일정 주기마다 DB 에서 통째로 새로 만들어 바꿔 끼운다. 새로 만드는 동안에는 이전 색인으로 검색한다. 검색 순위에 쓰는
+ * 인기도(설문 수 + 좋아요 수)만은 앱이 바꾸므로, 좋아요와 리뷰가 커밋될 때마다 증감량을 바로 더한다.
+ */
+@Slf4j
+@Component
+public class PerfumeSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final PerfumeRepository perfumeRepository;
+    private final BrandRepository brandRepository;
+    private final AccordRepository accordRepository;
+    private final PerfumeAccordRepository perfumeAccordRepository;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready = false;
+
+    public PerfumeSearchIndex(PerfumeRepository perfumeRepository, BrandRepository brandRepository,
+        AccordRepository accordRepository, PerfumeAccordRepository perfumeAccordRepository) {
+        this.perfumeRepository = perfumeRepository;
+        this.brandRepository = brandRepository;
+        this.accordRepository = accordRepository;
+        this.perfumeAccordRepository = perfumeAccordRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("향수 검색 색인 생성 실패, DB 검색으로 동작합니다.", e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Snapshot next = new Snapshot();
+
+        for (Brand brand : brandRepository.findAll()) {
+            next.putBrand(brand.getId(), brand.getName());
+        }
+        for (Accord accord : accordRepository.findAll()) {
+            next.putAccord(accord.getId(), accord.getEngName(), accord.getKorName());
+        }
+        List<PerfumeSummary> perfumes = perfumeRepository.findAllSummaries();
+        for (PerfumeSummary perfume : perfumes) {
+            next.putPerfume(perfume.getId(), perfume.getName(), perfume.getBrandId());
+            next.updatePopularity(perfume.getId(), perfume.getTotalSurvey(), perfume.getTotalLike());
+        }
+        for (PerfumeAccordPair pair : perfumeAccordRepository.findAllPairs()) {
+            next.addPerfumeAccord(pair.getPerfumeId(), pair.getAccordId());
+        }
+
+        this.snapshot = next;
+        this.ready = true;
+        log.info("향수 검색 색인 생성 완료: 향수 {}개, {}ms", perfumes.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> searchByName(String keyword) {
+        return snapshot.searchByName(normalize(keyword));
+    }
+
+    public List<Long> searchByBrand(String keyword) {
+        return snapshot.searchByBrand(normalize(keyword));
+    }
+
+    public List<Long> searchByAccord(String keyword) {
+        return snapshot.searchByAccord(keyword);
+    }
+
+    public String getNormalizedName(Long perfumeId) {
+        return snapshot.perfumeNames.get(perfumeId);
+    }
+
+    public String getNormalizedBrandName(Long perfumeId) {
+        return snapshot.brandNameOf(perfumeId);
+    }
+
+    public long getPopularity(Long perfumeId) {
+        return snapshot.perfumePopularity.getOrDefault(perfumeId, 0L);
+    }
+
+    // 색인을 새로 만드는 중에 더한 증감량은 빠질 수 있지만, 다음에 새로 만들 때 DB 값으로 다시 맞춰진다.
+    public void addPopularity(Long perfumeId, long delta) {
+        snapshot.addPopularity(perfumeId, delta);
+    }
+
+    // MySQL 의 대소문자/악센트 무시 비교와 최대한 비슷하게 맞춘다.
+    static String normalize(String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+        return Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "");
+    }
+
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static class Snapshot {
+
+        private final Map<String, Set<Long>> nameGrams = new ConcurrentHashMap<>();
+        private final Map<Long, String> perfumeNames = new ConcurrentHashMap<>();
+        private final Map<Long, Long> perfumeBrands = new ConcurrentHashMap<>();
+        private final Map<Long, Long> perfumePopularity = new ConcurrentHashMap<>();
+
+        private final NavigableMap<String, Set<Long>> brandNames = new ConcurrentSkipListMap<>();
+        private final Map<Long, String> brandNamesById = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> brandPerfumes = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> accordEngNames = new ConcurrentHashMap<>();
+        private final Map<String, Long> accordKorNames = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> accordPerfumes = new ConcurrentHashMap<>();
+
+        List<Long> searchByName(String keyword) {
+            Set<String> keywordGrams = grams(keyword);
+            if (keywordGrams.isEmpty()) {
+                return filterByName(perfumeNames.keySet(), keyword);
+            }
+
+            List<Set<Long>> postings = new ArrayList<>();
+            for (String gram : keywordGrams) {
+                Set<Long> posting = nameGrams.get(gram);
+                if (Objects.isNull(posting) || posting.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                postings.add(posting);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>();
+            Set<Long> smallest = postings.get(0);
+            for (Long perfumeId : smallest) {
+                if (containsAll(postings, perfumeId) && nameContains(perfumeId, keyword)) {
+                    result.add(perfumeId);
+                }
+            }
+            return result;
+        }
+
+        List<Long> searchByBrand(String prefix) {
+            Set<Long> perfumeIds = new ConcurrentSkipListSet<>();
+            for (Set<Long> brandIds : brandNames.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values()) {
+                for (Long brandId : brandIds) {
+                    perfumeIds.addAll(brandPerfumes.getOrDefault(brandId, Collections.emptySet()));
+                }
+            }
+            return new ArrayList<>(perfumeIds);
+        }
+
+        List<Long> searchByAccord(String keyword) {
+            Long accordId = accordEngNames.get(normalize(keyword));
+            if (Objects.isNull(accordId)) {
+                accordId = accordKorNames.get(keyword);
+            }
+            if (Objects.isNull(accordId)) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(accordPerfumes.getOrDefault(accordId, Collections.emptySet()));
+        }
+
+        void putPerfume(Long perfumeId, String name, Long brandId) {
+            String normalized = normalize(name);
+            perfumeNames.put(perfumeId, normalized);
+            for (String gram : grams(normalized)) {
+                nameGrams.computeIfAbsent(gram, key -> new ConcurrentSkipListSet<>()).add(perfumeId);
+            }
+            if (Objects.nonNull(brandId)) {
+                perfumeBrands.put(perfumeId, brandId);
+                brandPerfumes.computeIfAbsent(brandId, key -> new ConcurrentSkipListSet<>()).add(perfumeId);
+            }
+        }
+
+        void updatePopularity(Long perfumeId, Long totalSurvey, Integer totalLike) {
+            long survey = Objects.isNull(totalSurvey) ? 0L : totalSurvey;
+            long like = Objects.isNull(totalLike) ? 0L : totalLike;
+            perfumePopularity.put(perfumeId, Math.max(0L, survey + like));
+        }
+
+        void addPopularity(Long perfumeId, long delta) {
+            perfumePopularity.compute(perfumeId,
+                (id, current) -> Math.max(0L, (Objects.isNull(current) ? 0L : current) + delta));
+        }
+
+        String brandNameOf(Long perfumeId) {
+            Long brandId = perfumeBrands.get(perfumeId);
+            return Objects.isNull(brandId) ? null : brandNamesById.get(brandId);
+        }
+
+        void putBrand(Long brandId, String name) {
+            brandNamesById.put(brandId, normalize(name));
+            brandNames.computeIfAbsent(normalize(name), key -> new ConcurrentSkipListSet<>()).add(brandId);
+        }
+
+        void putAccord(Long accordId, String engName, String korName) {
+            if (Objects.nonNull(engName)) {
+                accordEngNames.put(normalize(engName), accordId);
+            }
+            if (Objects.nonNull(korName)) {
+                accordKorNames.put(korName, accordId);
+            }
+        }
+
+        void addPerfumeAccord(Long perfumeId, Long accordId) {
+            accordPerfumes.computeIfAbsent(accordId, key -> new ConcurrentSkipListSet<>()).add(perfumeId);
+        }
+
+        private boolean containsAll(List<Set<Long>> postings, Long perfumeId) {
+            for (int i = 1; i < postings.size(); i++) {
+                if (!postings.get(i).contains(perfumeId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean nameContains(Long perfumeId, String keyword) {
+            String name = perfumeNames.get(perfumeId);
+            return Objects.nonNull(name) && name.contains(keyword);
+        }
+
+        private List<Long> filterByName(Set<Long> perfumeIds, String keyword) {
+            List<Long> result = new ArrayList<>();
+            for (Long perfumeId : new ConcurrentSkipListSet<>(perfumeIds)) {
+                if (nameContains(perfumeId, keyword)) {
+                    result.add(perfumeId);
+                }
+            }
+            return result;
+        }
+    }
+}
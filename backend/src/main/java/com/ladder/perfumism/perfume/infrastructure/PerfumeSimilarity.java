@@ -0,0 +1,357 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeNotes;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 향수 유사도 엔진.
+ * <p>
+ * 어코드와 탑/미들/베이스 노트를 특징으로 하는 희소 벡터를 만들고, 특징별 역색인(posting)을 따라가며 특징을 하나 이상 공유하는
+ * 향수끼리만 코사인 유사도를 계산한다. 향수마다 유사도 상위 candidateSize 개를 후보로 두고, 그중 설문 수가 많은 순으로 topK
+ * 개를 비슷한 향수로 내려준다. 전체 계산은 향수 구간을 나눠 ForkJoinPool 에서 병렬로 수행한다. 향수의 어코드와 노트는
+ * 애플리케이션 밖(perfume_db_generator)에서만 바뀌므로 매일 다시 계산하는 것으로 반영한다.
+ */
+@Slf4j
+@Component
+public class PerfumeSimilarity {
+
+    private static final String ACCORD_FEATURE = "accord:";
+    private static final String NOTE_FEATURE = "note:";
+    private static final String NOTE_DELIMITER = ",";
+    private static final int TASK_SIZE = 256;
+
+    private final PerfumeRepository perfumeRepository;
+    private final PerfumeAccordRepository perfumeAccordRepository;
+    private final int candidateSize;
+    private final int topK;
+    private final int parallelism;
+
+    private volatile State state;
+
+    public PerfumeSimilarity(PerfumeRepository perfumeRepository, PerfumeAccordRepository perfumeAccordRepository,
+        @Value("${perfumism.similarity.candidate-size:30}") int candidateSize,
+        @Value("${perfumism.similarity.top-k:10}") int topK,
+        @Value("${perfumism.similarity.parallelism:0}") int parallelism) {
+        this.perfumeRepository = perfumeRepository;
+        this.perfumeAccordRepository = perfumeAccordRepository;
+        this.candidateSize = candidateSize;
+        this.topK = topK;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("향수 유사도 계산 실패, similar_perfume 테이블로 동작합니다.", e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        Map<Long, Set<String>> features = new LinkedHashMap<>();
+        Map<Long, Long> popularity = new HashMap<>();
+        for (PerfumeNotes notes : perfumeRepository.findAllNotes()) {
+            features.put(notes.getId(), noteFeatures(notes));
+            popularity.put(notes.getId(), toPopularity(notes.getTotalSurvey()));
+        }
+        for (PerfumeAccordPair pair : perfumeAccordRepository.findAllPairs()) {
+            Set<String> perfumeFeatures = features.get(pair.getPerfumeId());
+            if (Objects.nonNull(perfumeFeatures)) {
+                perfumeFeatures.add(ACCORD_FEATURE + pair.getAccordId());
+            }
+        }
+
+        State next = new State(features, popularity, candidateSize, topK);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new ScoreTask(next, 0, next.size()));
+        } finally {
+            pool.shutdown();
+        }
+        next.publishAll();
+
+        this.state = next;
+        log.info("향수 유사도 계산 완료: 향수 {}개, 특징 {}개, {}ms", next.size(), next.featureIds.size(),
+            System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return Objects.nonNull(state);
+    }
+
+    public List<Long> getSimilarPerfumeIds(Long perfumeId) {
+        State current = state;
+        if (Objects.isNull(current)) {
+            return Collections.emptyList();
+        }
+        return current.neighbours.getOrDefault(perfumeId, Collections.emptyList());
+    }
+
+    private static Set<String> noteFeatures(PerfumeNotes notes) {
+        Set<String> features = new TreeSet<>();
+        for (String tier : Arrays.asList(notes.getTopNotes(), notes.getMiddleNotes(), notes.getBaseNotes())) {
+            if (Objects.isNull(tier)) {
+                continue;
+            }
+            for (String note : tier.split(NOTE_DELIMITER)) {
+                String normalized = PerfumeSearchIndex.normalize(note).trim();
+                if (!normalized.isEmpty()) {
+                    features.add(NOTE_FEATURE + normalized);
+                }
+            }
+        }
+        return features;
+    }
+
+    private static long toPopularity(Long totalSurvey) {
+        return Objects.isNull(totalSurvey) ? 0L : totalSurvey;
+    }
+
+    private static class ScoreTask extends RecursiveAction {
+
+        private final State state;
+        private final int from;
+        private final int to;
+
+        ScoreTask(State state, int from, int to) {
+            this.state = state;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                Scorer scorer = new Scorer(state);
+                for (int i = from; i < to; i++) {
+                    scorer.score(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreTask(state, from, middle), new ScoreTask(state, middle, to));
+        }
+    }
+
+    /**
+     * 한 향수와 나머지 향수의 공유 특징 수를 posting 을 따라가며 센다. 배열은 향수 수만큼 한 번만 만들고, 손댄 칸만 되돌려 재사용한다.
+     */
+    private static class Scorer {
+
+        private final State state;
+        private final int[] overlap;
+        private final int[] touched;
+
+        Scorer(State state) {
+            this.state = state;
+            this.overlap = new int[state.size()];
+            this.touched = new int[state.size()];
+        }
+
+        void score(int target) {
+            int touchedCount = 0;
+            for (int feature : state.vectors[target]) {
+                for (int other : state.postings[feature]) {
+                    if (other == target) {
+                        continue;
+                    }
+                    if (overlap[other] == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                    overlap[other]++;
+                }
+            }
+
+            Candidates candidates = new Candidates(state, state.candidateSize);
+            for (int k = 0; k < touchedCount; k++) {
+                int other = touched[k];
+                candidates.offer(other, state.cosine(target, other, overlap[other]));
+                overlap[other] = 0;
+            }
+            state.candidates[target] = candidates.indexes();
+        }
+    }
+
+    /**
+     * 유사도 내림차순(같으면 설문 수 많은 순, id 오름차순)으로 정렬된 고정 크기 후보 목록.
+     */
+    private static class Candidates {
+
+        private final State state;
+        private final int[] indexes;
+        private final float[] scores;
+        private int size;
+
+        Candidates(State state, int capacity) {
+            this.state = state;
+            this.indexes = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        boolean isFull() {
+            return size == indexes.length;
+        }
+
+        boolean offer(int index, float score) {
+            if (indexes.length == 0 || score <= 0 || (isFull() && !state.ranksBefore(index, score,
+                indexes[size - 1], scores[size - 1]))) {
+                return false;
+            }
+            int position = isFull() ? size - 1 : size++;
+            while (position > 0 && state.ranksBefore(index, score, indexes[position - 1], scores[position - 1])) {
+                indexes[position] = indexes[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            indexes[position] = index;
+            scores[position] = score;
+            return true;
+        }
+
+        int[] indexes() {
+            return Arrays.copyOf(indexes, size);
+        }
+    }
+
+    private static class State {
+
+        private final long[] ids;
+        private final long[] popularity;
+        private final Map<String, Integer> featureIds = new HashMap<>();
+        private final int candidateSize;
+        private final int topK;
+
+        private final int[][] vectors;
+        private final float[] norms;
+        private final int[][] postings;
+
+        private final int[][] candidates;
+        private final Map<Long, List<Long>> neighbours = new ConcurrentHashMap<>();
+
+        State(Map<Long, Set<String>> features, Map<Long, Long> popularity, int candidateSize, int topK) {
+            int size = features.size();
+            this.ids = new long[size];
+            this.popularity = new long[size];
+            this.vectors = new int[size][];
+            this.norms = new float[size];
+            this.candidates = new int[size][];
+            this.candidateSize = candidateSize;
+            this.topK = topK;
+
+            int index = 0;
+            for (Map.Entry<Long, Set<String>> entry : features.entrySet()) {
+                ids[index] = entry.getKey();
+                this.popularity[index] = popularity.getOrDefault(entry.getKey(), 0L);
+                setVector(index, toVector(entry.getValue()));
+                index++;
+            }
+
+            int[] postingSizes = new int[featureIds.size()];
+            for (int[] vector : vectors) {
+                for (int feature : vector) {
+                    postingSizes[feature]++;
+                }
+            }
+            this.postings = new int[featureIds.size()][];
+            for (int feature = 0; feature < postings.length; feature++) {
+                postings[feature] = new int[postingSizes[feature]];
+            }
+            int[] filled = new int[featureIds.size()];
+            for (int i = 0; i < size; i++) {
+                for (int feature : vectors[i]) {
+                    postings[feature][filled[feature]++] = i;
+                }
+            }
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        void publishAll() {
+            for (int i = 0; i < size(); i++) {
+                neighbours.put(ids[i], rankNeighbours(i));
+            }
+        }
+
+        // 유사도 상위 후보 중 설문 수가 많은 향수부터 topK 개를 고른다.
+        private List<Long> rankNeighbours(int index) {
+            int[] candidate = candidates[index];
+            Integer[] order = new Integer[candidate.length];
+            for (int k = 0; k < candidate.length; k++) {
+                order[k] = k;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int byPopularity = Long.compare(popularity[candidate[b]], popularity[candidate[a]]);
+                return byPopularity != 0 ? byPopularity : Integer.compare(a, b);
+            });
+
+            List<Long> ranked = new ArrayList<>(Math.min(topK, candidate.length));
+            for (int k = 0; k < order.length && ranked.size() < topK; k++) {
+                ranked.add(ids[candidate[order[k]]]);
+            }
+            return Collections.unmodifiableList(ranked);
+        }
+
+        float cosine(int a, int b, int overlap) {
+            if (overlap == 0) {
+                return 0f;
+            }
+            return overlap / (norms[a] * norms[b]);
+        }
+
+        boolean ranksBefore(int index, float score, int otherIndex, float otherScore) {
+            if (score != otherScore) {
+                return score > otherScore;
+            }
+            if (popularity[index] != popularity[otherIndex]) {
+                return popularity[index] > popularity[otherIndex];
+            }
+            return ids[index] < ids[otherIndex];
+        }
+
+        private int[] toVector(Set<String> features) {
+            int[] vector = new int[features.size()];
+            int k = 0;
+            for (String feature : features) {
+                Integer featureId = featureIds.get(feature);
+                if (Objects.isNull(featureId)) {
+                    featureId = featureIds.size();
+                    featureIds.put(feature, featureId);
+                }
+                vector[k++] = featureId;
+            }
+            Arrays.sort(vector);
+            return vector;
+        }
+
+        private void setVector(int index, int[] vector) {
+            vectors[index] = vector;
+            norms[index] = (float) Math.sqrt(vector.length);
+        }
+
+    }
+}
@@ -0,0 +1,177 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.global.transaction.AfterCommit;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeSimpleResponse;
+import com.ladder.perfumism.perfume.domain.Perfume;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeHourlyCount;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간별 인기 향수 순위.
+ * <p>
+ * 좋아요가 살아 있는 향수별 좋아요 수를 좋아요를 누른 시각의 1시간 버킷에 나눠 두고, 주기적으로 기간(일간/주간/월간)에 걸친
+ * 버킷만 합쳐서 상위 K 개를 응답 형태로 만들어 둔다. 조회는 만들어 둔 순위를 그대로 돌려주므로 DB 를 읽지 않는다. 가장 긴
+ * 기간보다 오래된 버킷은 버린다. 좋아요는 지금 시각의 버킷에 더하고, 취소는 그 좋아요를 눌렀던 시각의 버킷에서 뺀다. 그래서
+ * 서버가 뜰 때 살아 있는 좋아요를 created_at 의 시간 단위로 집계해 채운 버킷과 같은 값을 유지하고, 재시작해도 순위가 바뀌지
+ * 않는다.
+ */
+@Slf4j
+@Component
+public class PerfumeTrending {
+
+    private static final DateTimeFormatter HOUR_FORMAT = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH")
+        .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+        .toFormatter();
+
+    private final PerfumeLikeRepository perfumeLikeRepository;
+    private final PerfumeRepository perfumeRepository;
+    private final Map<TrendingPeriod, Integer> periodHours = new EnumMap<>(TrendingPeriod.class);
+    private final int maxHours;
+    private final int topK;
+    private final Clock clock;
+
+    // 1시간 버킷(epoch 기준 시간) -> 향수 id -> 좋아요 증감량
+    private final ConcurrentSkipListMap<Long, ConcurrentHashMap<Long, LongAdder>> buckets = new ConcurrentSkipListMap<>();
+    private volatile Map<TrendingPeriod, List<PerfumeSimpleResponse>> rankings = Collections.emptyMap();
+
+    @Autowired
+    public PerfumeTrending(PerfumeLikeRepository perfumeLikeRepository, PerfumeRepository perfumeRepository,
+        @Value("${perfumism.trending.daily-hours:24}") int dailyHours,
+        @Value("${perfumism.trending.weekly-hours:168}") int weeklyHours,
+        @Value("${perfumism.trending.monthly-hours:720}") int monthlyHours,
+        @Value("${perfumism.trending.top-k:3}") int topK) {
+        this(perfumeLikeRepository, perfumeRepository, dailyHours, weeklyHours, monthlyHours, topK,
+            Clock.systemDefaultZone());
+    }
+
+    PerfumeTrending(PerfumeLikeRepository perfumeLikeRepository, PerfumeRepository perfumeRepository,
+        int dailyHours, int weeklyHours, int monthlyHours, int topK, Clock clock) {
+        this.perfumeLikeRepository = perfumeLikeRepository;
+        this.perfumeRepository = perfumeRepository;
+        this.periodHours.put(TrendingPeriod.DAILY, dailyHours);
+        this.periodHours.put(TrendingPeriod.WEEKLY, weeklyHours);
+        this.periodHours.put(TrendingPeriod.MONTHLY, monthlyHours);
+        this.maxHours = Collections.max(periodHours.values());
+        this.topK = topK;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime since = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS).minusHours(maxHours - 1);
+        List<PerfumeLikeHourlyCount> counts = perfumeLikeRepository.countHourlySince(since);
+        for (PerfumeLikeHourlyCount count : counts) {
+            long hour = toEpochHour(LocalDateTime.parse(count.getHour(), HOUR_FORMAT));
+            add(hour, count.getPerfumeId(), count.getLikeCount());
+        }
+        refresh();
+        log.info("인기 향수 순위 준비 완료 - 집계 {}건", counts.size());
+    }
+
+    // 트랜잭션이 커밋된 뒤에 반영한다.
+    public void recordLike(Long perfumeId) {
+        long hour = currentHour();
+        AfterCommit.run(() -> add(hour, perfumeId, 1));
+    }
+
+    // 이미 버린 버킷에 들어 있던 좋아요는 순위에 없으므로 뺄 것도 없다.
+    public void recordUnlike(Long perfumeId, LocalDateTime likedAt) {
+        long hour = toEpochHour(likedAt);
+        if (hour > currentHour() - maxHours) {
+            AfterCommit.run(() -> add(hour, perfumeId, -1));
+        }
+    }
+
+    public List<PerfumeSimpleResponse> getRanking(TrendingPeriod period) {
+        return rankings.getOrDefault(period, Collections.emptyList());
+    }
+
+    public void refresh() {
+        long now = currentHour();
+        buckets.headMap(now - maxHours + 1).clear();
+
+        Map<TrendingPeriod, List<Long>> rankedIds = new EnumMap<>(TrendingPeriod.class);
+        for (Entry<TrendingPeriod, Integer> period : periodHours.entrySet()) {
+            rankedIds.put(period.getKey(), rank(now - period.getValue() + 1));
+        }
+
+        List<Long> perfumeIds = rankedIds.values().stream()
+            .flatMap(List::stream)
+            .distinct()
+            .collect(Collectors.toList());
+        Map<Long, PerfumeSimpleResponse> responses = perfumeIds.isEmpty() ? Collections.emptyMap()
+            : perfumeRepository.findWithBrandByIdIn(perfumeIds).stream()
+                .collect(Collectors.toMap(Perfume::getId, PerfumeSimpleResponse::from));
+
+        Map<TrendingPeriod, List<PerfumeSimpleResponse>> next = new EnumMap<>(TrendingPeriod.class);
+        rankedIds.forEach((period, ids) -> next.put(period, Collections.unmodifiableList(ids.stream()
+            .map(responses::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()))));
+        rankings = next;
+    }
+
+    private List<Long> rank(long fromHour) {
+        Map<Long, Long> scores = new HashMap<>();
+        for (ConcurrentHashMap<Long, LongAdder> bucket : buckets.tailMap(fromHour).values()) {
+            bucket.forEach((perfumeId, delta) -> scores.merge(perfumeId, delta.sum(), Long::sum));
+        }
+
+        List<Entry<Long, Long>> ranked = new ArrayList<>();
+        for (Entry<Long, Long> score : scores.entrySet()) {
+            if (score.getValue() > 0) {
+                ranked.add(score);
+            }
+        }
+        ranked.sort(Comparator.<Entry<Long, Long>>comparingLong(Entry::getValue).reversed()
+            .thenComparing(Entry::getKey));
+
+        return ranked.stream()
+            .limit(topK)
+            .map(Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    private void add(long hour, Long perfumeId, long delta) {
+        buckets.computeIfAbsent(hour, key -> new ConcurrentHashMap<>())
+            .computeIfAbsent(perfumeId, key -> new LongAdder())
+            .add(delta);
+    }
+
+    private long currentHour() {
+        return toEpochHour(LocalDateTime.now(clock));
+    }
+
+    // created_at 이 LocalDateTime 으로 저장되므로 시간대 변환 없이 시간 단위로만 자른다.
+    private static long toEpochHour(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+}
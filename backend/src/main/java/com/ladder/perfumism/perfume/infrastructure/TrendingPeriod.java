@@ -0,0 +1,25 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import com.ladder.perfumism.global.exception.BusinessException;
+import com.ladder.perfumism.global.exception.ErrorCode;
+import java.util.Arrays;
+
+public enum TrendingPeriod {
+
+    DAILY("daily"),
+    WEEKLY("weekly"),
+    MONTHLY("monthly");
+
+    private final String name;
+
+    TrendingPeriod(String name) {
+        this.name = name;
+    }
+
+    public static TrendingPeriod from(String name) {
+        return Arrays.stream(values())
+            .filter(period -> period.name.equalsIgnoreCase(name))
+            .findFirst()
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_NOT_SUPPORTED_TRENDING_PERIOD));
+    }
+}
@@ -9,6 +9,10 @@ import com.ladder.perfumism.perfume.controller.dto.response.PerfumeListResponse;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeLike;
 import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeTrending;
+import java.time.LocalDateTime;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,12 +24,14 @@ public class PerfumeLikeService {
     private final MemberService memberService;
     private final PerfumeService perfumeService;
     private final PerfumeLikeRepository perfumeLikeRepository;
+    private final PerfumeTrending perfumeTrending;
 
     public PerfumeLikeService(MemberService memberService, PerfumeService perfumeService,
-        PerfumeLikeRepository perfumeLikeRepository) {
+        PerfumeLikeRepository perfumeLikeRepository, PerfumeTrending perfumeTrending) {
         this.memberService = memberService;
         this.perfumeService = perfumeService;
         this.perfumeLikeRepository = perfumeLikeRepository;
+        this.perfumeTrending = perfumeTrending;
     }
 
     @Transactional
@@ -33,17 +39,26 @@ public class PerfumeLikeService {
         Member member = memberService.findByEmail(email);
         Perfume perfume = perfumeService.findById(perfumeId);
 
-        alreadyLikeThisPerfume(member, perfume);
+        perfumeService.enterLikeWrite();
+        Long perfumeLikeId = saveOrRestoreLike(member, perfume);
 
-        PerfumeLike perfumeLike = perfumeLikeRepository.save(PerfumeLike.createPerfumeLike(perfume, member));
+        perfumeService.addTotalLike(perfume.getId(), 1);
+        perfumeTrending.recordLike(perfume.getId());
 
-        perfume.saveLike(perfumeLikeRepository.countByPerfumeId(perfume));
-
-        return perfumeLike.getId();
+        return perfumeLikeId;
     }
 
-    private void alreadyLikeThisPerfume(Member member, Perfume perfume) {
-        if (perfumeLikeRepository.existsByMemberIdAndPerfumeId(member, perfume)) {
+    // 이미 좋아요한 경우는 exists 로 미리 확인하지 않고 (member_id, perfume_id) unique 제약으로 막는다.
+    private Long saveOrRestoreLike(Member member, Perfume perfume) {
+        if (perfumeLikeRepository.restoreByMemberIdAndPerfumeId(member.getId(), perfume.getId()) > 0) {
+            return perfumeLikeRepository.findByPerfumeIdAndMemberId(perfume, member)
+                .map(PerfumeLike::getId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_ALREADY_LIKE));
+        }
+
+        try {
+            return perfumeLikeRepository.saveAndFlush(PerfumeLike.createPerfumeLike(perfume, member)).getId();
+        } catch (DataIntegrityViolationException e) {
             throw new BusinessException(ErrorCode.PERFUME_ALREADY_LIKE);
         }
     }
@@ -63,20 +78,29 @@ public class PerfumeLikeService {
         Member member = memberService.findByEmail(email);
         Perfume perfume = perfumeService.findById(perfumeId);
 
-        PerfumeLike perfumeLike = perfumeLikeRepository.findByPerfumeIdAndMemberId(perfume, member)
+        perfumeService.enterLikeWrite();
+        // 인기 순위에서는 좋아요를 눌렀던 시각의 버킷에서 뺀다.
+        LocalDateTime likedAt = perfumeLikeRepository.findCreatedAtByMemberIdAndPerfumeId(member, perfume)
             .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_NOT_LIKE_THIS_BEFORE));
+        if (perfumeLikeRepository.updateDeletedAtByMemberIdAndPerfumeId(member, perfume) == 0) {
+            throw new BusinessException(ErrorCode.PERFUME_NOT_LIKE_THIS_BEFORE);
+        }
 
-        perfumeLike.saveDeletedTime();
+        perfumeService.addTotalLike(perfume.getId(), -1);
+        perfumeTrending.recordUnlike(perfume.getId(), likedAt);
+    }
 
-        perfume.saveLike(perfumeLikeRepository.countByPerfumeId(perfume));
+    @Transactional
+    public Integer reconcileTotalLikes() {
+        return perfumeService.reconcileTotalLikes();
     }
 
     @Transactional(readOnly = true)
     public PerfumeListResponse myFavoritePerfumeList(String email, Pageable pageable) {
         Member member = memberService.findByEmail(email);
 
-        Page<PerfumeLike> perfumeLikeList = perfumeLikeRepository.findByMemberId(member, pageable);
+        Page<PerfumeListItem> perfumeLikeList = perfumeLikeRepository.findListItemsByMemberId(member, pageable);
 
-        return PerfumeListResponse.fromLikes(perfumeLikeList);
+        return PerfumeListResponse.fromItems(perfumeLikeList);
     }
 }
@@ -0,0 +1,75 @@
+package com.ladder.perfumism.perfume.service;
+
+import com.ladder.perfumism.global.exception.BusinessException;
+import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.member.domain.Member;
+import com.ladder.perfumism.member.service.MemberService;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeRecommendResponse;
+import com.ladder.perfumism.perfume.domain.Accord;
+import com.ladder.perfumism.perfume.domain.AccordRepository;
+import com.ladder.perfumism.perfume.domain.Perfume;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeRecommendIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class PerfumeRecommendService {
+
+    private static final int MAX_SIZE = 30;
+    private static final int ACCORD_SIZE = 5;
+
+    private final MemberService memberService;
+    private final PerfumeLikeRepository perfumeLikeRepository;
+    private final PerfumeRepository perfumeRepository;
+    private final AccordRepository accordRepository;
+    private final PerfumeRecommendIndex perfumeRecommendIndex;
+
+    public PerfumeRecommendService(MemberService memberService, PerfumeLikeRepository perfumeLikeRepository,
+        PerfumeRepository perfumeRepository, AccordRepository accordRepository,
+        PerfumeRecommendIndex perfumeRecommendIndex) {
+        this.memberService = memberService;
+        this.perfumeLikeRepository = perfumeLikeRepository;
+        this.perfumeRepository = perfumeRepository;
+        this.accordRepository = accordRepository;
+        this.perfumeRecommendIndex = perfumeRecommendIndex;
+    }
+
+    @Transactional(readOnly = true)
+    public PerfumeRecommendResponse recommendByLikes(String email, int size) {
+        Member member = memberService.findByEmail(email);
+        if (!perfumeRecommendIndex.isReady()) {
+            throw new BusinessException(ErrorCode.PERFUME_RECOMMEND_NOT_READY);
+        }
+
+        List<Long> likedPerfumeIds = perfumeLikeRepository.findPerfumeIdsByMemberId(member.getId());
+        List<Long> perfumeIds = perfumeRecommendIndex.recommend(likedPerfumeIds, Math.min(Math.max(size, 1), MAX_SIZE));
+        if (perfumeIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.PERFUME_NOT_LIKE_ANYTHING);
+        }
+        List<Long> accordIds = perfumeRecommendIndex.topAccords(likedPerfumeIds, ACCORD_SIZE);
+
+        return PerfumeRecommendResponse.from(
+            inOrder(accordIds, accordRepository.findAllById(accordIds), Accord::getId),
+            inOrder(perfumeIds, perfumeRepository.findWithBrandByIdIn(perfumeIds), Perfume::getId));
+    }
+
+    public void refreshIndex() {
+        perfumeRecommendIndex.refresh();
+    }
+
+    private <T> List<T> inOrder(List<Long> ids, List<T> found, Function<T, Long> idOf) {
+        Map<Long, T> byId = found.stream()
+            .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+}
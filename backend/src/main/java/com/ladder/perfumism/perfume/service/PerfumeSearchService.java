@@ -7,10 +7,22 @@ import com.ladder.perfumism.perfume.domain.Accord;
 import com.ladder.perfumism.perfume.domain.AccordRepository;
 import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.BrandRepository;
+import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchEngine;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchIndex;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,18 +34,27 @@ public class PerfumeSearchService {
     private final PerfumeRepository perfumeRepository;
     private final BrandRepository brandRepository;
     private final AccordRepository accordRepository;
+    private final PerfumeSearchIndex perfumeSearchIndex;
+    private final PerfumeSearchEngine perfumeSearchEngine;
 
     public PerfumeSearchService(PerfumeRepository perfumeRepository,
-        BrandRepository brandRepository, AccordRepository accordRepository) {
+        BrandRepository brandRepository, AccordRepository accordRepository,
+        PerfumeSearchIndex perfumeSearchIndex, PerfumeSearchEngine perfumeSearchEngine) {
         this.perfumeRepository = perfumeRepository;
         this.brandRepository = brandRepository;
         this.accordRepository = accordRepository;
+        this.perfumeSearchIndex = perfumeSearchIndex;
+        this.perfumeSearchEngine = perfumeSearchEngine;
     }
 
     @Transactional(readOnly = true)
     public PerfumeListResponse getPerfumeSearch(Pageable pageable, String type, String keyword) {
         checkKeywordLength(keyword);
 
+        if (perfumeSearchIndex.isReady()) {
+            return getPerfumeSearchFromIndex(pageable, type, keyword);
+        }
+
         switch (type) {
             case "name":
                 return PerfumeListResponse.from(perfumeRepository.findByNameContainsIgnoreCase(keyword, pageable));
@@ -54,6 +75,66 @@ public class PerfumeSearchService {
         }
     }
 
+    private PerfumeListResponse getPerfumeSearchFromIndex(Pageable pageable, String type, String keyword) {
+        List<Long> perfumeIds;
+        switch (type) {
+            case "name":
+                perfumeIds = perfumeSearchIndex.searchByName(keyword);
+                break;
+            case "brand":
+                perfumeIds = perfumeSearchIndex.searchByBrand(keyword);
+                break;
+            case "accord":
+                perfumeIds = perfumeSearchIndex.searchByAccord(keyword);
+                break;
+            default:
+                throw new BusinessException(ErrorCode.SEARCH_NOT_EXIST_TYPE);
+        }
+
+        if (perfumeIds.isEmpty()) {
+            return PerfumeListResponse.createEmptyList();
+        }
+        return PerfumeListResponse.from(findPage(perfumeIds, pageable));
+    }
+
+    // 색인이 돌려준 id 목록(순서 유지) 중 요청한 페이지에 해당하는 향수만 DB 에서 가져온다.
+    // id 이외의 컬럼으로 정렬을 요청한 경우에는 정렬을 DB 에 맡긴다.
+    private Page<Perfume> findPage(List<Long> perfumeIds, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAllInOrder(perfumeIds));
+        }
+
+        Sort sort = pageable.getSort();
+        List<Long> orderedIds = perfumeIds;
+        if (sort.isSorted()) {
+            Order idOrder = sort.getOrderFor("id");
+            if (Objects.isNull(idOrder) || sort.stream().count() > 1) {
+                return perfumeRepository.findByIdIn(perfumeIds, pageable);
+            }
+            orderedIds = new ArrayList<>(perfumeIds);
+            Collections.sort(orderedIds);
+            if (idOrder.isDescending()) {
+                Collections.reverse(orderedIds);
+            }
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), orderedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), orderedIds.size());
+        return new PageImpl<>(findAllInOrder(orderedIds.subList(from, to)), pageable, orderedIds.size());
+    }
+
+    private List<Perfume> findAllInOrder(List<Long> perfumeIds) {
+        if (perfumeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Perfume> perfumes = perfumeRepository.findWithBrandByIdIn(perfumeIds).stream()
+            .collect(Collectors.toMap(Perfume::getId, Function.identity()));
+        return perfumeIds.stream()
+            .map(perfumes::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     private void checkKeywordLength(String keyword) {
         if (keyword.length() < MIN_KEYWORD_LENGTH) {
             throw new BusinessException(ErrorCode.SEARCH_TOO_SHORT_KEYWORD);
@@ -64,6 +145,18 @@ public class PerfumeSearchService {
     public PerfumeListResponse getPerfumeSearchAll(Pageable pageable, String keyword) {
         checkKeywordLength(keyword);
 
+        if (perfumeSearchEngine.isReady()) {
+            List<Long> perfumeIds = perfumeSearchEngine.search(keyword);
+            if (perfumeIds.isEmpty()) {
+                return PerfumeListResponse.createEmptyList();
+            }
+            return PerfumeListResponse.from(findPage(perfumeIds, pageable));
+        }
+
         return PerfumeListResponse.from(perfumeRepository.searchAll(keyword, pageable));
     }
+
+    public void rebuildIndex() {
+        perfumeSearchIndex.rebuild();
+    }
 }
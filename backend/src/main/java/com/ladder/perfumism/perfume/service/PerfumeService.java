@@ -1,69 +1,243 @@
 package com.ladder.perfumism.perfume.service;
 
+import com.ladder.perfumism.global.cache.CacheStats;
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.global.pagination.Cursor;
+import com.ladder.perfumism.global.transaction.AfterCommit;
 import com.ladder.perfumism.perfume.controller.dto.response.BrandListResponse;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeDetailResponse;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeListResponse;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeSimpleResponse;
+import com.ladder.perfumism.perfume.controller.dto.response.SimilarPerfumeResponse;
 import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.BrandRepository;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeAccord;
 import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
-import com.ladder.perfumism.perfume.domain.PerfumeMonthly;
-import com.ladder.perfumism.perfume.domain.PerfumeMonthlyRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
 import com.ladder.perfumism.perfume.domain.PerfumeRepository;
-import com.ladder.perfumism.perfume.domain.SimilarPerfume;
 import com.ladder.perfumism.perfume.domain.SimilarPerfumeRepository;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeDetailCache;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchIndex;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSimilarity;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeTrending;
+import com.ladder.perfumism.perfume.infrastructure.TrendingPeriod;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PerfumeService {
 
+    private static final String SORT_TOTAL_LIKE_DESC = "totalLike,desc";
+
     private final PerfumeRepository perfumeRepository;
     private final PerfumeAccordRepository perfumeAccordRepository;
     private final SimilarPerfumeRepository similarPerfumeRepository;
     private final BrandRepository brandRepository;
-    private final PerfumeMonthlyRepository perfumeMonthlyRepository;
+    private final PerfumeTrending perfumeTrending;
+    private final PerfumeDetailCache perfumeDetailCache;
+    private final LikeCountBuffer likeCountBuffer;
+    private final PerfumeSimilarity perfumeSimilarity;
+    private final PerfumeSearchIndex perfumeSearchIndex;
 
     public PerfumeService(PerfumeRepository perfumeRepository,
         PerfumeAccordRepository perfumeAccordRepository,
         SimilarPerfumeRepository similarPerfumeRepository, BrandRepository brandRepository,
-        PerfumeMonthlyRepository perfumeMonthlyRepository) {
+        PerfumeTrending perfumeTrending, PerfumeDetailCache perfumeDetailCache,
+        LikeCountBuffer likeCountBuffer, PerfumeSimilarity perfumeSimilarity,
+        PerfumeSearchIndex perfumeSearchIndex) {
         this.perfumeRepository = perfumeRepository;
         this.perfumeAccordRepository = perfumeAccordRepository;
         this.similarPerfumeRepository = similarPerfumeRepository;
         this.brandRepository = brandRepository;
-        this.perfumeMonthlyRepository = perfumeMonthlyRepository;
+        this.perfumeTrending = perfumeTrending;
+        this.perfumeDetailCache = perfumeDetailCache;
+        this.likeCountBuffer = likeCountBuffer;
+        this.perfumeSimilarity = perfumeSimilarity;
+        this.perfumeSearchIndex = perfumeSearchIndex;
     }
 
     @Transactional(readOnly = true)
     public PerfumeDetailResponse viewDetailPerfume(Long perfumeId) {
+        PerfumeDetailResponse cached = perfumeDetailCache.get(perfumeId);
+        if (cached != null) {
+            return withPendingLikes(cached);
+        }
+
+        long cacheVersion = perfumeDetailCache.currentVersion(perfumeId);
         Perfume perfume = perfumeRepository.findById(perfumeId)
             .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_NOT_FOUND_BY_ID));
 
         List<PerfumeAccord> perfumeAccords = perfumeAccordRepository.findByPerfumeId(perfume);
 
-        List<SimilarPerfume> similarPerfumes = similarPerfumeRepository.findByOriginId(perfume);
+        List<SimilarPerfumeResponse> similarPerfumes = findSimilarPerfumes(perfume);
+
+        PerfumeDetailResponse response = PerfumeDetailResponse.from(perfume, perfumeAccords, similarPerfumes);
+        perfumeDetailCache.put(perfumeId, response, cacheVersion);
+
+        return withPendingLikes(response);
+    }
+
+    // 유사도 엔진이 준비되기 전에는 similar_perfume 테이블의 결과를 그대로 쓴다.
+    private List<SimilarPerfumeResponse> findSimilarPerfumes(Perfume perfume) {
+        if (!perfumeSimilarity.isReady()) {
+            return similarPerfumeRepository.findByOriginId(perfume).stream()
+                .map(SimilarPerfumeResponse::from)
+                .collect(Collectors.toList());
+        }
+
+        List<Long> similarIds = perfumeSimilarity.getSimilarPerfumeIds(perfume.getId());
+        if (similarIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Perfume> perfumes = perfumeRepository.findWithBrandByIdIn(similarIds).stream()
+            .collect(Collectors.toMap(Perfume::getId, Function.identity()));
+        return similarIds.stream()
+            .map(perfumes::get)
+            .filter(Objects::nonNull)
+            .map(SimilarPerfumeResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    public void rebuildSimilarPerfumes() {
+        perfumeSimilarity.rebuild();
+        perfumeDetailCache.expireAll();
+    }
+
+    private PerfumeDetailResponse withPendingLikes(PerfumeDetailResponse response) {
+        int pending = likeCountBuffer.pendingPerfumeLike(response.getId());
+        if (pending == 0) {
+            return response;
+        }
+        Integer likes = response.getLikes() == null ? 0 : response.getLikes();
+        return response.withCounts(likes + pending, response.getAverageGrade(),
+            response.getTotalSurvey());
+    }
+
+    // 좋아요 행을 쓰기 전에 부른다. write-behind 모드에서 이 트랜잭션이 끝날 때까지 좋아요 수 보정을 미룬다.
+    public void enterLikeWrite() {
+        likeCountBuffer.enterLikeWrite();
+    }
+
+    // 좋아요 수는 읽어서 다시 쓰지 않고 update 한 번으로 더하고 뺀다.
+    @Transactional
+    public void addTotalLike(Long perfumeId, Integer delta) {
+        AfterCommit.run(() -> perfumeSearchIndex.addPopularity(perfumeId, delta));
+        if (likeCountBuffer.isEnabled()) {
+            likeCountBuffer.addPerfumeLike(perfumeId, delta);
+            return;
+        }
+        perfumeRepository.addTotalLike(perfumeId, delta);
+        perfumeDetailCache.expireCounts(perfumeId);
+    }
+
+    @Transactional
+    public Integer reconcileTotalLikes() {
+        Integer updated = perfumeRepository.reconcileTotalLike();
+        if (updated > 0) {
+            perfumeDetailCache.expireAll();
+        }
+        return updated;
+    }
+
+    // 리뷰 작성, 평점 수정, 삭제를 평점 합/개수의 증감으로 반영한다. 평점 0 은 평점 없음으로 보고 평균에서 뺀다.
+    @Transactional
+    public void updateReviewStats(Long perfumeId, long surveyDelta, Integer removedGrade, Integer addedGrade) {
+        long sumDelta = gradeOf(addedGrade) - gradeOf(removedGrade);
+        long countDelta = countOf(addedGrade) - countOf(removedGrade);
+        if (surveyDelta == 0 && sumDelta == 0 && countDelta == 0) {
+            return;
+        }
+        perfumeRepository.addReviewStats(perfumeId, surveyDelta, sumDelta, countDelta);
+        perfumeDetailCache.expireCounts(perfumeId);
+        if (surveyDelta != 0) {
+            AfterCommit.run(() -> perfumeSearchIndex.addPopularity(perfumeId, surveyDelta));
+        }
+    }
+
+    private long gradeOf(Integer grade) {
+        return countOf(grade) == 0 ? 0 : grade;
+    }
+
+    private long countOf(Integer grade) {
+        return grade != null && grade > 0 ? 1 : 0;
+    }
+
+    @Transactional
+    public Integer reconcileGrades() {
+        Integer updated = perfumeRepository.reconcileGrade();
+        if (updated > 0) {
+            perfumeDetailCache.expireAll();
+        }
+        return updated;
+    }
+
+    public void expireDetailCounts(Long perfumeId) {
+        perfumeDetailCache.expireCounts(perfumeId);
+    }
 
-        return PerfumeDetailResponse.from(perfume, perfumeAccords, similarPerfumes);
+    public CacheStats getDetailCacheStats() {
+        return perfumeDetailCache.stats();
     }
 
     @Transactional(readOnly = true)
     public PerfumeListResponse getPerfumeList(Pageable pageable) {
-        Page<Perfume> perfumeList = perfumeRepository.findAll(pageable);
+        Page<PerfumeListItem> perfumeList = perfumeRepository.findListItems(pageable);
 
-        return PerfumeListResponse.from(perfumeList);
+        return PerfumeListResponse.fromItems(perfumeList);
+    }
+
+    @Transactional(readOnly = true)
+    public PerfumeListResponse getPerfumeSlice(String cursor, Pageable pageable) {
+        Pageable limit = PageRequest.of(0, pageable.getPageSize());
+        Order order = pageable.getSort().stream()
+            .findFirst()
+            .orElse(Order.asc("id"));
+
+        Slice<PerfumeListItem> perfumeList;
+        String nextCursor;
+        if (order.getProperty().equals("id") && order.isAscending()) {
+            Long lastId = Cursor.isFirstPage(cursor) ? 0L : Cursor.decode(cursor, Cursor.SORT_ID_ASC).getId();
+            perfumeList = perfumeRepository.findListItemsByIdGreaterThan(lastId, limit);
+            nextCursor = Cursor.nextCursor(perfumeList, perfume -> Cursor.ofId(Cursor.SORT_ID_ASC, perfume.getId()));
+        } else if (order.getProperty().equals("id")) {
+            Long lastId = Cursor.isFirstPage(cursor)
+                ? Long.MAX_VALUE : Cursor.decode(cursor, Cursor.SORT_ID_DESC).getId();
+            perfumeList = perfumeRepository.findListItemsByIdLessThan(lastId, limit);
+            nextCursor = Cursor.nextCursor(perfumeList, perfume -> Cursor.ofId(Cursor.SORT_ID_DESC, perfume.getId()));
+        } else if (order.getProperty().equals("totalLike") && order.isDescending()) {
+            Integer lastTotalLike = Integer.MAX_VALUE;
+            Long lastId = 0L;
+            if (!Cursor.isFirstPage(cursor)) {
+                Cursor decoded = Cursor.decode(cursor, SORT_TOTAL_LIKE_DESC);
+                lastTotalLike = decoded.getKeyAsLong().intValue();
+                lastId = decoded.getId();
+            }
+            perfumeList = perfumeRepository.findNextListItemsByTotalLike(lastTotalLike, lastId, limit);
+            nextCursor = Cursor.nextCursor(perfumeList,
+                perfume -> Cursor.of(SORT_TOTAL_LIKE_DESC, totalLikeOf(perfume), perfume.getId()));
+        } else {
+            throw new BusinessException(ErrorCode.GLOBAL_NOT_SUPPORTED_CURSOR_SORT);
+        }
+
+        return PerfumeListResponse.fromSlice(perfumeList, nextCursor);
+    }
+
+    private int totalLikeOf(PerfumeListItem perfume) {
+        return Objects.isNull(perfume.getTotalLike()) ? 0 : perfume.getTotalLike();
     }
 
     @Transactional(readOnly = true)
@@ -79,24 +253,15 @@ public class PerfumeService {
             .orElseThrow(() -> new BusinessException(ErrorCode.PERFUME_NOT_FOUND_BY_ID));
     }
 
-    @Transactional
-    public void refreshingMonthlyPerfumeList() {
-        LocalDateTime startDatetime = LocalDateTime.of(LocalDate.now().minusMonths(1), LocalTime.of(0, 0, 0));
-        LocalDateTime endDatetime = LocalDateTime.of(LocalDate.now(), LocalTime.of(23, 59, 59));
-
-        List<PerfumeMonthly> monthlies = perfumeMonthlyRepository.CountLikePerfume(startDatetime, endDatetime,
-            PageRequest.of(0, 3));
-
-        perfumeMonthlyRepository.updateDeletedAtAll();
-        perfumeMonthlyRepository.saveAll(monthlies);
+    public void refreshTrendingPerfumeList() {
+        perfumeTrending.refresh();
     }
 
-    @Transactional(readOnly = true)
     public List<PerfumeSimpleResponse> getMonthlyPerfumeList() {
-        List<PerfumeMonthly> perfumeMonthlyList = perfumeMonthlyRepository.findAll();
+        return perfumeTrending.getRanking(TrendingPeriod.MONTHLY);
+    }
 
-        return perfumeMonthlyList.stream()
-            .map(PerfumeSimpleResponse::from)
-            .collect(Collectors.toList());
+    public List<PerfumeSimpleResponse> getTrendingPerfumeList(String period) {
+        return perfumeTrending.getRanking(TrendingPeriod.from(period));
     }
 }
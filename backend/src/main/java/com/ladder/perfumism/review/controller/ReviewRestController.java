@@ -8,6 +8,7 @@ import com.ladder.perfumism.review.domain.Review;
 import com.ladder.perfumism.review.service.ReviewService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -53,13 +55,22 @@ public class ReviewRestController {
     }
 
     @GetMapping("/reviews/perfumes/{perfume_id}")
-    @ApiOperation(value = "리뷰 목록 조회", notes = "특정 향수의 리뷰 목록을 조회하는 API 입니다.")
+    @ApiOperation(value = "리뷰 목록 조회", notes = "특정 향수의 리뷰 목록을 조회하는 API 입니다.\n"
+        + "cursor 파라미터를 보내면 최신순 커서 페이지로 조회합니다. (첫 페이지는 빈 값, 이후에는 응답의 next_cursor)")
     @ApiResponses({
+        @ApiResponse(code = 400, message = "BAD_REQUEST\n잘못된 커서 값일 때(Z03)"),
         @ApiResponse(code = 404, message = "NOT_FOUND\n향수 ID가 존재하지 않을 때(S01)")
     })
-    @ApiImplicitParam(name = "perfume_id", value = "리뷰 목록을 불러올 향수 ID", required = true)
+    @ApiImplicitParams({
+        @ApiImplicitParam(name = "perfume_id", value = "리뷰 목록을 불러올 향수 ID", required = true),
+        @ApiImplicitParam(name = "cursor", value = "다음 페이지 커서 (커서 페이지 조회 시)")
+    })
     public ResponseEntity<ReviewPageResponse> viewReviewPage(@PathVariable(value = "perfume_id") Long perfumeId,
-        @PageableDefault(sort = "id", direction = Direction.DESC) Pageable pageable) {
+        @PageableDefault(sort = "id", direction = Direction.DESC) Pageable pageable,
+        @RequestParam(value = "cursor", required = false) String cursor) {
+        if (cursor != null) {
+            return ResponseEntity.ok().body(reviewService.getReviewSlice(perfumeId, cursor, pageable));
+        }
         return ResponseEntity.ok().body(reviewService.getReviewPage(perfumeId, pageable));
     }
 
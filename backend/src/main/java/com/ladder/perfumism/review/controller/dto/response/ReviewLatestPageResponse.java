@@ -1,7 +1,7 @@
 package com.ladder.perfumism.review.controller.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ladder.perfumism.review.domain.Review;
+import com.ladder.perfumism.review.domain.ReviewLatestItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,7 +32,7 @@ public class ReviewLatestPageResponse {
     }
 
 
-    public static ReviewLatestPageResponse from(Page<Review> reviews){
+    public static ReviewLatestPageResponse from(Page<ReviewLatestItem> reviews){
         return new ReviewLatestPageResponse(
             reviews.stream()
                 .map(ReviewLatestResponse::from)
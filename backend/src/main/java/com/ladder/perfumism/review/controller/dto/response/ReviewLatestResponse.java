@@ -2,7 +2,7 @@ package com.ladder.perfumism.review.controller.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.ladder.perfumism.review.domain.Review;
+import com.ladder.perfumism.review.domain.ReviewLatestItem;
 import io.swagger.annotations.ApiModelProperty;
 import java.time.LocalDateTime;
 
@@ -66,15 +66,15 @@ public class ReviewLatestResponse {
         this.createdAt = createdAt;
     }
 
-    public static ReviewLatestResponse from(Review review) {
+    public static ReviewLatestResponse from(ReviewLatestItem review) {
         return new ReviewLatestResponse(
             review.getId(),
-            review.getPerfumeId().getId(),
-            review.getPerfumeId().getName(),
-            review.getPerfumeId().getImage(),
-            review.getMemberId().getId(),
-            review.getMemberId().getUsername(),
-            review.getMemberId().getImage(),
+            review.getPerfumeId(),
+            review.getPerfumeName(),
+            review.getPerfumeImage(),
+            review.getMemberId(),
+            review.getMemberName(),
+            review.getMemberImage(),
             review.getGrade(),
             review.getContent(),
             review.getCreatedAt()
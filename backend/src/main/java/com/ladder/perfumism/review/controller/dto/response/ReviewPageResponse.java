@@ -1,12 +1,16 @@
 package com.ladder.perfumism.review.controller.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ladder.perfumism.review.domain.Review;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.List;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 public class ReviewPageResponse {
@@ -23,6 +27,16 @@ public class ReviewPageResponse {
     @ApiModelProperty(position = 2, notes = "현재 페이지", example = "0")
     private int currentPageCount;
 
+    @JsonProperty("has_next")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 3, notes = "다음 페이지 존재 여부 (커서 페이지 조회 시에만 포함)", example = "true")
+    private Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    @JsonInclude(Include.NON_NULL)
+    @ApiModelProperty(position = 4, notes = "다음 페이지 커서 (커서 페이지 조회 시에만 포함)", example = "aWQsZGVzYwoxMgoxMg")
+    private String nextCursor;
+
     public ReviewPageResponse() {
     }
 
@@ -32,6 +46,14 @@ public class ReviewPageResponse {
         this.currentPageCount = currentPageCount;
     }
 
+    // 아직 DB 에 반영되지 않은 좋아요 증감량을 더한다.
+    public ReviewPageResponse plusPendingLikes(ToIntFunction<Long> pendingLikes) {
+        this.reviewResponses = reviewResponses.stream()
+            .map(review -> review.plusLikes(pendingLikes.applyAsInt(review.getReviewId())))
+            .collect(Collectors.toList());
+        return this;
+    }
+
     public static ReviewPageResponse from(Page<Review> reviews){
         return new ReviewPageResponse(
             reviews.stream()
@@ -41,4 +63,17 @@ public class ReviewPageResponse {
             reviews.getNumber()
         );
     }
+
+    public static ReviewPageResponse fromSlice(Slice<Review> reviews, String nextCursor) {
+        ReviewPageResponse response = new ReviewPageResponse(
+            reviews.stream()
+                .map(ReviewResponse::from)
+                .collect(Collectors.toList()),
+            0,
+            0
+        );
+        response.hasNext = reviews.hasNext();
+        response.nextCursor = nextCursor;
+        return response;
+    }
 }
@@ -58,6 +58,15 @@ public class ReviewResponse {
         this.createdAt = createdAt;
     }
 
+    public ReviewResponse plusLikes(int pending) {
+        if (pending == 0) {
+            return this;
+        }
+        return new ReviewResponse(reviewId, memberId, memberName, memberImage, grade, content,
+            (likes == null ? 0 : likes) + pending,
+            createdAt);
+    }
+
     public static ReviewResponse from(Review review) {
         return new ReviewResponse(
             review.getId(),
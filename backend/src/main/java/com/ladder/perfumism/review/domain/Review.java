@@ -17,10 +17,12 @@ import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import lombok.Builder;
 import lombok.Getter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Where;
 
 @Getter
 @Entity
+@DynamicUpdate
 @Where(clause = "deleted_at is null")
 public class Review extends BaseEntity {
 
@@ -105,8 +107,4 @@ public class Review extends BaseEntity {
     public void changeContent(String content) {
         this.content = content;
     }
-
-    public void saveLike(Integer totalLike) {
-        this.totalLike = totalLike;
-    }
 }
\ No newline at end of file
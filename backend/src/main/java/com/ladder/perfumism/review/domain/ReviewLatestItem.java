@@ -0,0 +1,26 @@
+package com.ladder.perfumism.review.domain;
+
+import java.time.LocalDateTime;
+
+public interface ReviewLatestItem {
+
+    Long getId();
+
+    Long getPerfumeId();
+
+    String getPerfumeName();
+
+    String getPerfumeImage();
+
+    Long getMemberId();
+
+    String getMemberName();
+
+    String getMemberImage();
+
+    Integer getGrade();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+}
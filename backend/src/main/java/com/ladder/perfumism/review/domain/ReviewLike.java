@@ -10,12 +10,15 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import org.hibernate.annotations.Where;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_like_member_review", columnNames = {"member_id", "review_id"}))
 @Where(clause = "deleted_at is null")
 public class ReviewLike extends BaseEntity {
 
@@ -15,6 +15,23 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     Integer countByReviewId(Review review);
 
+    // (member_id, review_id) 는 unique 이므로 예전에 취소한 좋아요가 있으면 그 row 를 되살린다.
+    @Modifying
+    @Query(nativeQuery = true, value = "update review_like rl "
+        + "set rl.deleted_at = null, rl.created_at = current_timestamp, rl.updated_at = current_timestamp "
+        + "where rl.member_id = :memberId "
+        + "and rl.review_id = :reviewId "
+        + "and rl.deleted_at is not null")
+    Integer restoreByMemberIdAndReviewId(@Param("memberId") Long memberId, @Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query(value = "update ReviewLike rl "
+        + "set rl.deletedAt = current_timestamp "
+        + "where rl.memberId = :member "
+        + "and rl.reviewId = :review "
+        + "and rl.deletedAt is null")
+    Integer updateDeletedAtByMemberIdAndReviewId(@Param("member") Member member, @Param("review") Review review);
+
     @Modifying
     @Query(value = "update ReviewLike rl "
         + "set rl.deletedAt = current_timestamp "
@@ -5,6 +5,8 @@ import com.ladder.perfumism.perfume.domain.Perfume;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,19 +14,39 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    // 최신 리뷰 목록 응답에 필요한 컬럼만 조회한다. 엔티티를 만들지 않으므로 영속성 컨텍스트와 변경 감지를 거치지 않는다.
+    @Query(value = "select r.id as id, p.id as perfumeId, p.name as perfumeName, p.image as perfumeImage, "
+        + "m.id as memberId, m.username as memberName, m.image as memberImage, "
+        + "r.grade as grade, r.content as content, r.createdAt as createdAt "
+        + "from Review r left join r.perfumeId p left join r.memberId m",
+        countQuery = "select count(r) from Review r")
+    Page<ReviewLatestItem> findLatestItems(Pageable pageable);
+
+    @EntityGraph(attributePaths = "memberId")
     Page<Review> findByPerfumeId(Perfume perfume, Pageable pageable);
 
+    @EntityGraph(attributePaths = "memberId")
+    Slice<Review> findByPerfumeIdAndIdLessThanOrderByIdDesc(Perfume perfume, Long id, Pageable pageable);
+
     Page<Review> findByMemberId(Member member, Pageable pageable);
 
     Optional<Review> findByMemberIdAndPerfumeId(Member member, Perfume perfume);
 
     Boolean existsByMemberIdAndPerfumeId(Member member, Perfume perfume);
 
-    @Query(nativeQuery = true, value = "select avg(cast(r.grade as float)) from review r "
-        + "where r.perfume_id in (:ids) "
-        + "and r.deleted_at is null "
-        + "and r.grade > 0")
-    Double avgGradeByPerfumeId(@Param("ids") Long perfumeId);
+    @Modifying
+    @Query(value = "update Review r "
+        + "set r.totalLike = coalesce(r.totalLike, 0) + :delta "
+        + "where r.id = :id")
+    Integer addTotalLike(@Param("id") Long id, @Param("delta") Integer delta);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "update review r "
+        + "left join (select rl.review_id, count(*) as like_count from review_like rl "
+        + "where rl.deleted_at is null group by rl.review_id) l on l.review_id = r.review_id "
+        + "set r.total_like = coalesce(l.like_count, 0) "
+        + "where r.total_like is null or r.total_like <> coalesce(l.like_count, 0)")
+    Integer reconcileTotalLike();
 
     @Modifying
     @Query(value = "update Review r "
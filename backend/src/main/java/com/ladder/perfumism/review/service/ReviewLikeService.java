@@ -1,5 +1,6 @@
 package com.ladder.perfumism.review.service;
 
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
 import com.ladder.perfumism.member.domain.Member;
@@ -9,6 +10,7 @@ import com.ladder.perfumism.review.domain.Review;
 import com.ladder.perfumism.review.domain.ReviewLike;
 import com.ladder.perfumism.review.domain.ReviewLikeRepository;
 import com.ladder.perfumism.review.domain.ReviewRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,12 +20,14 @@ public class ReviewLikeService {
     private final MemberService memberService;
     private final ReviewRepository reviewRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     public ReviewLikeService(MemberService memberService, ReviewRepository reviewRepository,
-        ReviewLikeRepository reviewLikeRepository) {
+        ReviewLikeRepository reviewLikeRepository, LikeCountBuffer likeCountBuffer) {
         this.memberService = memberService;
         this.reviewRepository = reviewRepository;
         this.reviewLikeRepository = reviewLikeRepository;
+        this.likeCountBuffer = likeCountBuffer;
     }
 
     @Transactional
@@ -33,17 +37,34 @@ public class ReviewLikeService {
             .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND_BY_ID));
 
         doNotLikeYourReview(member, review);
-        alreadyLikeReview(member, review);
 
-        ReviewLike reviewLike = reviewLikeRepository.save(ReviewLike.createReviewLike(review, member));
+        likeCountBuffer.enterLikeWrite();
+        Long reviewLikeId = saveOrRestoreLike(member, review);
 
-        review.saveLike(reviewLikeRepository.countByReviewId(review));
+        addTotalLike(review.getId(), 1);
 
-        return reviewLike.getId();
+        return reviewLikeId;
     }
 
-    private void alreadyLikeReview(Member member, Review review) {
-        if (reviewLikeRepository.existsByMemberIdAndReviewId(member, review)) {
+    private void addTotalLike(Long reviewId, Integer delta) {
+        if (likeCountBuffer.isEnabled()) {
+            likeCountBuffer.addReviewLike(reviewId, delta);
+            return;
+        }
+        reviewRepository.addTotalLike(reviewId, delta);
+    }
+
+    // 이미 좋아요한 경우는 exists 로 미리 확인하지 않고 (member_id, review_id) unique 제약으로 막는다.
+    private Long saveOrRestoreLike(Member member, Review review) {
+        if (reviewLikeRepository.restoreByMemberIdAndReviewId(member.getId(), review.getId()) > 0) {
+            return reviewLikeRepository.findByMemberIdAndReviewId(member, review)
+                .map(ReviewLike::getId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_ALREADY_LIKE));
+        }
+
+        try {
+            return reviewLikeRepository.saveAndFlush(ReviewLike.createReviewLike(review, member)).getId();
+        } catch (DataIntegrityViolationException e) {
             throw new BusinessException(ErrorCode.REVIEW_ALREADY_LIKE);
         }
     }
@@ -71,11 +92,16 @@ public class ReviewLikeService {
         Review review = reviewRepository.findById(reviewId)
             .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_FOUND_BY_ID));
 
-        ReviewLike reviewLike = reviewLikeRepository.findByMemberIdAndReviewId(member, review)
-            .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_LIKE_THIS_BEFORE));
+        likeCountBuffer.enterLikeWrite();
+        if (reviewLikeRepository.updateDeletedAtByMemberIdAndReviewId(member, review) == 0) {
+            throw new BusinessException(ErrorCode.REVIEW_NOT_LIKE_THIS_BEFORE);
+        }
 
-        reviewLike.saveDeletedTime();
+        addTotalLike(review.getId(), -1);
+    }
 
-        review.saveLike(reviewLikeRepository.countByReviewId(review));
+    @Transactional
+    public Integer reconcileTotalLikes() {
+        return reviewRepository.reconcileTotalLike();
     }
 }
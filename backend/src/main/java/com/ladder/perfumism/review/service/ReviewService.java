@@ -1,7 +1,9 @@
 package com.ladder.perfumism.review.service;
 
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.global.pagination.Cursor;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
 import com.ladder.perfumism.perfume.service.PerfumeService;
@@ -14,7 +16,9 @@ import com.ladder.perfumism.review.domain.Review;
 import com.ladder.perfumism.review.domain.ReviewLikeRepository;
 import com.ladder.perfumism.review.domain.ReviewRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +29,15 @@ public class ReviewService {
     private final MemberService memberService;
     private final PerfumeService perfumeService;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final LikeCountBuffer likeCountBuffer;
 
     public ReviewService(ReviewRepository reviewRepository, MemberService memberService,
-        PerfumeService perfumeService, ReviewLikeRepository reviewLikeRepository) {
+        PerfumeService perfumeService, ReviewLikeRepository reviewLikeRepository, LikeCountBuffer likeCountBuffer) {
         this.reviewRepository = reviewRepository;
         this.memberService = memberService;
         this.perfumeService = perfumeService;
         this.reviewLikeRepository = reviewLikeRepository;
+        this.likeCountBuffer = likeCountBuffer;
     }
 
     @Transactional
@@ -43,21 +49,11 @@ public class ReviewService {
 
         Review review = reviewRepository.save(Review.createReview(perfume, member, request));
 
-        averageGrade(perfume);
-        perfume.increaseTotalSurvey();
+        perfumeService.updateReviewStats(perfume.getId(), 1, null, request.getGrade());
 
         return review;
     }
 
-    private void averageGrade(Perfume perfume) {
-        Double avgGrade = reviewRepository.avgGradeByPerfumeId(perfume.getId());
-        if (avgGrade == null) {
-            perfume.saveGrade(0.0);
-            return;
-        }
-        perfume.saveGrade(avgGrade);
-    }
-
     private void alreadyWritten(Member member, Perfume perfume) {
         if (reviewRepository.existsByMemberIdAndPerfumeId(member, perfume)) {
             throw new BusinessException(ErrorCode.REVIEW_ALREADY_WRITTEN);
@@ -70,7 +66,20 @@ public class ReviewService {
 
         Page<Review> reviewList = reviewRepository.findByPerfumeId(perfume, pageable);
 
-        return ReviewPageResponse.from(reviewList);
+        return ReviewPageResponse.from(reviewList).plusPendingLikes(likeCountBuffer::pendingReviewLike);
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewPageResponse getReviewSlice(Long perfumeId, String cursor, Pageable pageable) {
+        Perfume perfume = perfumeService.findById(perfumeId);
+
+        Long lastId = Cursor.isFirstPage(cursor) ? Long.MAX_VALUE : Cursor.decode(cursor, Cursor.SORT_ID_DESC).getId();
+        Slice<Review> reviewList = reviewRepository.findByPerfumeIdAndIdLessThanOrderByIdDesc(perfume, lastId,
+            PageRequest.of(0, pageable.getPageSize()));
+
+        return ReviewPageResponse.fromSlice(reviewList,
+                Cursor.nextCursor(reviewList, review -> Cursor.ofId(Cursor.SORT_ID_DESC, review.getId())))
+            .plusPendingLikes(likeCountBuffer::pendingReviewLike);
     }
 
     @Transactional
@@ -81,8 +90,9 @@ public class ReviewService {
         isYourReview(email, review);
 
         if (!request.getGrade().equals(review.getGrade())) {
+            Integer oldGrade = review.getGrade();
             review.changeGrade(request.getGrade());
-            averageGrade(review.getPerfumeId());
+            perfumeService.updateReviewStats(review.getPerfumeId().getId(), 0, oldGrade, review.getGrade());
         }
 
         review.changeContent(request.getContent());
@@ -106,8 +116,7 @@ public class ReviewService {
         reviewLikeRepository.updateDeletedAtByReviewId(review);
 
         review.saveDeletedTime();
-        averageGrade(review.getPerfumeId());
-        review.getPerfumeId().decreaseTotalSurvey();
+        perfumeService.updateReviewStats(review.getPerfumeId().getId(), -1, review.getGrade(), null);
     }
 
     @Transactional(readOnly = true)
@@ -116,7 +125,7 @@ public class ReviewService {
 
         Page<Review> reviewList = reviewRepository.findByMemberId(member, pageable);
 
-        return ReviewPageResponse.from(reviewList);
+        return ReviewPageResponse.from(reviewList).plusPendingLikes(likeCountBuffer::pendingReviewLike);
     }
 
     @Transactional(readOnly = true)
@@ -127,12 +136,12 @@ public class ReviewService {
         Review review = reviewRepository.findByMemberIdAndPerfumeId(member, perfume)
             .orElseThrow(() -> new BusinessException(ErrorCode.REVIEW_NOT_WRITTEN_THIS_PERFUME));
 
-        return ReviewResponse.from(review);
+        return ReviewResponse.from(review).plusLikes(likeCountBuffer.pendingReviewLike(review.getId()));
     }
 
     @Transactional(readOnly = true)
     public ReviewLatestPageResponse getLatestReviewPage(Pageable pageable) {
-        return ReviewLatestPageResponse.from(reviewRepository.findAll(pageable));
+        return ReviewLatestPageResponse.from(reviewRepository.findLatestItems(pageable));
     }
 
     @Transactional
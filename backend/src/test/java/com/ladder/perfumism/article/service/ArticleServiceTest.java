@@ -8,6 +8,7 @@ import com.ladder.perfumism.article.controller.dto.request.ArticleCreateRequest;
 import com.ladder.perfumism.article.controller.dto.response.ArticleReadListResponse;
 import com.ladder.perfumism.article.domain.Article;
 import com.ladder.perfumism.article.domain.ArticleImageRepository;
+import com.ladder.perfumism.article.domain.ArticleListItem;
 import com.ladder.perfumism.article.domain.ArticleRepository;
 import com.ladder.perfumism.article.domain.ArticleSubject;
 import com.ladder.perfumism.auth.domain.Authority;
@@ -22,6 +23,7 @@ import com.ladder.perfumism.vote.domain.VoteItemRepository;
 import com.ladder.perfumism.vote.domain.VoteMember;
 import com.ladder.perfumism.vote.domain.VoteMemberRepository;
 import com.ladder.perfumism.vote.domain.VoteRepository;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -104,11 +106,11 @@ public class ArticleServiceTest {
         ArticleSubject subject = ArticleSubject.RECOMMEND;
         Pageable pageable = PageRequest.of(FIRST_PAGE, DEFAULT_SIZE, Sort.by("id").descending());
 
-        List<Article> articles = new ArrayList<>();
-        articles.add(article);
-        Page<Article> articlePage = new PageImpl<>(articles);
-        given(articleRepository.findBySubject(subject,pageable)).willReturn(articlePage);
-        given(articleRepository.findAll(pageable)).willReturn(articlePage);
+        List<ArticleListItem> articles = new ArrayList<>();
+        articles.add(createArticleListItem(article));
+        Page<ArticleListItem> articlePage = new PageImpl<>(articles);
+        given(articleRepository.findListItemsBySubject(subject,pageable)).willReturn(articlePage);
+        given(articleRepository.findListItems(pageable)).willReturn(articlePage);
 
         // when
         ArticleReadListResponse result1 = articleService.showArticleList(pageable,subject);
@@ -155,4 +157,53 @@ public class ArticleServiceTest {
 //        // then
 //        assertThat(article.getDeletedAt()).isNotNull();
 //    }
+
+    private ArticleListItem createArticleListItem(Article article) {
+        return new ArticleListItem() {
+            @Override
+            public Long getId() {
+                return article.getId();
+            }
+
+            @Override
+            public Long getMemberId() {
+                return article.getMember().getId();
+            }
+
+            @Override
+            public String getMemberName() {
+                return article.getMember().getUsername();
+            }
+
+            @Override
+            public ArticleSubject getSubject() {
+                return article.getSubject();
+            }
+
+            @Override
+            public String getTitle() {
+                return article.getTitle();
+            }
+
+            @Override
+            public String getContent() {
+                return article.getContent();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return article.getCreatedAt();
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return article.getUpdatedAt();
+            }
+
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return article.getDeletedAt();
+            }
+        };
+    }
 }
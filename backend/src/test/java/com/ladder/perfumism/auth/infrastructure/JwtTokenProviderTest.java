@@ -0,0 +1,61 @@
+package com.ladder.perfumism.auth.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.global.cache.CacheStats;
+import com.ladder.perfumism.global.exception.JwtException;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setup() {
+        jwtTokenProvider = provider(60_000L);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 인증 정보를 돌려준다.")
+    void resolveAccessTokenCacheTest() {
+        String accessToken = jwtTokenProvider.createToken("test@test.com", Authority.ROLE_MEMBER).getAccessToken();
+
+        Authentication first = jwtTokenProvider.resolveAccessToken(accessToken);
+        Authentication second = jwtTokenProvider.resolveAccessToken(accessToken);
+
+        assertThat(first.getName()).isEqualTo("test@test.com");
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly(Authority.ROLE_MEMBER.getAuthorityCode());
+        assertThat(second).isSameAs(first);
+        CacheStats stats = jwtTokenProvider.getAccessTokenCacheStats();
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료되었거나 서명이 다른 토큰은 캐시에 넣지 않는다.")
+    void resolveInvalidAccessTokenTest() {
+        String expired = provider(-1_000L).createToken("test@test.com", Authority.ROLE_MEMBER).getAccessToken();
+        String accessToken = jwtTokenProvider.createToken("test@test.com", Authority.ROLE_MEMBER).getAccessToken();
+        String forged = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "AAAA";
+
+        assertThatThrownBy(() -> jwtTokenProvider.resolveAccessToken(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.resolveAccessToken(forged)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.resolveAccessToken(forged)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.getAccessTokenCacheStats().getSize()).isZero();
+    }
+
+    private JwtTokenProvider provider(long accessTime) {
+        return new JwtTokenProvider("JWT", "perfumism", SECRET, accessTime, 60_000L, new AccessTokenCache(100, 1800));
+    }
+}
@@ -0,0 +1,108 @@
+package com.ladder.perfumism.comment.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ladder.perfumism.comment.controller.response.CommentReadResponse;
+import com.ladder.perfumism.comment.controller.response.CommentReplyReadResponse;
+import com.ladder.perfumism.comment.domain.CommentItem;
+import com.ladder.perfumism.comment.domain.CommentReplyPreview;
+import com.ladder.perfumism.comment.domain.CommentRepository;
+import com.ladder.perfumism.global.pagination.Cursor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentThreadLoaderTest {
+
+    private static final int REPLY_PREFETCH_SIZE = 2;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private CommentThreadLoader commentThreadLoader;
+
+    @BeforeEach
+    void setup() {
+        commentThreadLoader = new CommentThreadLoader(commentRepository, REPLY_PREFETCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("부모 댓글마다 대댓글을 묶고, 잘린 스레드에는 대댓글 커서를 붙인다.")
+    void loadTest() {
+        // given
+        List<CommentItem> parents = Arrays.asList(comment(3L, null), comment(2L, null), comment(1L, null));
+        given(commentRepository.findReplyPreviews(Arrays.asList(3L, 2L, 1L), REPLY_PREFETCH_SIZE))
+            .willReturn(Arrays.asList(preview(10L, 3L, 5L), preview(11L, 3L, 5L), preview(20L, 2L, 1L)));
+        given(commentRepository.findItemsByIdIn(Arrays.asList(10L, 11L, 20L)))
+            .willReturn(Arrays.asList(comment(10L, 3L), comment(11L, 3L), comment(20L, 2L)));
+
+        // when
+        List<CommentReadResponse> result = commentThreadLoader.load(parents);
+
+        // then
+        assertThat(result).extracting(CommentReadResponse::getCommentId).containsExactly(3L, 2L, 1L);
+
+        assertThat(result.get(0).getReplyList()).extracting(CommentReplyReadResponse::getCommentId)
+            .containsExactly(10L, 11L);
+        assertThat(result.get(0).getReplyCount()).isEqualTo(5L);
+        assertThat(Cursor.decode(result.get(0).getNextReplyCursor(), Cursor.SORT_ID_ASC).getId()).isEqualTo(11L);
+
+        assertThat(result.get(1).getReplyList()).extracting(CommentReplyReadResponse::getCommentId)
+            .containsExactly(20L);
+        assertThat(result.get(1).getReplyCount()).isEqualTo(1L);
+        assertThat(result.get(1).getNextReplyCursor()).isNull();
+
+        assertThat(result.get(2).getReplyList()).isEmpty();
+        assertThat(result.get(2).getReplyCount()).isZero();
+        assertThat(result.get(2).getNextReplyCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("부모 댓글이 없으면 대댓글을 조회하지 않는다.")
+    void loadEmptyTest() {
+        // when
+        List<CommentReadResponse> result = commentThreadLoader.load(new ArrayList<>());
+
+        // then
+        assertThat(result).isEmpty();
+        then(commentRepository).should(never()).findReplyPreviews(any(), anyInt());
+        then(commentRepository).should(never()).findItemsByIdIn(any());
+    }
+
+    private CommentItem comment(Long id, Long parentId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("memberId", 1L);
+        values.put("memberName", "test");
+        values.put("articleId", 1L);
+        values.put("parentId", parentId);
+        values.put("content", "content" + id);
+        values.put("deletion", false);
+        return projectionFactory.createProjection(CommentItem.class, values);
+    }
+
+    private CommentReplyPreview preview(Long id, Long parentId, Long replyCount) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("parentId", parentId);
+        values.put("replyCount", replyCount);
+        return projectionFactory.createProjection(CommentReplyPreview.class, values);
+    }
+}
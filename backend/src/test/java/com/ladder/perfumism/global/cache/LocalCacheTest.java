@@ -0,0 +1,93 @@
+package com.ladder.perfumism.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheTest {
+
+    private AtomicLong now;
+    private LocalCache<Long, String> cache;
+
+    @BeforeEach
+    void setup() {
+        now = new AtomicLong(1_000L);
+        cache = new LocalCache<>("test", 2, 100L, now::get);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 버린다.")
+    void evictLeastRecentlyUsed() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo("c");
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("넘친 항목은 최대 크기의 1/10 만큼 여유가 생기도록 오래 사용하지 않은 것부터 한꺼번에 버린다.")
+    void evictInBatch() {
+        LocalCache<Long, String> large = new LocalCache<>("large", 20, 100L, now::get);
+        for (long key = 1; key <= 20; key++) {
+            large.put(key, "v" + key);
+        }
+        large.get(1L);
+        large.put(21L, "v21");
+
+        assertThat(large.size()).isEqualTo(18);
+        assertThat(large.get(1L)).isEqualTo("v1");
+        assertThat(large.get(2L)).isNull();
+        assertThat(large.get(4L)).isNull();
+        assertThat(large.get(5L)).isEqualTo("v5");
+        assertThat(large.stats().getEvictionCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("TTL 과 항목별 만료 시각 중 빠른 쪽에 만료된다.")
+    void expireEntries() {
+        cache.put(1L, "a");
+        cache.put(2L, "b", 1_050L);
+
+        now.set(1_050L);
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(2L)).isNull();
+
+        now.set(1_100L);
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.stats().getExpirationCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("적중과 실패 횟수를 센다.")
+    void countHitAndMiss() {
+        cache.put(1L, "a");
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(2L);
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getHitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("값을 바꿔도 만료 시각은 유지된다.")
+    void updateKeepsExpiration() {
+        cache.put(1L, "a", 1_050L);
+        cache.update(1L, value -> value + "b");
+
+        assertThat(cache.get(1L)).isEqualTo("ab");
+        now.set(1_050L);
+        assertThat(cache.get(1L)).isNull();
+    }
+}
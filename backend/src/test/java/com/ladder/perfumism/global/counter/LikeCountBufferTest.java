@@ -0,0 +1,169 @@
+package com.ladder.perfumism.global.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.ladder.perfumism.perfume.infrastructure.PerfumeDetailCache;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeCountBufferTest {
+
+    @Mock
+    private LikeCountBatchRepository likeCountBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PerfumeDetailCache perfumeDetailCache;
+
+    private LikeCountBuffer likeCountBuffer;
+
+    @BeforeEach
+    void setup() {
+        likeCountBuffer = new LikeCountBuffer(true, likeCountBatchRepository,
+            new TransactionTemplate(transactionManager), perfumeDetailCache);
+    }
+
+    @Test
+    @DisplayName("모아 둔 좋아요 증감량 한 번에 반영")
+    void flushTest() {
+        // given
+        likeCountBuffer.addPerfumeLike(1L, 1);
+        likeCountBuffer.addPerfumeLike(1L, 1);
+        likeCountBuffer.addPerfumeLike(2L, 1);
+        likeCountBuffer.addPerfumeLike(2L, -1);
+        likeCountBuffer.addReviewLike(3L, -1);
+        assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isEqualTo(2);
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        Map<Long, Long> perfumes = new HashMap<>();
+        perfumes.put(1L, 2L);
+        then(likeCountBatchRepository).should().addTotalLikes(perfumes, Collections.singletonMap(3L, -1L));
+        then(perfumeDetailCache).should().expireCounts(1L);
+        assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isZero();
+        assertThat(likeCountBuffer.pendingReviewLike(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감량 유지")
+    void flushFailureTest() {
+        // given
+        likeCountBuffer.addPerfumeLike(1L, 1);
+        willThrow(new QueryTimeoutException("timeout"))
+            .given(likeCountBatchRepository).addTotalLikes(any(), any());
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isEqualTo(1);
+        then(perfumeDetailCache).should(never()).expireCounts(any());
+    }
+
+    @Test
+    @DisplayName("반영 중인 증감량은 조회 결과에 더하지 않음")
+    void pendingWhileFlushingTest() {
+        // given
+        likeCountBuffer.addPerfumeLike(1L, 1);
+        willAnswer(invocation -> {
+            likeCountBuffer.addPerfumeLike(1L, 1);
+            assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isEqualTo(1);
+            return null;
+        }).given(likeCountBatchRepository).addTotalLikes(any(), any());
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        then(likeCountBatchRepository).should().addTotalLikes(Collections.singletonMap(1L, 1L),
+            Collections.emptyMap());
+        assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커밋 결과를 알 수 없으면 증감량을 다시 반영하지 않음")
+    void commitUnknownTest() {
+        // given
+        likeCountBuffer.addPerfumeLike(1L, 1);
+        willThrow(new TransactionSystemException("connection reset"))
+            .given(transactionManager).commit(any());
+
+        // when
+        likeCountBuffer.flush();
+        likeCountBuffer.flush();
+
+        // then
+        then(likeCountBatchRepository).should().addTotalLikes(any(), any());
+        assertThat(likeCountBuffer.pendingPerfumeLike(1L)).isZero();
+        then(perfumeDetailCache).should().expireCounts(1L);
+    }
+
+    @Test
+    @DisplayName("반영할 증감량이 없으면 DB 를 건드리지 않음")
+    void flushEmptyTest() {
+        // given
+        likeCountBuffer.addReviewLike(3L, 1);
+        likeCountBuffer.addReviewLike(3L, -1);
+
+        // when
+        likeCountBuffer.flush();
+
+        // then
+        then(likeCountBatchRepository).should(never()).addTotalLikes(any(), any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 좋아요 트랜잭션이 끝나고 증감량을 반영한 뒤에 보정")
+    void reconcileWaitsForLikeWriteTest() throws InterruptedException {
+        // given
+        AtomicBoolean reconciled = new AtomicBoolean(false);
+        Thread reconcile = new Thread(() -> likeCountBuffer.flushAndThen(() -> reconciled.set(true)));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            likeCountBuffer.enterLikeWrite();
+            likeCountBuffer.addPerfumeLike(1L, 1);
+
+            // when
+            reconcile.start();
+            reconcile.join(200);
+            assertThat(reconciled).isFalse();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        reconcile.join(1000);
+
+        // then
+        assertThat(reconciled).isTrue();
+        then(likeCountBatchRepository).should().addTotalLikes(Collections.singletonMap(1L, 1L),
+            Collections.emptyMap());
+    }
+}
@@ -0,0 +1,90 @@
+package com.ladder.perfumism.global.purge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchPurgerTest {
+
+    private static final PurgeTarget TARGET = PurgeTarget.softDeleted("perfume_like", "perfume_like_id", 30);
+
+    @Mock
+    private BatchPurgeRepository batchPurgeRepository;
+
+    @Test
+    @DisplayName("마지막으로 지운 id 다음부터 batch 를 이어 고르고, batch 가 덜 차면 끝낸다.")
+    void runTest() {
+        BatchPurger batchPurger = new BatchPurger(batchPurgeRepository, 2, 10, 0);
+        given(batchPurgeRepository.findIds(eq(TARGET), any(), eq(0L), eq(2))).willReturn(Arrays.asList(3L, 5L));
+        given(batchPurgeRepository.findIds(eq(TARGET), any(), eq(5L), eq(2))).willReturn(Collections.singletonList(8L));
+        given(batchPurgeRepository.purge(eq(TARGET), anyList(), any())).willReturn(2, 1);
+
+        PurgeStats stats = batchPurger.run(TARGET);
+
+        assertThat(stats.getDeleted()).isEqualTo(3);
+        assertThat(stats.getBatches()).isEqualTo(2);
+        assertThat(stats.isCompleted()).isTrue();
+        assertThat(stats.getArchived()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 maxBatches 까지만 지운다.")
+    void maxBatchesTest() {
+        BatchPurger batchPurger = new BatchPurger(batchPurgeRepository, 1, 2, 0);
+        given(batchPurgeRepository.findIds(eq(TARGET), any(), anyLong(), eq(1)))
+            .willReturn(Collections.singletonList(1L))
+            .willReturn(Collections.singletonList(2L));
+        given(batchPurgeRepository.purge(eq(TARGET), anyList(), any())).willReturn(1);
+
+        PurgeStats stats = batchPurger.run(TARGET);
+
+        assertThat(stats.getDeleted()).isEqualTo(2);
+        assertThat(stats.isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("batch 가 실패하면 거기서 멈추고 지운 만큼만 알려준다.")
+    void failureTest() {
+        BatchPurger batchPurger = new BatchPurger(batchPurgeRepository, 1, 10, 0);
+        given(batchPurgeRepository.findIds(eq(TARGET), any(), anyLong(), eq(1)))
+            .willReturn(Collections.singletonList(1L))
+            .willThrow(new QueryTimeoutException("timeout"));
+        given(batchPurgeRepository.purge(eq(TARGET), anyList(), any())).willReturn(1);
+
+        PurgeStats stats = batchPurger.run(TARGET);
+
+        assertThat(stats.getDeleted()).isEqualTo(1);
+        assertThat(stats.isCompleted()).isFalse();
+        then(batchPurgeRepository).should(times(1)).purge(eq(TARGET), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("보관 테이블을 지정하면 지운 row 를 보관한 것으로 센다.")
+    void archiveTest() {
+        PurgeTarget target = PurgeTarget.expired("notification-expired", "notification", "notification_id", 100)
+            .archiveTo("notification_archive");
+        BatchPurger batchPurger = new BatchPurger(batchPurgeRepository, 10, 10, 0);
+        given(batchPurgeRepository.findIds(eq(target), any(), eq(0L), eq(10))).willReturn(Arrays.asList(1L, 2L));
+        given(batchPurgeRepository.purge(eq(target), anyList(), any())).willReturn(2);
+
+        PurgeStats stats = batchPurger.run(target);
+
+        assertThat(stats.getArchived()).isEqualTo(2);
+        assertThat(target.getName()).isEqualTo("notification-expired");
+    }
+}
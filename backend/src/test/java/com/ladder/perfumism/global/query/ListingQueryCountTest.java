@@ -0,0 +1,208 @@
+package com.ladder.perfumism.global.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ladder.perfumism.article.controller.dto.response.ArticleReadListResponse;
+import com.ladder.perfumism.article.domain.Article;
+import com.ladder.perfumism.article.domain.ArticleRepository;
+import com.ladder.perfumism.article.domain.ArticleSubject;
+import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.comment.controller.response.CommentReadListResponse;
+import com.ladder.perfumism.comment.controller.response.CommentReadResponse;
+import com.ladder.perfumism.comment.domain.Comment;
+import com.ladder.perfumism.comment.domain.CommentItem;
+import com.ladder.perfumism.comment.domain.CommentRepository;
+import com.ladder.perfumism.comment.infrastructure.CommentThreadLoader;
+import com.ladder.perfumism.global.config.JpaConfig;
+import com.ladder.perfumism.member.domain.Member;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeListResponse;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeSimpleResponse;
+import com.ladder.perfumism.perfume.domain.Brand;
+import com.ladder.perfumism.perfume.domain.Perfume;
+import com.ladder.perfumism.perfume.domain.PerfumeLike;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.review.controller.dto.response.ReviewLatestPageResponse;
+import com.ladder.perfumism.review.controller.dto.response.ReviewPageResponse;
+import com.ladder.perfumism.review.domain.Review;
+import com.ladder.perfumism.review.domain.ReviewRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 목록 API 가 만드는 SQL 개수를 검사한다.
+ * <p>
+ * 각 목록 조회는 (목록 쿼리 + count 쿼리) 만으로 응답 DTO 까지 만들어야 하고, 프로젝션으로 조회하는 목록은 엔티티를
+ * 만들지 않아야 한다. 연관 엔티티를 row 마다 지연 로딩하면 여기서 개수가 늘어나 테스트가 실패한다. 페이지 크기보다
+ * 데이터를 많이 넣어서 count 쿼리가 항상 나가게 한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+public class ListingQueryCountTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final int ROWS = 5;
+    private static final int REPLY_PREFETCH_SIZE = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PerfumeRepository perfumeRepository;
+
+    @Autowired
+    private PerfumeLikeRepository perfumeLikeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private List<Member> members;
+    private Perfume perfume;
+    private Article article;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+
+        members = new ArrayList<>();
+        List<Perfume> perfumes = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Member member = entityManager.persist(new Member("test" + i + "@test.com", "test", "test" + i,
+                Authority.ROLE_MEMBER, null));
+            Brand brand = entityManager.persist(new Brand(null, "testBrand" + i));
+            Perfume perfume = entityManager.persist(Perfume.builder()
+                .name("testPerfume" + i)
+                .brandId(brand)
+                .averageGrade(0.0)
+                .totalSurvey(0L)
+                .totalLike(0)
+                .build());
+            members.add(member);
+            perfumes.add(perfume);
+        }
+        perfume = perfumes.get(0);
+        article = entityManager.persist(new Article(members.get(0), ArticleSubject.TALK, "title", "content"));
+
+        Comment lastComment = null;
+        for (int i = 0; i < ROWS; i++) {
+            Member member = members.get(i);
+            entityManager.persist(PerfumeLike.createPerfumeLike(perfumes.get(i), members.get(0)));
+            entityManager.persist(new Review(perfume, member, 3, "content" + i, 0));
+            entityManager.persist(new Article(member, ArticleSubject.TALK, "title" + i, "content" + i));
+            Comment comment = entityManager.persist(new Comment(member, article, "comment" + i, null));
+            lastComment = comment;
+            entityManager.persist(new Comment(members.get((i + 1) % ROWS), article, "reply" + i, comment));
+        }
+        for (int i = 0; i < REPLY_PREFETCH_SIZE; i++) {
+            entityManager.persist(new Comment(members.get(i), article, "more reply" + i, lastComment));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("향수 목록은 목록, count 쿼리 2번으로 끝나고 엔티티를 만들지 않는다.")
+    void perfumeListTest() {
+        assertThat(countStatements(() -> PerfumeListResponse.fromItems(perfumeRepository.findListItems(page("id")))))
+            .isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(countStatements(() -> PerfumeListResponse.fromSlice(
+            perfumeRepository.findListItemsByIdGreaterThan(0L, PageRequest.of(0, PAGE_SIZE)), null)))
+            .isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(countStatements(() -> PerfumeListResponse.from(
+            perfumeRepository.findByNameContainsIgnoreCase("testPerfume", page("id"))))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요한 향수 목록은 목록, count 쿼리 2번으로 끝나고 좋아요 순서를 따른다.")
+    void perfumeLikeListTest() {
+        Member member = entityManager.find(Member.class, members.get(0).getId());
+
+        assertThat(countStatements(() -> PerfumeListResponse.fromItems(
+            perfumeLikeRepository.findListItemsByMemberId(member, page("id"))))).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(PerfumeListResponse.fromItems(perfumeLikeRepository.findListItemsByMemberId(member, page("id")))
+            .getPerfumeSimpleResponses())
+            .extracting(PerfumeSimpleResponse::getName)
+            .containsExactly("testPerfume4", "testPerfume3", "testPerfume2");
+    }
+
+    @Test
+    @DisplayName("리뷰 목록은 목록, count 쿼리 2번으로 끝난다.")
+    void reviewListTest() {
+        Perfume target = entityManager.find(Perfume.class, perfume.getId());
+
+        assertThat(countStatements(() -> ReviewPageResponse.from(reviewRepository.findByPerfumeId(target, page("id")))))
+            .isEqualTo(2);
+        assertThat(countStatements(() -> ReviewLatestPageResponse.from(reviewRepository.findLatestItems(page("id")))))
+            .isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 목록, count 쿼리 2번으로 끝난다.")
+    void articleListTest() {
+        assertThat(countStatements(() -> ArticleReadListResponse.fromItems(articleRepository.findListItems(page("id")))))
+            .isEqualTo(2);
+        assertThat(countStatements(() -> ArticleReadListResponse.fromItems(
+            articleRepository.findListItemsBySubject(ArticleSubject.TALK, page("id"))))).isEqualTo(2);
+        assertThat(countStatements(() -> ArticleReadListResponse.fromSlice(
+            articleRepository.findListItemsByIdLessThan(Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE)), null)))
+            .isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 부모 댓글, count, 대댓글 id, 대댓글 쿼리 4번으로 끝나고 대댓글 수를 제한한다.")
+    void commentListTest() {
+        Article target = entityManager.find(Article.class, article.getId());
+        CommentThreadLoader commentThreadLoader = new CommentThreadLoader(commentRepository, REPLY_PREFETCH_SIZE);
+
+        assertThat(countStatements(() -> {
+            Page<CommentItem> comments = commentRepository.findRootItemsByArticle(target, page("id"));
+            return CommentReadListResponse.from(commentThreadLoader.load(comments.getContent()), comments);
+        })).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        List<CommentReadResponse> threads = commentThreadLoader.load(
+            commentRepository.findRootItemsByArticle(target, page("id")).getContent());
+        assertThat(threads.get(0).getReplyList()).hasSize(REPLY_PREFETCH_SIZE);
+        assertThat(threads.get(0).getReplyCount()).isEqualTo(REPLY_PREFETCH_SIZE + 1L);
+        assertThat(threads.get(0).getNextReplyCursor()).isNotNull();
+        assertThat(threads.get(1).getReplyList()).hasSize(1);
+        assertThat(threads.get(1).getNextReplyCursor()).isNull();
+    }
+
+    private PageRequest page(String sort) {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by(sort).descending());
+    }
+
+    private long countStatements(Supplier<?> listing) {
+        entityManager.clear();
+        statistics.clear();
+        listing.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ladder.perfumism.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.ladder.perfumism.global.exception.BusinessException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageUploaderTest {
+
+    private static final String BUCKET = "perfumism";
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    // S3 대신 메모리에 올린 객체 (key -> 내용)
+    private final Map<String, String> objects = new ConcurrentHashMap<>();
+
+    private ImageUploader imageUploader;
+
+    @BeforeEach
+    void setUp() {
+        imageUploader = new ImageUploader(amazonS3, executor, BUCKET, 5);
+        lenient().when(amazonS3.getUrl(eq(BUCKET), anyString()))
+            .thenAnswer(invocation -> new URL("https://" + BUCKET + ".s3.amazonaws.com/" + invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("파일을 디스크에 쓰지 않고 크기와 함께 스트림으로 올리며, 객체 이름에 원본 파일 이름을 쓰지 않는다.")
+    void uploadTest() throws IOException {
+        given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            assertThat(request.getFile()).isNull();
+            assertThat(request.getMetadata().getContentLength()).isEqualTo(5);
+            assertThat(request.getMetadata().getContentType()).isEqualTo("image/png");
+            objects.put(request.getKey(), read(request.getInputStream()));
+            return null;
+        });
+
+        String url = imageUploader.upload(image("../my photo.PNG", "hello"), "profile");
+
+        String key = url.substring(url.indexOf(".com/") + ".com/".length());
+        assertThat(key).startsWith("profile/").endsWith(".png").doesNotContain("photo");
+        assertThat(objects).containsEntry(key, "hello");
+    }
+
+    @Test
+    @DisplayName("여러 장을 함께 올리고 받은 순서대로 URL 을 돌려준다.")
+    void uploadAllTest() {
+        given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            objects.put(request.getKey(), read(request.getInputStream()));
+            return null;
+        });
+
+        List<String> urls = imageUploader.uploadAll(
+            Arrays.asList(image("a.jpg", "first"), image("a.jpg", "second"), image("a.jpg", "third")), "article");
+
+        assertThat(urls).hasSize(3).doesNotHaveDuplicates();
+        assertThat(urls).extracting(url -> objects.get(url.substring(url.indexOf("article/"))))
+            .containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("한 장이라도 실패하면 이미 올린 이미지를 지우고 예외를 던진다.")
+    void uploadAllFailureTest() {
+        given(amazonS3.putObject(any(PutObjectRequest.class))).willAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            String content = read(request.getInputStream());
+            if (content.equals("broken")) {
+                throw new SdkClientException("connection reset");
+            }
+            objects.put(request.getKey(), content);
+            return null;
+        });
+
+        assertThatThrownBy(() -> imageUploader.uploadAll(
+            Arrays.asList(image("a.jpg", "first"), image("b.jpg", "broken")), "article"))
+            .isInstanceOf(BusinessException.class);
+
+        String uploaded = objects.keySet().iterator().next();
+        then(amazonS3).should().deleteObject(BUCKET, uploaded);
+        then(amazonS3).should(never()).getUrl(eq(BUCKET), anyString());
+    }
+
+    private MultipartFile image(String filename, String content) {
+        return new MockMultipartFile("image", filename, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[256];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.ladder.perfumism.notification.controller.dto.response.NotificationCountResponse;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class NotificationEmittersTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private final UnreadNotificationCounter unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+
+    private final NotificationEmitters notificationEmitters = new NotificationEmitters(unreadNotificationCounter, 1000L) {
+        @Override
+        SseEmitter newEmitter(long timeoutMillis) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+    };
+
+    @Test
+    @DisplayName("새 알림은 회원의 모든 연결에 보내고 안읽은 알림 수를 다시 읽어 보낸다.")
+    void pushTest() {
+        given(unreadNotificationCounter.count(MEMBER_ID)).willReturn(2, 2, 3);
+        notificationEmitters.subscribe("test@gmail.com", MEMBER_ID, Collections.emptyList());
+        notificationEmitters.subscribe("test@gmail.com", MEMBER_ID, Collections.emptyList());
+
+        notificationEmitters.push("test@gmail.com", notification(10L));
+        notificationEmitters.push("other@gmail.com", notification(11L));
+
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.events).containsExactly("unread-count:2", "notification:10", "unread-count:3");
+        }
+    }
+
+    @Test
+    @DisplayName("알림을 확인하면 확인이 반영된 안읽은 알림 수를 보낸다.")
+    void readTest() {
+        given(unreadNotificationCounter.count(MEMBER_ID)).willReturn(2, 1, 0);
+        notificationEmitters.subscribe("test@gmail.com", MEMBER_ID, Collections.emptyList());
+
+        notificationEmitters.read("test@gmail.com");
+        notificationEmitters.read("test@gmail.com");
+        notificationEmitters.read("other@gmail.com");
+
+        assertThat(emitters.get(0).events).containsExactly("unread-count:2", "unread-count:1", "unread-count:0");
+    }
+
+    @Test
+    @DisplayName("다시 연결하면 놓친 알림을 먼저 보내고, 보내기에 실패한 연결은 정리한다.")
+    void replayAndRemoveTest() {
+        given(unreadNotificationCounter.count(MEMBER_ID)).willReturn(1);
+        notificationEmitters.subscribe("test@gmail.com", MEMBER_ID, Collections.singletonList(notification(5L)));
+        assertThat(emitters.get(0).events).containsExactly("notification:5", "unread-count:1");
+
+        emitters.get(0).broken = true;
+        notificationEmitters.heartbeat();
+
+        assertThat(notificationEmitters.isSubscribed("test@gmail.com")).isFalse();
+        assertThat(notificationEmitters.hasSubscribers()).isFalse();
+    }
+
+    private NotificationResponse notification(Long id) {
+        return new NotificationResponse(id, "comment", 1L, "title", null, null, LocalDateTime.now(), null);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean broken;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("broken pipe");
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            String name = "";
+            Object data = null;
+            for (DataWithMediaType part : parts) {
+                if (part.getData() instanceof String && part.getData().toString().contains("event:")) {
+                    String text = part.getData().toString();
+                    int start = text.indexOf("event:") + "event:".length();
+                    name = text.substring(start, text.indexOf('\n', start));
+                } else if (!(part.getData() instanceof String)) {
+                    data = part.getData();
+                }
+            }
+            if (data instanceof NotificationResponse) {
+                events.add(name + ":" + ((NotificationResponse) data).getId());
+            } else if (data instanceof NotificationCountResponse) {
+                events.add(name + ":" + ((NotificationCountResponse) data).getUnreadCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ladder.perfumism.comment.domain.CommentCreatedEvent;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationResponse;
+import com.ladder.perfumism.notification.domain.NotificationBatchRepository;
+import com.ladder.perfumism.notification.domain.NotificationCountRepository;
+import com.ladder.perfumism.notification.domain.NotificationItem;
+import com.ladder.perfumism.notification.domain.NotificationRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationQueueTest {
+
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationEmitters notificationEmitters;
+
+    @Mock
+    private NotificationCountRepository notificationCountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @BeforeEach
+    void setUp() {
+        unreadNotificationCounter = new UnreadNotificationCounter(notificationCountRepository, 10);
+    }
+
+    @Test
+    @DisplayName("큐에 모인 댓글 id 를 중복 없이 batchSize 개씩 묶어 저장한다.")
+    void flushTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 10, 2, 3);
+        List<List<Long>> batches = new ArrayList<>();
+        given(notificationBatchRepository.insertCommentNotifications(anyCollection(), any()))
+            .willAnswer(invocation -> {
+                batches.add(new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+                return Collections.emptyList();
+            });
+
+        for (long commentId : new long[]{1L, 1L, 2L, 3L}) {
+            notificationQueue.onCommentCreated(new CommentCreatedEvent(commentId));
+        }
+        notificationQueue.flush();
+
+        assertThat(batches).containsExactly(Arrays.asList(1L), Arrays.asList(2L, 3L));
+        assertThat(notificationQueue.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 큐에 다시 넣어 다음 반영 때 한 건씩 저장한다.")
+    void retryTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 10, 10, 3);
+        given(notificationBatchRepository.insertCommentNotifications(anyCollection(), any()))
+            .willThrow(new QueryTimeoutException("timeout"))
+            .willReturn(Collections.emptyList());
+
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(1L));
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(2L));
+        notificationQueue.flush();
+        assertThat(notificationQueue.pending()).isEqualTo(2);
+
+        notificationQueue.flush();
+        assertThat(notificationQueue.pending()).isZero();
+        then(notificationBatchRepository).should(times(3)).insertCommentNotifications(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("묶음 쓰기가 실패하면 함께 꺼낸 재시도 댓글도 시도하지 않은 채로 큐에 다시 넣는다.")
+    void batchFailureKeepsRetriesTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 10, 10, 2);
+        List<Long> written = new ArrayList<>();
+        given(notificationBatchRepository.insertCommentNotifications(anyCollection(), any()))
+            .willThrow(new QueryTimeoutException("timeout"))
+            .willThrow(new QueryTimeoutException("timeout"))
+            .willAnswer(invocation -> {
+                written.addAll(invocation.getArgument(0));
+                return Collections.emptyList();
+            });
+
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(1L));
+        notificationQueue.flush();
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(2L));
+        notificationQueue.flush();
+        assertThat(notificationQueue.pending()).isEqualTo(2);
+
+        // 1번은 한 번만 실패했으므로 maxAttempts(2) 에 닿지 않고 저장된다.
+        notificationQueue.flush();
+        assertThat(written).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(notificationQueue.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 댓글만 걸러내고, maxAttempts 번 실패하면 버린다.")
+    void poisonTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 10, 10, 3);
+        List<Long> written = new ArrayList<>();
+        given(notificationBatchRepository.insertCommentNotifications(anyCollection(), any()))
+            .willAnswer(invocation -> {
+                Collection<Long> commentIds = invocation.getArgument(0);
+                if (commentIds.contains(2L)) {
+                    throw new QueryTimeoutException("timeout");
+                }
+                written.addAll(commentIds);
+                return Collections.emptyList();
+            });
+
+        for (long commentId = 1L; commentId <= 3L; commentId++) {
+            notificationQueue.onCommentCreated(new CommentCreatedEvent(commentId));
+        }
+        notificationQueue.flush();
+        assertThat(notificationQueue.pending()).isEqualTo(3);
+
+        notificationQueue.flush();
+        assertThat(written).containsExactly(1L);
+        assertThat(notificationQueue.pending()).isEqualTo(2);
+
+        notificationQueue.flush();
+        assertThat(written).containsExactly(1L, 3L);
+        assertThat(notificationQueue.pending()).isZero();
+        then(notificationBatchRepository).should(times(5)).insertCommentNotifications(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 그 알림은 바로 저장한다.")
+    void fullQueueTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 1, 10, 3);
+
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(1L));
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(2L));
+
+        assertThat(notificationQueue.pending()).isEqualTo(1);
+        then(notificationBatchRepository).should().insertCommentNotifications(
+            argThat(commentIds -> commentIds.contains(2L) && commentIds.size() == 1),
+            any());
+    }
+
+    @Test
+    @DisplayName("알림을 저장한 뒤 SSE 로 연결된 회원에게만 보낸다.")
+    void pushTest() {
+        NotificationQueue notificationQueue = new NotificationQueue(notificationBatchRepository, notificationRepository, notificationEmitters, unreadNotificationCounter, transactionManager, 10, 10, 3);
+        NotificationItem connected = item(1L, "connected@gmail.com");
+        NotificationItem disconnected = mock(NotificationItem.class);
+        given(disconnected.getMemberEmail()).willReturn("disconnected@gmail.com");
+        given(notificationEmitters.hasSubscribers()).willReturn(true);
+        given(notificationEmitters.isSubscribed("connected@gmail.com")).willReturn(true);
+        given(notificationEmitters.isSubscribed("disconnected@gmail.com")).willReturn(false);
+        given(notificationRepository.findItemsByCommentIdIn(anyCollection())).willReturn(Arrays.asList(connected, disconnected));
+
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(1L));
+        notificationQueue.onCommentCreated(new CommentCreatedEvent(2L));
+        notificationQueue.flush();
+
+        then(notificationEmitters).should().push(
+            eq("connected@gmail.com"),
+            argThat(response -> response.getId().equals(1L)));
+        then(notificationEmitters).should(never()).push(
+            eq("disconnected@gmail.com"), any(NotificationResponse.class));
+    }
+
+    private NotificationItem item(Long id, String email) {
+        NotificationItem item = mock(NotificationItem.class);
+        given(item.getId()).willReturn(id);
+        given(item.getMemberEmail()).willReturn(email);
+        given(item.getType()).willReturn("comment");
+        return item;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ladder.perfumism.notification.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ladder.perfumism.notification.domain.NotificationCountRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class UnreadNotificationCounterTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    @Mock
+    private NotificationCountRepository notificationCountRepository;
+
+    private final AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2022, 6, 15, 12, 0));
+
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @BeforeEach
+    void setUp() {
+        unreadNotificationCounter = new UnreadNotificationCounter(notificationCountRepository, 10, now::get);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB 에서 세고, 이후에는 증감량만 반영한다.")
+    void countTest() {
+        given(notificationCountRepository.countUnreadByDay(MEMBER_ID, LocalDateTime.of(2022, 3, 15, 0, 0)))
+            .willReturn(days(LocalDate.of(2022, 3, 20), 2, LocalDate.of(2022, 6, 15), 1));
+
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(3);
+        unreadNotificationCounter.add(MEMBER_ID, LocalDate.of(2022, 6, 15), 1);
+        unreadNotificationCounter.add(MEMBER_ID, LocalDate.of(2022, 3, 20), -2);
+
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(2);
+        assertThat(unreadNotificationCounter.stats().getHitCount()).isEqualTo(1);
+        then(notificationCountRepository).should(times(1)).countUnreadByDay(anyLong(), any());
+        then(notificationCountRepository).should(never()).countUnread(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("날이 바뀌면 기간을 벗어난 날짜를 버리고, 시작 시각이 걸친 날짜만 DB 에서 센다.")
+    void expireTest() {
+        given(notificationCountRepository.countUnreadByDay(MEMBER_ID, LocalDateTime.of(2022, 3, 15, 0, 0)))
+            .willReturn(days(LocalDate.of(2022, 3, 15), 1, LocalDate.of(2022, 3, 16), 2));
+        given(notificationCountRepository.countUnread(MEMBER_ID, LocalDateTime.of(2022, 3, 15, 12, 0),
+            LocalDateTime.of(2022, 3, 16, 0, 0))).willReturn(0);
+        given(notificationCountRepository.countUnread(MEMBER_ID, LocalDateTime.of(2022, 3, 16, 12, 0),
+            LocalDateTime.of(2022, 3, 17, 0, 0))).willReturn(1);
+
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(2);
+
+        now.set(LocalDateTime.of(2022, 6, 16, 12, 0));
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(1);
+        assertThat(unreadNotificationCounter.stats().getExpirationCount()).isEqualTo(1);
+
+        // 이미 버린 날짜의 알림을 확인해도 수는 바뀌지 않는다.
+        unreadNotificationCounter.add(MEMBER_ID, LocalDate.of(2022, 3, 15), -1);
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 알림 쓰기와 겹쳐 센 값은 담아 두지 않고, 다른 회원의 센 값은 담아 둔다.")
+    void loadDuringWriteTest() {
+        given(notificationCountRepository.countUnreadByDay(anyLong(), eq(LocalDateTime.of(2022, 3, 15, 0, 0))))
+            .willReturn(days(LocalDate.of(2022, 6, 15), 1, LocalDate.of(2022, 6, 14), 1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            unreadNotificationCounter.add(MEMBER_ID, LocalDate.of(2022, 6, 15), 1);
+            assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(2);
+            assertThat(unreadNotificationCounter.stats().getSize()).isZero();
+            assertThat(unreadNotificationCounter.count(OTHER_MEMBER_ID)).isEqualTo(2);
+            assertThat(unreadNotificationCounter.stats().getSize()).isEqualTo(1);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(unreadNotificationCounter.count(MEMBER_ID)).isEqualTo(2);
+        assertThat(unreadNotificationCounter.stats().getSize()).isEqualTo(2);
+        then(notificationCountRepository).should(times(3)).countUnreadByDay(anyLong(), any());
+    }
+
+    private Map<LocalDate, Integer> days(LocalDate firstDay, int firstCount, LocalDate secondDay, int secondCount) {
+        Map<LocalDate, Integer> days = new HashMap<>();
+        days.put(firstDay, firstCount);
+        days.put(secondDay, secondCount);
+        return days;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ladder.perfumism.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.global.pagination.Cursor;
+import com.ladder.perfumism.member.domain.Member;
+import com.ladder.perfumism.member.service.MemberService;
+import com.ladder.perfumism.notification.controller.dto.response.NotificationSliceResponse;
+import com.ladder.perfumism.notification.domain.NotificationCountRepository;
+import com.ladder.perfumism.notification.domain.NotificationItem;
+import com.ladder.perfumism.notification.domain.NotificationRepository;
+import com.ladder.perfumism.notification.domain.UnreadNotificationCount;
+import com.ladder.perfumism.notification.infrastructure.NotificationEmitters;
+import com.ladder.perfumism.notification.infrastructure.UnreadNotificationCounter;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private NotificationCountRepository notificationCountRepository;
+
+    @Mock
+    private NotificationEmitters notificationEmitters;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member(EMAIL, "test", "test", Authority.ROLE_MEMBER, "");
+        given(memberService.findByEmail(EMAIL)).willReturn(member);
+    }
+
+    @Test
+    @DisplayName("알림 목록을 커서 페이지로 조회하고, 다음 요청은 마지막 알림 id 부터 이어서 조회한다.")
+    void showNotificationSliceTest() {
+        Pageable pageable = PageRequest.of(0, 2);
+        NotificationItem latest = item(9L);
+        NotificationItem middle = item(7L);
+        NotificationItem oldest = item(3L);
+        given(notificationRepository.findItemsByMemberAndIdLessThan(eq(member), any(), eq(Long.MAX_VALUE), any()))
+            .willReturn(new SliceImpl<>(Arrays.asList(latest, middle), pageable, true));
+        given(notificationRepository.findItemsByMemberAndIdLessThan(eq(member), any(), eq(7L), any()))
+            .willReturn(new SliceImpl<>(Collections.singletonList(oldest), pageable, false));
+
+        NotificationSliceResponse first = notificationService.showNotificationSlice(EMAIL, null, pageable, false);
+        NotificationSliceResponse second = notificationService.showNotificationSlice(EMAIL, first.getNextCursor(), pageable, false);
+
+        assertThat(first.getNotifications()).extracting("id").containsExactly(9L, 7L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(Cursor.decode(first.getNextCursor(), Cursor.SORT_ID_DESC).getId()).isEqualTo(7L);
+        assertThat(second.getNotifications()).extracting("id").containsExactly(3L);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림을 모두 확인 처리하면 확인 처리한 수만큼 안읽은 알림 수를 줄인다.")
+    void readAllNotificationsTest() {
+        LocalDate day = LocalDate.of(2022, 6, 15);
+        given(notificationCountRepository.lockUnreadByMember(any(), any(), eq(10L)))
+            .willReturn(Collections.singletonList(new UnreadNotificationCount(1L, day, 2)));
+        given(notificationRepository.readAllByMemberAndIdLessThanEqual(eq(member), any(), eq(10L), any()))
+            .willReturn(2);
+
+        notificationService.readAllNotifications(EMAIL, 10L);
+
+        then(unreadNotificationCounter).should().add(1L, day, -2);
+        then(notificationEmitters).should().read(EMAIL);
+    }
+
+    private NotificationItem item(Long id) {
+        NotificationItem item = mock(NotificationItem.class);
+        given(item.getId()).willReturn(id);
+        given(item.getType()).willReturn("comment");
+        return item;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HnswIndexTest {
+
+    private static final int SIZE = 2000;
+    private static final int DIMENSION = 24;
+    private static final int K = 10;
+
+    private long[] ids;
+    private float[] vectors;
+
+    @BeforeEach
+    void setup() {
+        Random random = new Random(7);
+        ids = new long[SIZE];
+        vectors = new float[SIZE * DIMENSION];
+        for (int node = 0; node < SIZE; node++) {
+            ids[node] = node + 1;
+            double norm = 0;
+            for (int d = 0; d < DIMENSION; d++) {
+                float value = random.nextFloat() < 0.3 ? random.nextFloat() : 0;
+                vectors[node * DIMENSION + d] = value;
+                norm += value * value;
+            }
+            for (int d = 0; d < DIMENSION; d++) {
+                vectors[node * DIMENSION + d] /= norm == 0 ? 1 : (float) Math.sqrt(norm);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("전수 비교 결과와 대부분 같은 이웃을 찾는다.")
+    void recallTest() {
+        HnswIndex index = HnswIndex.build(ids, vectors, DIMENSION, 16, 100, 42L);
+
+        int hits = 0;
+        for (int query = 0; query < 50; query++) {
+            float[] vector = vectorOf(query * 37);
+            Set<Long> expected = new HashSet<>(bruteForce(vector));
+            hits += (int) index.search(vector, K, 64, Collections.emptySet()).stream()
+                .filter(expected::contains)
+                .count();
+        }
+
+        assertThat(hits / (50.0 * K)).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("제외한 id 는 결과에 나오지 않는다.")
+    void excludeTest() {
+        HnswIndex index = HnswIndex.build(ids, vectors, DIMENSION, 16, 100, 42L);
+        float[] vector = vectorOf(0);
+        List<Long> exclude = bruteForce(vector).subList(0, 3);
+
+        List<Long> found = index.search(vector, K, 64, exclude);
+
+        assertThat(found).hasSize(K).doesNotContainAnyElementsOf(exclude);
+    }
+
+    @Test
+    @DisplayName("파일로 저장한 그래프를 읽으면 같은 결과가 나오고, fingerprint 가 다르면 읽지 않는다.")
+    void writeAndReadTest(@TempDir Path directory) throws Exception {
+        HnswIndex index = HnswIndex.build(ids, vectors, DIMENSION, 16, 100, 42L);
+        Path path = directory.resolve("index.idx");
+
+        index.write(path, 1234L);
+        HnswIndex loaded = HnswIndex.read(path, 1234L);
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.size()).isEqualTo(SIZE);
+        for (int query = 0; query < 20; query++) {
+            float[] vector = vectorOf(query * 53);
+            assertThat(loaded.search(vector, K, 64, Collections.emptySet()))
+                .isEqualTo(index.search(vector, K, 64, Collections.emptySet()));
+        }
+        assertThat(HnswIndex.read(path, 4321L)).isNull();
+        assertThat(HnswIndex.read(directory.resolve("none.idx"), 1234L)).isNull();
+    }
+
+    private float[] vectorOf(int node) {
+        float[] vector = new float[DIMENSION];
+        System.arraycopy(vectors, node * DIMENSION, vector, 0, DIMENSION);
+        return vector;
+    }
+
+    private List<Long> bruteForce(float[] query) {
+        List<Integer> nodes = IntStream.range(0, SIZE).boxed().collect(Collectors.toCollection(ArrayList::new));
+        nodes.sort(Comparator.<Integer>comparingDouble(node -> -dot(query, node)).thenComparingInt(node -> node));
+        return nodes.stream()
+            .limit(K)
+            .map(node -> ids[node])
+            .collect(Collectors.toList());
+    }
+
+    private double dot(float[] query, int node) {
+        double dot = 0;
+        for (int d = 0; d < DIMENSION; d++) {
+            dot += query[d] * vectors[node * DIMENSION + d];
+        }
+        return dot;
+    }
+}
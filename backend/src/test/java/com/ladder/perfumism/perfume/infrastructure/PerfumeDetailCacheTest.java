@@ -0,0 +1,54 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeDetailResponse;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeDetailCacheTest {
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    private PerfumeDetailCache perfumeDetailCache;
+
+    private final PerfumeDetailResponse response = new PerfumeDetailResponse();
+
+    @BeforeEach
+    void setUp() {
+        perfumeDetailCache = new PerfumeDetailCache(perfumeRepository, 10, 60);
+    }
+
+    @Test
+    @DisplayName("읽는 동안 다른 향수가 바뀌어도 읽은 상세 정보는 캐시에 넣는다.")
+    void putWhileOtherPerfumeChangedTest() {
+        long version = perfumeDetailCache.currentVersion(1L);
+
+        perfumeDetailCache.expireCounts(2L);
+        perfumeDetailCache.put(1L, response, version);
+
+        assertThat(perfumeDetailCache.get(1L)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("읽는 동안 같은 향수가 바뀌었거나 전체를 비웠으면 캐시에 넣지 않는다.")
+    void putWhileSamePerfumeChangedTest() {
+        long version = perfumeDetailCache.currentVersion(1L);
+        perfumeDetailCache.expireCounts(1L);
+        perfumeDetailCache.put(1L, response, version);
+
+        version = perfumeDetailCache.currentVersion(2L);
+        perfumeDetailCache.expireAll();
+        perfumeDetailCache.put(2L, response, version);
+
+        assertThat(perfumeDetailCache.get(1L)).isNull();
+        assertThat(perfumeDetailCache.get(2L)).isNull();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeRecommendIndexTest {
+
+    @Mock
+    private PerfumeAccordRepository perfumeAccordRepository;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("좋아요한 향수를 빼고 취향과 가까운 향수부터 추천한다.")
+    void recommendTest() {
+        givenPairs();
+        PerfumeRecommendIndex index = create();
+        index.refresh();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.recommend(Collections.singletonList(1L), 2)).containsExactly(2L, 3L);
+        assertThat(index.recommend(Arrays.asList(4L, 5L), 1)).containsExactly(3L);
+        assertThat(index.topAccords(Arrays.asList(4L, 5L), 2)).containsExactly(40L, 30L);
+        assertThat(index.recommend(Collections.singletonList(99L), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("준비 전에는 추천하지 않는다.")
+    void notReadyTest() {
+        PerfumeRecommendIndex index = create();
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.recommend(Collections.singletonList(1L), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("어코드 데이터가 그대로면 저장된 색인 파일을 다시 쓴다.")
+    void reuseFileTest() throws Exception {
+        givenPairs();
+        create().refresh();
+        Path file = directory.resolve("recommend.idx");
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(file, written);
+
+        PerfumeRecommendIndex restarted = create();
+        restarted.refresh();
+
+        assertThat(Files.getLastModifiedTime(file)).isEqualTo(written);
+        assertThat(restarted.recommend(Collections.singletonList(1L), 2)).containsExactly(2L, 3L);
+    }
+
+    private void givenPairs() {
+        // 1: 시트러스, 우디 / 2: 시트러스, 우디, 머스크 / 3: 우디, 머스크 / 4: 바닐라, 머스크 / 5: 바닐라
+        given(perfumeAccordRepository.findAllPairs()).willReturn(Arrays.asList(
+            pair(1L, 10L), pair(1L, 20L),
+            pair(2L, 10L), pair(2L, 20L), pair(2L, 30L),
+            pair(3L, 20L), pair(3L, 30L),
+            pair(4L, 40L), pair(4L, 30L),
+            pair(5L, 40L)));
+    }
+
+    private PerfumeRecommendIndex create() {
+        return new PerfumeRecommendIndex(perfumeAccordRepository, directory.resolve("recommend.idx").toString(),
+            16, 100, 64);
+    }
+
+    private PerfumeAccordPair pair(Long perfumeId, Long accordId) {
+        return new PerfumeAccordPair() {
+            @Override
+            public Long getPerfumeId() {
+                return perfumeId;
+            }
+
+            @Override
+            public Long getAccordId() {
+                return accordId;
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ladder.perfumism.perfume.domain.Accord;
+import com.ladder.perfumism.perfume.domain.AccordRepository;
+import com.ladder.perfumism.perfume.domain.Brand;
+import com.ladder.perfumism.perfume.domain.BrandRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeSummary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeSearchEngineTest {
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private AccordRepository accordRepository;
+
+    @Mock
+    private PerfumeAccordRepository perfumeAccordRepository;
+
+    private PerfumeSearchIndex perfumeSearchIndex;
+    private PerfumeSearchEngine perfumeSearchEngine;
+
+    private final List<PerfumeSummary> perfumes = new ArrayList<>();
+    private final List<PerfumeAccordPair> pairs = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        perfumeSearchIndex = new PerfumeSearchIndex(perfumeRepository, brandRepository, accordRepository,
+            perfumeAccordRepository);
+        perfumeSearchEngine = new PerfumeSearchEngine(perfumeSearchIndex);
+
+        given(brandRepository.findAll()).willReturn(Arrays.asList(
+            new Brand(1L, "Rose Garden"), new Brand(2L, "Jo Malone")));
+        given(accordRepository.findAll()).willReturn(Collections.singletonList(new Accord(1L, "장미", "rose")));
+        given(perfumeRepository.findAllSummaries()).willReturn(perfumes);
+        given(perfumeAccordRepository.findAllPairs()).willReturn(pairs);
+
+        perfumes.addAll(Arrays.asList(
+            summary(10L, "Rose", 2L, 0L, 0),
+            summary(11L, "Rosewood", 2L, 0L, 0),
+            summary(12L, "Red Rose", 2L, 0L, 0),
+            summary(13L, "Daisy", 1L, 0L, 0),
+            summary(14L, "Lily", 2L, 0L, 0)));
+        pairs.add(pair(14L, 1L));
+    }
+
+    @Test
+    @DisplayName("완전 일치 > 접두사 일치 > 부분 일치 > 브랜드 > 어코드 순으로 정렬")
+    void rankByMatchTest() {
+        perfumeSearchIndex.rebuild();
+
+        assertThat(perfumeSearchEngine.search("rose")).containsExactly(10L, 11L, 12L, 13L, 14L);
+    }
+
+    @Test
+    @DisplayName("같은 일치 정도에서는 인기 있는 향수가 앞에 온다")
+    void popularityBoostTest() {
+        perfumes.add(summary(15L, "Red Rose Intense", 2L, 300L, 50));
+        perfumeSearchIndex.rebuild();
+
+        assertThat(perfumeSearchEngine.search("red")).containsExactly(15L, 12L);
+    }
+
+    @Test
+    @DisplayName("색인을 새로 만들지 않아도 바뀐 인기도가 순위에 반영된다")
+    void addPopularityTest() {
+        perfumes.add(summary(15L, "Red Rose Intense", 2L, 300L, 50));
+        perfumeSearchIndex.rebuild();
+
+        perfumeSearchIndex.addPopularity(12L, 1000L);
+        perfumeSearchIndex.addPopularity(15L, -400L);
+
+        assertThat(perfumeSearchIndex.getPopularity(15L)).isZero();
+        assertThat(perfumeSearchEngine.search("red")).containsExactly(12L, 15L);
+    }
+
+    @Test
+    @DisplayName("여러 항목에 일치하면 점수를 합산한다")
+    void mergeScoreTest() {
+        pairs.add(pair(12L, 1L));
+        perfumeSearchIndex.rebuild();
+
+        assertThat(perfumeSearchEngine.search("rose")).containsSubsequence(11L, 12L, 13L);
+        assertThat(perfumeSearchEngine.search("장미")).containsExactly(12L, 14L);
+    }
+
+    private PerfumeSummary summary(Long id, String name, Long brandId, Long totalSurvey, Integer totalLike) {
+        return new PerfumeSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getBrandId() {
+                return brandId;
+            }
+
+            @Override
+            public Long getTotalSurvey() {
+                return totalSurvey;
+            }
+
+            @Override
+            public Integer getTotalLike() {
+                return totalLike;
+            }
+        };
+    }
+
+    private PerfumeAccordPair pair(Long perfumeId, Long accordId) {
+        return new PerfumeAccordPair() {
+            @Override
+            public Long getPerfumeId() {
+                return perfumeId;
+            }
+
+            @Override
+            public Long getAccordId() {
+                return accordId;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ladder.perfumism.perfume.domain.Accord;
+import com.ladder.perfumism.perfume.domain.AccordRepository;
+import com.ladder.perfumism.perfume.domain.Brand;
+import com.ladder.perfumism.perfume.domain.BrandRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeSummary;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeSearchIndexTest {
+
+    @InjectMocks
+    private PerfumeSearchIndex perfumeSearchIndex;
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    @Mock
+    private AccordRepository accordRepository;
+
+    @Mock
+    private PerfumeAccordRepository perfumeAccordRepository;
+
+    @BeforeEach
+    void setup() {
+        given(brandRepository.findAll()).willReturn(Arrays.asList(
+            new Brand(1L, "Chanel"), new Brand(2L, "Chopard"), new Brand(3L, "Dior")));
+        given(accordRepository.findAll()).willReturn(Arrays.asList(
+            new Accord(1L, "시트러스", "citrus"), new Accord(2L, "우디", "woody")));
+        given(perfumeRepository.findAllSummaries()).willReturn(Arrays.asList(
+            summary(10L, "Coco Mademoiselle", 1L),
+            summary(11L, "Chance Eau Tendre", 1L),
+            summary(12L, "Happy Spirit", 2L),
+            summary(13L, "Eau Sauvage", 3L),
+            summary(14L, "Crème de Cologne", 3L)));
+        given(perfumeAccordRepository.findAllPairs()).willReturn(Arrays.asList(
+            pair(10L, 1L), pair(13L, 1L), pair(13L, 2L)));
+
+        perfumeSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("향수명 부분 일치 검색")
+    void searchByNameTest() {
+        assertThat(perfumeSearchIndex.isReady()).isTrue();
+        assertThat(perfumeSearchIndex.searchByName("EAU")).containsExactly(11L, 13L);
+        assertThat(perfumeSearchIndex.searchByName("moiselle")).containsExactly(10L);
+        assertThat(perfumeSearchIndex.searchByName("creme")).containsExactly(14L);
+        assertThat(perfumeSearchIndex.searchByName("없는향수")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("브랜드 접두사 검색")
+    void searchByBrandTest() {
+        assertThat(perfumeSearchIndex.searchByBrand("ch")).containsExactly(10L, 11L, 12L);
+        assertThat(perfumeSearchIndex.searchByBrand("Chop")).containsExactly(12L);
+        assertThat(perfumeSearchIndex.searchByBrand("hanel")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("어코드 영문/한글 이름 검색")
+    void searchByAccordTest() {
+        assertThat(perfumeSearchIndex.searchByAccord("CITRUS")).containsExactly(10L, 13L);
+        assertThat(perfumeSearchIndex.searchByAccord("우디")).containsExactly(13L);
+        assertThat(perfumeSearchIndex.searchByAccord("citr")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 만들면 바뀐 카탈로그로 색인을 바꿔 끼운다")
+    void rebuildTest() {
+        given(perfumeRepository.findAllSummaries()).willReturn(Arrays.asList(
+            summary(10L, "Coco Mademoiselle", 1L),
+            summary(11L, "Chance Eau Fraiche", 1L),
+            summary(12L, "Happy Spirit", 2L),
+            summary(14L, "Crème de Cologne", 3L),
+            summary(15L, "Sauvage Elixir", 3L)));
+        given(perfumeAccordRepository.findAllPairs()).willReturn(Arrays.asList(pair(10L, 1L)));
+
+        perfumeSearchIndex.rebuild();
+
+        assertThat(perfumeSearchIndex.searchByName("tendre")).isEmpty();
+        assertThat(perfumeSearchIndex.searchByName("fraiche")).containsExactly(11L);
+        assertThat(perfumeSearchIndex.searchByName("sauvage")).containsExactly(15L);
+        assertThat(perfumeSearchIndex.searchByBrand("dior")).containsExactly(14L, 15L);
+        assertThat(perfumeSearchIndex.searchByAccord("woody")).isEmpty();
+        assertThat(perfumeSearchIndex.searchByAccord("citrus")).containsExactly(10L);
+    }
+
+    private PerfumeSummary summary(Long id, String name, Long brandId) {
+        return new PerfumeSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getBrandId() {
+                return brandId;
+            }
+
+            @Override
+            public Long getTotalSurvey() {
+                return 0L;
+            }
+
+            @Override
+            public Integer getTotalLike() {
+                return 0;
+            }
+        };
+    }
+
+    private PerfumeAccordPair pair(Long perfumeId, Long accordId) {
+        return new PerfumeAccordPair() {
+            @Override
+            public Long getPerfumeId() {
+                return perfumeId;
+            }
+
+            @Override
+            public Long getAccordId() {
+                return accordId;
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ladder.perfumism.perfume.domain.PerfumeAccordPair;
+import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeNotes;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeSimilarityTest {
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    @Mock
+    private PerfumeAccordRepository perfumeAccordRepository;
+
+    private final Map<Long, PerfumeNotes> notes = new LinkedHashMap<>();
+    private final List<PerfumeAccordPair> pairs = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        putPerfume(1L, "Bergamot, Lemon", 10L, 1L);
+        putPerfume(2L, "Bergamot, Lemon", 5L, 1L);
+        putPerfume(3L, "Bergamot", 100L, 2L);
+        putPerfume(4L, "Vanilla", 1L, 2L);
+        putPerfume(5L, "Lemon, Vanilla", 50L, 1L);
+    }
+
+    @Test
+    @DisplayName("유사도 상위 후보 중 설문 수가 많은 향수부터 보여준다.")
+    void similarPerfumeTest() {
+        PerfumeSimilarity similarity = build(2, 2);
+
+        assertThat(similarity.isReady()).isTrue();
+        // 1번의 후보는 2번(1.0), 5번(0.67). 3번은 설문 수가 가장 많지만 후보에 들지 못한다.
+        assertThat(similarity.getSimilarPerfumeIds(1L)).containsExactly(5L, 2L);
+        // 4번의 후보는 3번(0.5), 5번(0.41). 특징을 공유하지 않는 1, 2번은 계산하지 않는다.
+        assertThat(similarity.getSimilarPerfumeIds(4L)).containsExactly(3L, 5L);
+    }
+
+    @Test
+    @DisplayName("후보가 topK 보다 많으면 설문 수가 많은 topK 개만 보여준다.")
+    void topKTest() {
+        PerfumeSimilarity similarity = build(3, 1);
+
+        assertThat(similarity.getSimilarPerfumeIds(1L)).containsExactly(3L);
+        assertThat(similarity.getSimilarPerfumeIds(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계산 전에는 비슷한 향수가 없다.")
+    void notReadyTest() {
+        PerfumeSimilarity similarity = new PerfumeSimilarity(perfumeRepository, perfumeAccordRepository, 2, 2, 1);
+
+        assertThat(similarity.isReady()).isFalse();
+        assertThat(similarity.getSimilarPerfumeIds(1L)).isEmpty();
+    }
+
+    private PerfumeSimilarity build(int candidateSize, int topK) {
+        given(perfumeRepository.findAllNotes()).willAnswer(invocation -> new ArrayList<>(notes.values()));
+        given(perfumeAccordRepository.findAllPairs()).willAnswer(invocation -> new ArrayList<>(pairs));
+
+        PerfumeSimilarity similarity = new PerfumeSimilarity(perfumeRepository, perfumeAccordRepository,
+            candidateSize, topK, 1);
+        similarity.rebuild();
+        return similarity;
+    }
+
+    private void putPerfume(Long id, String topNotes, Long totalSurvey, Long accordId) {
+        notes.put(id, perfumeNotes(id, topNotes, totalSurvey));
+        pairs.add(pair(id, accordId));
+    }
+
+    private PerfumeNotes perfumeNotes(Long id, String topNotes, Long totalSurvey) {
+        return new PerfumeNotes() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTopNotes() {
+                return topNotes;
+            }
+
+            @Override
+            public String getMiddleNotes() {
+                return null;
+            }
+
+            @Override
+            public String getBaseNotes() {
+                return null;
+            }
+
+            @Override
+            public Long getTotalSurvey() {
+                return totalSurvey;
+            }
+        };
+    }
+
+    private PerfumeAccordPair pair(Long perfumeId, Long accordId) {
+        return new PerfumeAccordPair() {
+            @Override
+            public Long getPerfumeId() {
+                return perfumeId;
+            }
+
+            @Override
+            public Long getAccordId() {
+                return accordId;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.ladder.perfumism.perfume.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.ladder.perfumism.global.exception.BusinessException;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeSimpleResponse;
+import com.ladder.perfumism.perfume.domain.Brand;
+import com.ladder.perfumism.perfume.domain.Perfume;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeHourlyCount;
+import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PerfumeTrendingTest {
+
+    private static final Brand BRAND = new Brand(1L, "testBrand");
+
+    @Mock
+    private PerfumeLikeRepository perfumeLikeRepository;
+
+    @Mock
+    private PerfumeRepository perfumeRepository;
+
+    private PerfumeTrending perfumeTrending;
+
+    @BeforeEach
+    void setup() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2022, 3, 24, 13, 30).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        perfumeTrending = new PerfumeTrending(perfumeLikeRepository, perfumeRepository, 24, 168, 720, 2, clock);
+
+        given(perfumeLikeRepository.countHourlySince(LocalDateTime.of(2022, 2, 22, 14, 0))).willReturn(Arrays.asList(
+            hourlyCount(1L, "2022-03-24 13", 2L),
+            hourlyCount(2L, "2022-03-20 10", 5L),
+            hourlyCount(3L, "2022-03-01 10", 9L),
+            hourlyCount(4L, "2022-01-01 10", 100L)));
+        given(perfumeRepository.findWithBrandByIdIn(any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::perfume).collect(Collectors.toList());
+        });
+
+        perfumeTrending.warmUp();
+    }
+
+    @Test
+    @DisplayName("기간별 인기 향수 순위")
+    void rankingTest() {
+        assertThat(idsOf(TrendingPeriod.DAILY)).containsExactly(1L);
+        assertThat(idsOf(TrendingPeriod.WEEKLY)).containsExactly(2L, 1L);
+        assertThat(idsOf(TrendingPeriod.MONTHLY)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소 반영 후 순위 갱신")
+    void recordTest() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            perfumeTrending.recordLike(1L);
+        }
+        for (int i = 0; i < 5; i++) {
+            perfumeTrending.recordUnlike(2L, LocalDateTime.of(2022, 3, 20, 10, 15));
+        }
+        perfumeTrending.refresh();
+
+        // then
+        assertThat(idsOf(TrendingPeriod.WEEKLY)).containsExactly(1L);
+        assertThat(idsOf(TrendingPeriod.MONTHLY)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("취소는 좋아요를 누른 시각의 버킷에서 빼므로 그 시각이 속한 기간의 순위만 바뀐다")
+    void recordUnlikeInLikedHourTest() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            perfumeTrending.recordUnlike(3L, LocalDateTime.of(2022, 3, 1, 10, 40));
+        }
+        perfumeTrending.recordUnlike(4L, LocalDateTime.of(2022, 1, 1, 10, 0));
+        perfumeTrending.refresh();
+
+        // then
+        assertThat(idsOf(TrendingPeriod.DAILY)).containsExactly(1L);
+        assertThat(idsOf(TrendingPeriod.WEEKLY)).containsExactly(2L, 1L);
+        assertThat(idsOf(TrendingPeriod.MONTHLY)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("ERROR 지원하지 않는 기간")
+    void notSupportedPeriodTest() {
+        assertThat(TrendingPeriod.from("Weekly")).isEqualTo(TrendingPeriod.WEEKLY);
+        assertThatExceptionOfType(BusinessException.class).isThrownBy(() -> TrendingPeriod.from("yearly"));
+    }
+
+    private List<Long> idsOf(TrendingPeriod period) {
+        return perfumeTrending.getRanking(period).stream()
+            .map(PerfumeSimpleResponse::getId)
+            .collect(Collectors.toList());
+    }
+
+    private Perfume perfume(Long id) {
+        return new Perfume(id, "testPerfume" + id, BRAND, "testImage", 2000, 0.0, "testTopNote",
+            "testMiddleNotes", "testBaseNotes", 0L, "testLongevity", "testSillage", 0);
+    }
+
+    private PerfumeLikeHourlyCount hourlyCount(Long perfumeId, String hour, Long likeCount) {
+        return new PerfumeLikeHourlyCount() {
+            @Override
+            public Long getPerfumeId() {
+                return perfumeId;
+            }
+
+            @Override
+            public String getHour() {
+                return hour;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likeCount;
+            }
+        };
+    }
+}
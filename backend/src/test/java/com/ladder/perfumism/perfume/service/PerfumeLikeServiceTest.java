@@ -2,6 +2,9 @@ package com.ladder.perfumism.perfume.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static com.ladder.perfumism.perfume.util.PerfumeFixture.createPerfumeListItem;
 import static org.assertj.core.api.Assertions.*;
 
 import com.ladder.perfumism.auth.domain.Authority;
@@ -15,6 +18,9 @@ import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeLike;
 import com.ladder.perfumism.perfume.domain.PerfumeLikeRepository;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeTrending;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -49,6 +56,9 @@ public class PerfumeLikeServiceTest {
     @Mock
     private PerfumeLikeRepository perfumeLikeRepository;
 
+    @Mock
+    private PerfumeTrending perfumeTrending;
+
     private Member member;
     private Perfume perfume;
     private Brand brand;
@@ -71,16 +81,34 @@ public class PerfumeLikeServiceTest {
         // given
         given(memberService.findByEmail(email)).willReturn(member);
         given(perfumeService.findById(any())).willReturn(perfume);
-        given(perfumeLikeRepository.existsByMemberIdAndPerfumeId(member, perfume)).willReturn(false);
-        given(perfumeLikeRepository.save(any())).willReturn(perfumeLike);
-        given(perfumeLikeRepository.countByPerfumeId(perfume)).willReturn(1);
+        given(perfumeLikeRepository.restoreByMemberIdAndPerfumeId(member.getId(), perfume.getId())).willReturn(0);
+        given(perfumeLikeRepository.saveAndFlush(any())).willReturn(perfumeLike);
+
+        // when
+        Long result = perfumeLikeService.likePerfume(email, perfume.getId());
+
+        // then
+        assertThat(perfumeLike.getId()).isEqualTo(result);
+        then(perfumeService).should().addTotalLike(perfume.getId(), 1);
+        then(perfumeTrending).should().recordLike(perfume.getId());
+    }
+
+    @Test
+    @DisplayName("취소했던 향수 다시 좋아요")
+    void likePerfumeAgainTest() {
+        // given
+        given(memberService.findByEmail(email)).willReturn(member);
+        given(perfumeService.findById(any())).willReturn(perfume);
+        given(perfumeLikeRepository.restoreByMemberIdAndPerfumeId(member.getId(), perfume.getId())).willReturn(1);
+        given(perfumeLikeRepository.findByPerfumeIdAndMemberId(perfume, member)).willReturn(Optional.of(perfumeLike));
 
         // when
         Long result = perfumeLikeService.likePerfume(email, perfume.getId());
 
         // then
         assertThat(perfumeLike.getId()).isEqualTo(result);
-        assertThat(perfume.getTotalLike()).isEqualTo(1);
+        then(perfumeLikeRepository).should(never()).saveAndFlush(any());
+        then(perfumeService).should().addTotalLike(perfume.getId(), 1);
     }
 
     @Test
@@ -89,11 +117,13 @@ public class PerfumeLikeServiceTest {
         // given
         given(memberService.findByEmail(email)).willReturn(member);
         given(perfumeService.findById(any())).willReturn(perfume);
-        given(perfumeLikeRepository.existsByMemberIdAndPerfumeId(member, perfume)).willReturn(true);
+        given(perfumeLikeRepository.restoreByMemberIdAndPerfumeId(member.getId(), perfume.getId())).willReturn(0);
+        given(perfumeLikeRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
 
         // when & then
         assertThatExceptionOfType(BusinessException.class).isThrownBy(
             () -> perfumeLikeService.likePerfume(email, perfume.getId()));
+        then(perfumeService).should(never()).addTotalLike(any(), any());
     }
 
     @Test
@@ -132,15 +162,17 @@ public class PerfumeLikeServiceTest {
         // given
         given(memberService.findByEmail(email)).willReturn(member);
         given(perfumeService.findById(any())).willReturn(perfume);
-        given(perfumeLikeRepository.findByPerfumeIdAndMemberId(perfume, member)).willReturn(Optional.of(perfumeLike));
-        given(perfumeLikeRepository.countByPerfumeId(perfume)).willReturn(0);
+        LocalDateTime likedAt = LocalDateTime.of(2022, 3, 20, 10, 15);
+        given(perfumeLikeRepository.findCreatedAtByMemberIdAndPerfumeId(member, perfume))
+            .willReturn(Optional.of(likedAt));
+        given(perfumeLikeRepository.updateDeletedAtByMemberIdAndPerfumeId(member, perfume)).willReturn(1);
 
         // when
         perfumeLikeService.notLikeThisPerfumeAnymore(email, perfume.getId());
 
         // then
-        assertThat(perfumeLike.getDeletedAt()).isNotNull();
-        assertThat(perfume.getTotalLike()).isEqualTo(0);
+        then(perfumeService).should().addTotalLike(perfume.getId(), -1);
+        then(perfumeTrending).should().recordUnlike(perfume.getId(), likedAt);
     }
 
     @Test
@@ -149,12 +181,14 @@ public class PerfumeLikeServiceTest {
         // given
         given(memberService.findByEmail(email)).willReturn(member);
         given(perfumeService.findById(any())).willReturn(perfume);
-        given(perfumeLikeRepository.findByPerfumeIdAndMemberId(perfume, member)).willThrow(
-            new BusinessException(ErrorCode.PERFUME_NOT_LIKE_THIS_BEFORE));
+        given(perfumeLikeRepository.findCreatedAtByMemberIdAndPerfumeId(member, perfume))
+            .willReturn(Optional.empty());
 
         // when & then
         assertThatExceptionOfType(BusinessException.class).isThrownBy(
-            () -> perfumeLikeService.notLikeThisPerfumeAnymore(email, perfume.getId()));
+            () -> perfumeLikeService.notLikeThisPerfumeAnymore(email, perfume.getId()))
+            .satisfies(e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PERFUME_NOT_LIKE_THIS_BEFORE));
+        then(perfumeService).should(never()).addTotalLike(any(), any());
     }
 
     @Test
@@ -162,11 +196,11 @@ public class PerfumeLikeServiceTest {
     void myFavoritePerfumeListTest() {
         // given
         Pageable pageable = PageRequest.of(FIRST_PAGE, DEFAULT_SIZE, Sort.by("id").descending());
-        List<PerfumeLike> perfumeLikes = new ArrayList<>();
-        perfumeLikes.add(perfumeLike);
-        Page<PerfumeLike> perfumeLikePage = new PageImpl<>(perfumeLikes);
+        List<PerfumeListItem> perfumeLikes = new ArrayList<>();
+        perfumeLikes.add(createPerfumeListItem(perfume));
+        Page<PerfumeListItem> perfumeLikePage = new PageImpl<>(perfumeLikes);
         given(memberService.findByEmail(email)).willReturn(member);
-        given(perfumeLikeRepository.findByMemberId(member, pageable)).willReturn(perfumeLikePage);
+        given(perfumeLikeRepository.findListItemsByMemberId(member, pageable)).willReturn(perfumeLikePage);
 
         //when
         PerfumeListResponse result = perfumeLikeService.myFavoritePerfumeList(email, pageable);
@@ -11,7 +11,10 @@ import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.BrandRepository;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeRepository;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchEngine;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchIndex;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 public class PerfumeSearchServiceTest {
@@ -44,6 +48,12 @@ public class PerfumeSearchServiceTest {
     @Mock
     private AccordRepository accordRepository;
 
+    @Mock
+    private PerfumeSearchIndex perfumeSearchIndex;
+
+    @Mock
+    private PerfumeSearchEngine perfumeSearchEngine;
+
     private Brand brand1;
     private Perfume perfume1, perfume2, perfume3;
     private Accord accord;
@@ -170,4 +180,82 @@ public class PerfumeSearchServiceTest {
         assertThat(result.getPerfumeSimpleResponses().get(1).getName()).isEqualTo("Perfume BBB");
         assertThat(result.getPerfumeSimpleResponses().get(2).getName()).isEqualTo("Perfume CCC");
     }
+
+    @Test
+    @DisplayName("향수 검색 - 색인 사용 시 요청한 페이지만 조회")
+    void perfumeSearchByIndexTest() {
+        // given
+        String type = "name";
+        String keyword = "Perfume";
+        Pageable pageable = PageRequest.of(1, 2);
+        given(perfumeSearchIndex.isReady()).willReturn(true);
+        given(perfumeSearchIndex.searchByName(keyword)).willReturn(Arrays.asList(4L, 5L, 6L));
+        given(perfumeRepository.findWithBrandByIdIn(Arrays.asList(6L))).willReturn(Arrays.asList(perfume3));
+
+        // when
+        PerfumeListResponse result = perfumeSearchService.getPerfumeSearch(pageable, type, keyword);
+
+        // then
+        assertThat(result.getPerfumeSimpleResponses()).hasSize(1);
+        assertThat(result.getPerfumeSimpleResponses().get(0).getId()).isEqualTo(perfume3.getId());
+        assertThat(result.getTotalPageCount()).isEqualTo(2);
+        assertThat(result.getCurrentPageCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("향수 검색 - 색인 사용 시 id 역순 정렬")
+    void perfumeSearchByIndexSortTest() {
+        // given
+        String type = "brand";
+        String keyword = "Brand";
+        Pageable pageable = PageRequest.of(FIRST_PAGE, 2, Sort.by(Sort.Direction.DESC, "id"));
+        given(perfumeSearchIndex.isReady()).willReturn(true);
+        given(perfumeSearchIndex.searchByBrand(keyword)).willReturn(Arrays.asList(4L, 5L, 6L));
+        given(perfumeRepository.findWithBrandByIdIn(Arrays.asList(6L, 5L)))
+            .willReturn(Arrays.asList(perfume2, perfume3));
+
+        // when
+        PerfumeListResponse result = perfumeSearchService.getPerfumeSearch(pageable, type, keyword);
+
+        // then
+        assertThat(result.getPerfumeSimpleResponses().get(0).getId()).isEqualTo(perfume3.getId());
+        assertThat(result.getPerfumeSimpleResponses().get(1).getId()).isEqualTo(perfume2.getId());
+    }
+
+    @Test
+    @DisplayName("향수 검색 - 색인 검색 결과 없음")
+    void perfumeSearchByIndexEmptyTest() {
+        // given
+        String type = "accord";
+        String keyword = "없는어코드";
+        Pageable pageable = PageRequest.of(FIRST_PAGE, DEFAULT_SIZE);
+        given(perfumeSearchIndex.isReady()).willReturn(true);
+        given(perfumeSearchIndex.searchByAccord(keyword)).willReturn(new ArrayList<>());
+
+        // when
+        PerfumeListResponse result = perfumeSearchService.getPerfumeSearch(pageable, type, keyword);
+
+        // then
+        assertThat(result.getPerfumeSimpleResponses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("향수 전체 검색 - 검색 엔진의 순위대로 페이지 구성")
+    void perfumeSearchAllByEngineTest() {
+        // given
+        String keyword = "Perfume";
+        Pageable pageable = PageRequest.of(FIRST_PAGE, 2);
+        given(perfumeSearchEngine.isReady()).willReturn(true);
+        given(perfumeSearchEngine.search(keyword)).willReturn(Arrays.asList(6L, 4L, 5L));
+        given(perfumeRepository.findWithBrandByIdIn(Arrays.asList(6L, 4L)))
+            .willReturn(Arrays.asList(perfume1, perfume3));
+
+        // when
+        PerfumeListResponse result = perfumeSearchService.getPerfumeSearchAll(pageable, keyword);
+
+        // then
+        assertThat(result.getPerfumeSimpleResponses().get(0).getId()).isEqualTo(perfume3.getId());
+        assertThat(result.getPerfumeSimpleResponses().get(1).getId()).isEqualTo(perfume1.getId());
+        assertThat(result.getTotalPageCount()).isEqualTo(2);
+    }
 }
@@ -14,19 +14,32 @@ import static com.ladder.perfumism.perfume.util.PerfumeFixture.TOTAL_SURVEY;
 import static com.ladder.perfumism.perfume.util.PerfumeFixture.LONGEVITY;
 import static com.ladder.perfumism.perfume.util.PerfumeFixture.SILLAGE;
 import static com.ladder.perfumism.perfume.util.PerfumeFixture.createPerfume;
+import static com.ladder.perfumism.perfume.util.PerfumeFixture.createPerfumeListItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.global.exception.ErrorCode;
+import com.ladder.perfumism.global.pagination.Cursor;
 import com.ladder.perfumism.perfume.controller.dto.response.PerfumeDetailResponse;
+import com.ladder.perfumism.perfume.controller.dto.response.PerfumeListResponse;
 import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.BrandRepository;
 import com.ladder.perfumism.perfume.domain.Perfume;
 import com.ladder.perfumism.perfume.domain.PerfumeAccordRepository;
 import com.ladder.perfumism.perfume.domain.PerfumeRepository;
 import com.ladder.perfumism.perfume.domain.SimilarPerfumeRepository;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeDetailCache;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSearchIndex;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeSimilarity;
+import com.ladder.perfumism.perfume.infrastructure.PerfumeTrending;
 import com.ladder.perfumism.perfume.util.BrandFixture;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
@@ -36,6 +49,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class PerfumeServiceTest {
@@ -54,6 +70,21 @@ class PerfumeServiceTest {
     @Mock
     private SimilarPerfumeRepository similarPerfumeRepository;
 
+    @Mock
+    private PerfumeDetailCache perfumeDetailCache;
+
+    @Mock
+    private PerfumeTrending perfumeTrending;
+
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private PerfumeSimilarity perfumeSimilarity;
+
+    @Mock
+    private PerfumeSearchIndex perfumeSearchIndex;
+
     @InjectMocks
     private PerfumeService perfumeService;
 
@@ -87,6 +118,52 @@ class PerfumeServiceTest {
         Assertions.assertThat(perfumeDetailResponse.getName()).isEqualTo(PERFUME_NAME);
     }
 
+    @Test
+    @DisplayName("캐시에 있는 향수 상세 정보는 DB 를 조회하지 않는다.")
+    void perfumeReadFromCache() {
+        //given
+        Brand brand = BrandFixture.createBrand(BRAND_ID, BRAND_NAME);
+        Perfume perfume = createPerfume(PERFUME_ID, PERFUME_NAME, brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        PerfumeDetailResponse cached = PerfumeDetailResponse.from(perfume, new ArrayList<>(), new ArrayList<>());
+
+        when(perfumeDetailCache.get(PERFUME_ID)).thenReturn(cached);
+
+        //when
+        PerfumeDetailResponse perfumeDetailResponse = perfumeService.viewDetailPerfume(PERFUME_ID);
+
+        //then
+        Assertions.assertThat(perfumeDetailResponse).isSameAs(cached);
+        verify(perfumeRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("유사도 엔진이 준비되면 엔진이 고른 순서대로 비슷한 향수를 보여준다.")
+    void perfumeReadWithSimilarity() {
+        //given
+        Brand brand = BrandFixture.createBrand(BRAND_ID, BRAND_NAME);
+        Perfume perfume = createPerfume(PERFUME_ID, PERFUME_NAME, brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        Perfume second = createPerfume(3L, "Second", brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        Perfume first = createPerfume(2L, "First", brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+
+        when(perfumeRepository.findById(PERFUME_ID)).thenReturn(Optional.of(perfume));
+        when(perfumeSimilarity.isReady()).thenReturn(true);
+        when(perfumeSimilarity.getSimilarPerfumeIds(PERFUME_ID)).thenReturn(Arrays.asList(3L, 2L));
+        when(perfumeRepository.findWithBrandByIdIn(Arrays.asList(3L, 2L))).thenReturn(Arrays.asList(first, second));
+
+        //when
+        PerfumeDetailResponse perfumeDetailResponse = perfumeService.viewDetailPerfume(PERFUME_ID);
+
+        //then
+        Assertions.assertThat(perfumeDetailResponse.getSimilarPerfumeResponse())
+            .extracting("perfumeName")
+            .containsExactly("Second", "First");
+        verify(similarPerfumeRepository, never()).findByOriginId(any());
+    }
+
     @Test
     @DisplayName("존재하지 않는 퍼퓸 ID를 조회하면 ErrorCode S01이 발생한다.")
     void notExistPerfumeId() {
@@ -97,4 +174,119 @@ class PerfumeServiceTest {
             .isThrownBy(() -> perfumeService.viewDetailPerfume(PERFUME_ID))
             .withMessageMatching(ErrorCode.PERFUME_NOT_FOUND_BY_ID.getMessage());
     }
+
+    @Test
+    @DisplayName("커서 페이지로 향수 목록을 조회하면 마지막 향수의 커서를 내려준다.")
+    void perfumeSliceRead() {
+        // given
+        Brand brand = BrandFixture.createBrand(BRAND_ID, BRAND_NAME);
+        Perfume perfume1 = createPerfume(10L, PERFUME_NAME, brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        Perfume perfume2 = createPerfume(11L, PERFUME_NAME, brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        String cursor = Cursor.ofId(Cursor.SORT_ID_ASC, 9L).encode();
+
+        when(perfumeRepository.findListItemsByIdGreaterThan(9L, PageRequest.of(0, 2)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(createPerfumeListItem(perfume1), createPerfumeListItem(perfume2)),
+                PageRequest.of(0, 2), true));
+
+        // when
+        PerfumeListResponse result = perfumeService.getPerfumeSlice(cursor, PageRequest.of(3, 2));
+
+        // then
+        Assertions.assertThat(result.getPerfumeSimpleResponses()).hasSize(2);
+        Assertions.assertThat(result.getHasNext()).isTrue();
+        Assertions.assertThat(Cursor.decode(result.getNextCursor(), Cursor.SORT_ID_ASC).getId()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 없는(null) 향수는 좋아요 0 으로 보고 다음 커서를 만든다.")
+    void perfumeSliceByTotalLikeWithNull() {
+        // given
+        Brand brand = BrandFixture.createBrand(BRAND_ID, BRAND_NAME);
+        Perfume perfume = createPerfume(10L, PERFUME_NAME, brand, IMAGE, LAUNCH_YEAR, AVERAGE_GRADE, TOP_NOTES,
+            MIDDLE_NOTES, BASE_NOTES, TOTAL_SURVEY, LONGEVITY, SILLAGE);
+        PageRequest totalLikeDesc = PageRequest.of(0, 1, Sort.by(Sort.Order.desc("totalLike")));
+
+        when(perfumeRepository.findNextListItemsByTotalLike(Integer.MAX_VALUE, 0L, PageRequest.of(0, 1)))
+            .thenReturn(new SliceImpl<>(Arrays.asList(createPerfumeListItem(perfume)), PageRequest.of(0, 1), true));
+        when(perfumeRepository.findNextListItemsByTotalLike(0, 10L, PageRequest.of(0, 1)))
+            .thenReturn(new SliceImpl<>(new ArrayList<>(), PageRequest.of(0, 1), false));
+
+        // when
+        PerfumeListResponse first = perfumeService.getPerfumeSlice("", totalLikeDesc);
+        PerfumeListResponse next = perfumeService.getPerfumeSlice(first.getNextCursor(), totalLikeDesc);
+
+        // then
+        Assertions.assertThat(Cursor.decode(first.getNextCursor(), "totalLike,desc").getKeyAsLong()).isZero();
+        Assertions.assertThat(next.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서 페이지에서 지원하지 않는 정렬을 요청하면 ErrorCode Z04가 발생한다.")
+    void perfumeSliceNotSupportedSort() {
+        // when & then
+        Assertions.assertThatExceptionOfType(BusinessException.class)
+            .isThrownBy(() -> perfumeService.getPerfumeSlice("", PageRequest.of(0, 10, Sort.by("name"))))
+            .withMessageMatching(ErrorCode.GLOBAL_NOT_SUPPORTED_CURSOR_SORT.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 커서를 보내면 ErrorCode Z03이 발생한다.")
+    void perfumeSliceInvalidCursor() {
+        // given
+        String cursor = Cursor.ofId(Cursor.SORT_ID_DESC, 9L).encode();
+
+        // when & then
+        Assertions.assertThatExceptionOfType(BusinessException.class)
+            .isThrownBy(() -> perfumeService.getPerfumeSlice(cursor, PageRequest.of(0, 10)))
+            .withMessageMatching(ErrorCode.GLOBAL_INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("평점 수정은 평점 합만 바꾸고 개수는 그대로 둔다.")
+    void updateReviewStatsChangeGrade() {
+        // when
+        perfumeService.updateReviewStats(PERFUME_ID, 0, 2, 5);
+
+        // then
+        verify(perfumeRepository).addReviewStats(PERFUME_ID, 0L, 3L, 0L);
+        verify(perfumeDetailCache).expireCounts(PERFUME_ID);
+        verify(perfumeSearchIndex, never()).addPopularity(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("평점 없는(0점) 리뷰는 평균 계산에서 빠진다.")
+    void updateReviewStatsWithoutGrade() {
+        // when
+        perfumeService.updateReviewStats(PERFUME_ID, 1, null, 0);
+        perfumeService.updateReviewStats(PERFUME_ID, -1, 4, null);
+
+        // then
+        verify(perfumeRepository).addReviewStats(PERFUME_ID, 1L, 0L, 0L);
+        verify(perfumeRepository).addReviewStats(PERFUME_ID, -1L, -4L, -1L);
+        verify(perfumeSearchIndex).addPopularity(PERFUME_ID, 1L);
+        verify(perfumeSearchIndex).addPopularity(PERFUME_ID, -1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 바뀌면 검색 순위에 쓰는 인기도에도 바로 더한다.")
+    void addTotalLikeUpdatesPopularity() {
+        // when
+        perfumeService.addTotalLike(PERFUME_ID, 1);
+
+        // then
+        verify(perfumeRepository).addTotalLike(PERFUME_ID, 1);
+        verify(perfumeSearchIndex).addPopularity(PERFUME_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("바뀐 값이 없으면 향수를 갱신하지 않는다.")
+    void updateReviewStatsNothingChanged() {
+        // when
+        perfumeService.updateReviewStats(PERFUME_ID, 0, 0, 0);
+
+        // then
+        verify(perfumeRepository, never()).addReviewStats(any(), any(), any(), any());
+    }
 }
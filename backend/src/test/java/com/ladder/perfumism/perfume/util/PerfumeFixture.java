@@ -2,6 +2,7 @@ package com.ladder.perfumism.perfume.util;
 
 import com.ladder.perfumism.perfume.domain.Brand;
 import com.ladder.perfumism.perfume.domain.Perfume;
+import com.ladder.perfumism.perfume.domain.PerfumeListItem;
 
 public class PerfumeFixture {
 
@@ -36,4 +37,43 @@ public class PerfumeFixture {
             .sillage(sillage)
             .build();
     }
+
+    public static PerfumeListItem createPerfumeListItem(Perfume perfume) {
+        return new PerfumeListItem() {
+            @Override
+            public Long getId() {
+                return perfume.getId();
+            }
+
+            @Override
+            public String getName() {
+                return perfume.getName();
+            }
+
+            @Override
+            public Long getBrandId() {
+                return perfume.getBrandId().getId();
+            }
+
+            @Override
+            public String getBrandName() {
+                return perfume.getBrandId().getName();
+            }
+
+            @Override
+            public String getImage() {
+                return perfume.getImage();
+            }
+
+            @Override
+            public Double getAverageGrade() {
+                return perfume.getAverageGrade();
+            }
+
+            @Override
+            public Integer getTotalLike() {
+                return perfume.getTotalLike();
+            }
+        };
+    }
 }
@@ -2,11 +2,13 @@ package com.ladder.perfumism.review.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.assertj.core.api.Assertions.*;
 
 import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
-import com.ladder.perfumism.global.exception.ErrorCode;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
 import com.ladder.perfumism.perfume.domain.Brand;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 @ExtendWith(MockitoExtension.class)
 public class ReviewLikeServiceTest {
@@ -40,6 +43,9 @@ public class ReviewLikeServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
     private Member member1;
     private Member member2;
     private Perfume perfume;
@@ -66,15 +72,36 @@ public class ReviewLikeServiceTest {
         String email = "test2@test.com";
         given(memberService.findByEmail(email)).willReturn(member2);
         given(reviewRepository.findById(any())).willReturn(Optional.of(review1));
-        given(reviewLikeRepository.existsByMemberIdAndReviewId(member2, review1)).willReturn(false);
-        given(reviewLikeRepository.save(any())).willReturn(reviewLike);
+        given(reviewLikeRepository.restoreByMemberIdAndReviewId(member2.getId(), review1.getId())).willReturn(0);
+        given(reviewLikeRepository.saveAndFlush(any())).willReturn(reviewLike);
 
         // when
-        reviewLikeService.likeReview(email, review1.getId());
+        Long result = reviewLikeService.likeReview(email, review1.getId());
 
         //then
+        assertThat(result).isEqualTo(reviewLike.getId());
         assertThat(reviewLike.getMemberId()).isEqualTo(member2);
         assertThat(reviewLike.getReviewId()).isEqualTo(review1);
+        then(reviewRepository).should().addTotalLike(review1.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("리뷰 좋아요하기 - write-behind 모드")
+    void likeReviewWriteBehindTest() {
+        // given
+        String email = "test2@test.com";
+        given(memberService.findByEmail(email)).willReturn(member2);
+        given(reviewRepository.findById(any())).willReturn(Optional.of(review1));
+        given(reviewLikeRepository.restoreByMemberIdAndReviewId(member2.getId(), review1.getId())).willReturn(0);
+        given(reviewLikeRepository.saveAndFlush(any())).willReturn(reviewLike);
+        given(likeCountBuffer.isEnabled()).willReturn(true);
+
+        // when
+        reviewLikeService.likeReview(email, review1.getId());
+
+        //then
+        then(likeCountBuffer).should().addReviewLike(review1.getId(), 1);
+        then(reviewRepository).should(never()).addTotalLike(any(), any());
     }
 
     @Test
@@ -84,11 +111,13 @@ public class ReviewLikeServiceTest {
         String email = "test2@test.com";
         given(memberService.findByEmail(email)).willReturn(member2);
         given(reviewRepository.findById(any())).willReturn(Optional.of(review1));
-        given(reviewLikeRepository.existsByMemberIdAndReviewId(member2, review1)).willReturn(true);
+        given(reviewLikeRepository.restoreByMemberIdAndReviewId(member2.getId(), review1.getId())).willReturn(0);
+        given(reviewLikeRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
 
         // when & then
         assertThatExceptionOfType(BusinessException.class)
             .isThrownBy(() -> reviewLikeService.likeReview(email, review1.getId()));
+        then(reviewRepository).should(never()).addTotalLike(any(), any());
     }
 
     @Test
@@ -143,13 +172,13 @@ public class ReviewLikeServiceTest {
         String email = "test2@test.com";
         given(memberService.findByEmail(email)).willReturn(member2);
         given(reviewRepository.findById(any())).willReturn(Optional.of(review1));
-        given(reviewLikeRepository.findByMemberIdAndReviewId(member2, review1)).willReturn(Optional.of(reviewLike));
+        given(reviewLikeRepository.updateDeletedAtByMemberIdAndReviewId(member2, review1)).willReturn(1);
 
         //when
         reviewLikeService.notLikeThisReviewAnymore(email, review1.getId());
 
         //then
-        assertThat(reviewLike.getDeletedAt()).isNotNull();
+        then(reviewRepository).should().addTotalLike(review1.getId(), -1);
     }
 
     @Test
@@ -159,8 +188,7 @@ public class ReviewLikeServiceTest {
         String email = "test2@test.com";
         given(memberService.findByEmail(email)).willReturn(member2);
         given(reviewRepository.findById(any())).willReturn(Optional.of(review1));
-        given(reviewLikeRepository.findByMemberIdAndReviewId(member2, review1)).willThrow(
-            new BusinessException(ErrorCode.REVIEW_NOT_LIKE_THIS_BEFORE));
+        given(reviewLikeRepository.updateDeletedAtByMemberIdAndReviewId(member2, review1)).willReturn(0);
 
         // when & then
         assertThatExceptionOfType(BusinessException.class)
@@ -2,9 +2,11 @@ package com.ladder.perfumism.review.service;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.assertj.core.api.Assertions.*;
 
 import com.ladder.perfumism.auth.domain.Authority;
+import com.ladder.perfumism.global.counter.LikeCountBuffer;
 import com.ladder.perfumism.global.exception.BusinessException;
 import com.ladder.perfumism.member.domain.Member;
 import com.ladder.perfumism.member.service.MemberService;
@@ -57,6 +59,9 @@ public class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private LikeCountBuffer likeCountBuffer;
+
     @Mock
     private ReviewLikeRepository reviewLikeRepository;
 
@@ -150,6 +155,22 @@ public class ReviewServiceTest {
         assertThat(review.getContent()).isEqualTo(request.getContent());
     }
 
+    @Test
+    @DisplayName("리뷰 평점 수정")
+    void changeReviewGradeTest() {
+        // given
+        String email = "test@test.com";
+        given(reviewRepository.findById(1L)).willReturn(Optional.ofNullable(review));
+        ReviewWriteRequest request = new ReviewWriteRequest(4, "testContent");
+
+        // when
+        reviewService.changeReview(email, review.getId(), request);
+
+        //then
+        assertThat(review.getGrade()).isEqualTo(4);
+        then(perfumeService).should().updateReviewStats(perfume.getId(), 0, 0, 4);
+    }
+
     @Test
     @DisplayName("ERROR 자신의 리뷰가 아닐 때")
     void notMyReview() {
@@ -177,5 +198,6 @@ public class ReviewServiceTest {
 
         // then
         assertThat(review.getDeletedAt()).isNotNull();
+        then(perfumeService).should().updateReviewStats(perfume.getId(), -1, 0, null);
     }
 }
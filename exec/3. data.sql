@@ -86,6 +86,8 @@ create table accord (
        perfume_id bigint not null auto_increment,
         average_grade double precision,
         base_notes varchar(255),
+        grade_count bigint,
+        grade_sum bigint,
         image varchar(255),
         launch_year integer,
         longevity varchar(255),
@@ -116,16 +118,6 @@ create table accord (
         primary key (perfume_like_id)
     );
 
-    create table perfume_monthly (
-       perfume_monthly_id bigint not null auto_increment,
-        created_at datetime not null,
-        deleted_at datetime,
-        updated_at datetime,
-        like_count bigint,
-        perfume_id bigint,
-        primary key (perfume_monthly_id)
-    );
- 
     create table refresh_token (
        refresh_token_id bigint not null auto_increment,
         email varchar(255),
@@ -196,3 +188,22 @@ create table accord (
         vote_item_id bigint,
         primary key (vote_member_id)
     );
+
+    create index idx_perfume_total_like on perfume ((coalesce(total_like, 0)), perfume_id);
+
+    -- 좋아요/취소를 반복하며 쌓인 중복 행은 살아 있는 행, 그다음 최신 행 하나만 남긴다. 좋아요 수는 좋아요 정합성 작업이 다시 맞춘다.
+    delete pl from perfume_like pl
+       join perfume_like keep on keep.member_id = pl.member_id and keep.perfume_id = pl.perfume_id
+        and ((keep.deleted_at is null and pl.deleted_at is not null)
+          or ((keep.deleted_at is null) = (pl.deleted_at is null) and keep.perfume_like_id > pl.perfume_like_id));
+
+    delete rl from review_like rl
+       join review_like keep on keep.member_id = rl.member_id and keep.review_id = rl.review_id
+        and ((keep.deleted_at is null and rl.deleted_at is not null)
+          or ((keep.deleted_at is null) = (rl.deleted_at is null) and keep.review_like_id > rl.review_like_id));
+
+    alter table perfume_like
+       add constraint uk_perfume_like_member_perfume unique (member_id, perfume_id);
+
+    alter table review_like
+       add constraint uk_review_like_member_review unique (member_id, review_id);
@@ -0,0 +1,35 @@
+import importer.CatalogImporter;
+import util.db.DBConnection;
+
+/**
+ * BrandMain, AccordMain, PerfumeBulkMain 을 한 번에 수행한다. 빈 DB 에서 시작하는 것을 기준으로 하며,
+ * 브랜드와 어코드는 이미 있는 이름을 건너뛴다.
+ *
+ * 실행 인자: [writers] [transformers] [batchSize] [queueCapacity] (기본값 4 2 1000 1000)
+ * writers 가 대량 입력 연결 풀 크기(-Ddb.bulk-pool.size, 기본값 16)보다 크면 -Ddb.bulk-pool.size 도 같이 늘린다.
+ */
+public class CatalogImportMain {
+
+    private static final int DEFAULT_WRITERS = 4;
+    private static final int DEFAULT_TRANSFORMERS = 2;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    public static void main(String[] args) throws Exception {
+        int writers = argument(args, 0, DEFAULT_WRITERS);
+        int transformers = argument(args, 1, DEFAULT_TRANSFORMERS);
+        int batchSize = argument(args, 2, DEFAULT_BATCH_SIZE);
+        int queueCapacity = argument(args, 3, DEFAULT_QUEUE_CAPACITY);
+
+        try {
+            new CatalogImporter(transformers, writers, batchSize, queueCapacity).run();
+        } finally {
+            DBConnection.printStats();
+            DBConnection.close();
+        }
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
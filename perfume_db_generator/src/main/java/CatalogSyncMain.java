@@ -0,0 +1,27 @@
+import importer.CatalogSync;
+import java.nio.file.Paths;
+import util.db.DBConnection;
+
+/**
+ * 이미 채워진 DB 를 perfume_data.json 에 맞춘다. 바뀐 향수만 고치고, 바뀐 향수 목록을 change log 파일로 남긴다.
+ * 빈 DB 를 처음 채울 때는 CatalogImportMain 이 더 빠르다.
+ *
+ * 실행 인자: [batchSize] [changeLogPath] (기본값 1000 catalog_changes.jsonl)
+ */
+public class CatalogSyncMain {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String DEFAULT_CHANGE_LOG = "catalog_changes.jsonl";
+
+    public static void main(String[] args) throws Exception {
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATCH_SIZE;
+        String changeLogPath = args.length > 1 ? args[1] : DEFAULT_CHANGE_LOG;
+
+        try {
+            new CatalogSync(batchSize, Paths.get(changeLogPath)).run();
+        } finally {
+            DBConnection.printStats();
+            DBConnection.close();
+        }
+    }
+}
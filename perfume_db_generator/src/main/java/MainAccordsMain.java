@@ -1,20 +1,17 @@
 import dao.PerfumeJdbcRepository;
 import dao.PerfumeRepository;
 import domain.MainAccord;
-import java.io.FileReader;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
+import util.json.JsonArrayReader;
 
 public class MainAccordsMain {
 
     public static void main(String[] args) {
         PerfumeRepository perfumeRepository = new PerfumeJdbcRepository();
-        try {
-            Object ob = new JSONParser().parse(new FileReader(PerfumeMain.PERFUME_JSON));
-            JSONArray perfumes = (JSONArray) ob;
-            for (int i = 0; i < perfumes.size(); i++) {
-                JSONObject perfume = (JSONObject) perfumes.get(i);
+        try (JsonArrayReader perfumes = JsonArrayReader.open(PerfumeMain.PERFUME_JSON)) {
+            while (perfumes.hasNext()) {
+                JSONObject perfume = perfumes.next();
                 Long id = (Long) perfume.get("id");
                 JSONArray mainAccordsJson = (JSONArray) perfume.get("main_accords");
                 for(int j = 0; j < mainAccordsJson.size(); j++) {
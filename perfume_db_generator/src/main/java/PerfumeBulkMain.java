@@ -0,0 +1,80 @@
+import dao.AccordJdbcRepository;
+import dao.AccordRepository;
+import dao.BrandJdbcRepository;
+import dao.BrandRepository;
+import dao.PerfumeBatchJdbcRepository;
+import dao.PerfumeBatchRepository;
+import domain.MainAccord;
+import domain.SimilarPerfume;
+import importer.CatalogFiles;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Objects;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import util.ImportReport;
+import util.db.DBConnection;
+import util.json.JsonArrayReader;
+
+/**
+ * PerfumeMain, MainAccordsMain, SimilarPerfumeMain 을 한 번에 대량 입력으로 수행한다.
+ * 브랜드와 어코드 id 는 시작할 때 한 번만 읽어 두고, perfume_data.json 을 향수 하나씩 한 번만 읽으면서
+ * perfume, perfume_accord, similar_perfume 을 연결 하나에서 batchSize 개씩 묶어 insert 한다.
+ * (BrandMain, AccordMain 이 먼저 실행되어 있어야 한다.)
+ *
+ * 실행 인자: [batchSize] (기본값 1000)
+ */
+public class PerfumeBulkMain {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        int batchSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BATCH_SIZE;
+
+        BrandRepository brandRepository = new BrandJdbcRepository();
+        AccordRepository accordRepository = new AccordJdbcRepository();
+        Map<String, Long> brandIds = brandRepository.findAllIds();
+        Map<String, Long> accordIds = accordRepository.findAllIds();
+
+        try (JsonArrayReader perfumes = JsonArrayReader.open(PerfumeMain.PERFUME_JSON);
+            Connection conn = DBConnection.getBulkConnection();
+            PerfumeBatchRepository perfumeBatchRepository = new PerfumeBatchJdbcRepository(conn, batchSize)) {
+
+            ImportReport report = ImportReport.start("perfume_data.json");
+            // 브랜드를 찾지 못한 향수는 어코드, 비슷한 향수까지 건너뛴다.
+            long skippedPerfumes = 0;
+            long skippedAccords = 0;
+
+            perfumeBatchRepository.disableForeignKeyChecks();
+            while (perfumes.hasNext()) {
+                JSONObject perfume = perfumes.next();
+                Long id = (Long) perfume.get("id");
+                Long brandId = brandIds.get((String) perfume.get("brand"));
+                if (Objects.isNull(brandId)) {
+                    skippedPerfumes++;
+                    continue;
+                }
+                perfumeBatchRepository.save(CatalogFiles.toPerfume(perfume, brandId));
+
+                for (Object accordName : (JSONArray) perfume.get("main_accords")) {
+                    Long accordId = accordIds.get((String) accordName);
+                    if (Objects.isNull(accordId)) {
+                        skippedAccords++;
+                        continue;
+                    }
+                    perfumeBatchRepository.saveMainAccord(MainAccord.toMainAccord(id, accordId));
+                }
+                for (Object similarId : (JSONArray) perfume.get("similar_perfume")) {
+                    perfumeBatchRepository.saveSimilarPerfume(SimilarPerfume.toSimilarPerfume(id, (Long) similarId));
+                }
+            }
+            long danglingSimilarPerfumes = perfumeBatchRepository.enableForeignKeyChecks();
+
+            report.finish(perfumeBatchRepository.getPerfumeCount() + perfumeBatchRepository.getMainAccordCount()
+                + perfumeBatchRepository.getSimilarPerfumeCount(), skippedPerfumes + skippedAccords);
+            System.out.printf("perfume %,d / perfume_accord %,d / similar_perfume %,d (없는 향수를 가리켜 지운 row %,d)%n",
+                perfumeBatchRepository.getPerfumeCount(), perfumeBatchRepository.getMainAccordCount(),
+                perfumeBatchRepository.getSimilarPerfumeCount() - danglingSimilarPerfumes, danglingSimilarPerfumes);
+        }
+    }
+}
@@ -4,12 +4,19 @@ import domain.Accord;
 import domain.CategoryAccord;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import util.db.BatchStatement;
 import util.db.DBClose;
 import util.db.DBConnection;
 
 public class AccordJdbcRepository implements AccordRepository {
 
+    private static final int BATCH_SIZE = 1000;
+
     @Override
     public void save(Accord accord) {
         PreparedStatement pstmt = null;
@@ -26,6 +33,22 @@ public class AccordJdbcRepository implements AccordRepository {
         }
     }
 
+    @Override
+    public void saveAll(List<Accord> accords) {
+        String sql = "insert into accord (kor_name, eng_name) values (?, ?)";
+        try (Connection conn = DBConnection.getBulkConnection();
+            BatchStatement<Accord> batch = new BatchStatement<>(conn, sql, BATCH_SIZE, (pstmt, accord) -> {
+                pstmt.setString(1, accord.getKor_name());
+                pstmt.setString(2, accord.getEng_name());
+            })) {
+            for (Accord accord : accords) {
+                batch.add(accord);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
     @Override
     public void saveCategory(String name) {
         PreparedStatement pstmt = null;
@@ -36,6 +59,8 @@ public class AccordJdbcRepository implements AccordRepository {
             pstmt.executeUpdate();
         } catch (SQLException e) {
             e.printStackTrace();
+        } finally {
+            DBClose.close(pstmt);
         }
     }
 
@@ -50,6 +75,28 @@ public class AccordJdbcRepository implements AccordRepository {
             pstmt.executeUpdate();
         } catch (SQLException e) {
             e.printStackTrace();
+        } finally {
+            DBClose.close(pstmt);
+        }
+    }
+
+    @Override
+    public Map<String, Long> findAllIds() {
+        Map<String, Long> ids = new HashMap<>();
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try (Connection conn = DBConnection.getConnection()) {
+            String sql = "select accord_id, eng_name from accord";
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                ids.put(rs.getString(2), rs.getLong(1));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBClose.close(rs, pstmt);
         }
+        return ids;
     }
 }
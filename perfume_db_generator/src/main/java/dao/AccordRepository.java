@@ -2,13 +2,21 @@ package dao;
 
 import domain.Accord;
 import domain.CategoryAccord;
+import java.util.List;
+import java.util.Map;
 
 public interface AccordRepository {
 
     void save(Accord accord);
 
+    // 연결 하나에서 묶어서 insert 한다.
+    void saveAll(List<Accord> accords);
+
     void saveCategory(String name);
 
     void saveCategoryAccord(CategoryAccord categoryAccord);
 
+    // 어코드 영어 이름 -> accord_id
+    Map<String, Long> findAllIds();
+
 }
@@ -3,12 +3,19 @@ package dao;
 import domain.Brand;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import util.db.BatchStatement;
 import util.db.DBClose;
 import util.db.DBConnection;
 
 public class BrandJdbcRepository implements BrandRepository {
 
+    private static final int BATCH_SIZE = 1000;
+
     @Override
     public void save(Brand brand) {
         PreparedStatement pstmt = null;
@@ -23,4 +30,38 @@ public class BrandJdbcRepository implements BrandRepository {
             DBClose.close(pstmt);
         }
     }
+
+    @Override
+    public void saveAll(List<Brand> brands) {
+        String sql = "insert into brand (name) values (?)";
+        try (Connection conn = DBConnection.getBulkConnection();
+            BatchStatement<Brand> batch = new BatchStatement<>(conn, sql, BATCH_SIZE,
+                (pstmt, brand) -> pstmt.setString(1, brand.getName()))) {
+            for (Brand brand : brands) {
+                batch.add(brand);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public Map<String, Long> findAllIds() {
+        Map<String, Long> ids = new HashMap<>();
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try (Connection conn = DBConnection.getConnection()) {
+            String sql = "select brand_id, name from brand";
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                ids.put(rs.getString(2), rs.getLong(1));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            DBClose.close(rs, pstmt);
+        }
+        return ids;
+    }
 }
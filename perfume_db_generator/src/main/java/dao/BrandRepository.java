@@ -1,9 +1,17 @@
 package dao;
 
 import domain.Brand;
+import java.util.List;
+import java.util.Map;
 
 public interface BrandRepository {
 
     void save(Brand brand);
 
+    // 연결 하나에서 묶어서 insert 한다.
+    void saveAll(List<Brand> brands);
+
+    // 브랜드 이름 -> brand_id
+    Map<String, Long> findAllIds();
+
 }
@@ -0,0 +1,139 @@
+package dao;
+
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import util.db.BatchStatement;
+import util.db.DBClose;
+
+/**
+ * 연결 하나에서 테이블별 BatchStatement 로 insert 를 모아 보낸다.
+ * perfume_accord, similar_perfume 묶음을 내보내기 전에는 아직 남은 perfume 묶음을 먼저 내보내 외래 키가 깨지지 않게 한다.
+ */
+public class PerfumeBatchJdbcRepository implements PerfumeBatchRepository {
+
+    private static final String PERFUME_SQL =
+        "insert into perfume (perfume_id, brand_id, name, image, launch_year, average_grade, top_notes, middle_notes, base_notes, total_survey, total_like, longevity, sillage) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MAIN_ACCORD_SQL = "insert into perfume_accord (perfume_id, accord_id) values (?, ?)";
+    private static final String SIMILAR_PERFUME_SQL = "insert into similar_perfume (origin_id, similar_id) values (?, ?)";
+    private static final String DELETE_DANGLING_SIMILAR_PERFUME_SQL = "delete sp from similar_perfume sp "
+        + "left join perfume origin on origin.perfume_id = sp.origin_id "
+        + "left join perfume similar on similar.perfume_id = sp.similar_id "
+        + "where origin.perfume_id is null or similar.perfume_id is null";
+
+    private final Connection conn;
+    // 연결은 풀로 돌아가 다른 곳에서도 쓰이므로, 끈 외래 키 검사는 close 전에 반드시 다시 켠다.
+    private boolean foreignKeyChecksDisabled;
+
+    private final BatchStatement<Perfume> perfumes;
+    private final BatchStatement<MainAccord> mainAccords;
+    private final BatchStatement<SimilarPerfume> similarPerfumes;
+
+    public PerfumeBatchJdbcRepository(Connection conn, int batchSize) throws SQLException {
+        this.conn = conn;
+        this.perfumes = new BatchStatement<>(conn, PERFUME_SQL, batchSize, (pstmt, perfume) -> {
+            pstmt.setLong(1, perfume.getPerfumeId());
+            pstmt.setLong(2, perfume.getBrandId());
+            pstmt.setString(3, perfume.getName());
+            pstmt.setString(4, perfume.getImage());
+            pstmt.setInt(5, perfume.getLaunchYear());
+            pstmt.setDouble(6, perfume.getAverageGrade());
+            pstmt.setString(7, perfume.getTopNotes());
+            pstmt.setString(8, perfume.getMiddleNotes());
+            pstmt.setString(9, perfume.getBaseNotes());
+            pstmt.setInt(10, perfume.getTotalSurvey());
+            pstmt.setInt(11, perfume.getTotalLike());
+            pstmt.setString(12, perfume.getLongevity());
+            pstmt.setString(13, perfume.getSillage());
+        });
+        this.mainAccords = new BatchStatement<>(conn, MAIN_ACCORD_SQL, batchSize, (pstmt, mainAccord) -> {
+            pstmt.setLong(1, mainAccord.getPerfumeId());
+            pstmt.setLong(2, mainAccord.getAccordId());
+        });
+        this.similarPerfumes = new BatchStatement<>(conn, SIMILAR_PERFUME_SQL, batchSize, (pstmt, similarPerfume) -> {
+            pstmt.setLong(1, similarPerfume.getOriginId());
+            pstmt.setLong(2, similarPerfume.getSimilarId());
+        });
+    }
+
+    @Override
+    public void save(Perfume perfume) throws SQLException {
+        perfumes.add(perfume);
+    }
+
+    @Override
+    public void saveMainAccord(MainAccord mainAccord) throws SQLException {
+        if (mainAccords.flushesOnNextAdd()) {
+            perfumes.flush();
+        }
+        mainAccords.add(mainAccord);
+    }
+
+    @Override
+    public void saveSimilarPerfume(SimilarPerfume similarPerfume) throws SQLException {
+        if (similarPerfumes.flushesOnNextAdd()) {
+            perfumes.flush();
+        }
+        similarPerfumes.add(similarPerfume);
+    }
+
+    @Override
+    public void disableForeignKeyChecks() throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("set foreign_key_checks = 0");
+        }
+        foreignKeyChecksDisabled = true;
+    }
+
+    @Override
+    public long enableForeignKeyChecks() throws SQLException {
+        flush();
+        try (Statement stmt = conn.createStatement()) {
+            long deleted = stmt.executeUpdate(DELETE_DANGLING_SIMILAR_PERFUME_SQL);
+            stmt.execute("set foreign_key_checks = 1");
+            conn.commit();
+            foreignKeyChecksDisabled = false;
+            return deleted;
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        perfumes.flush();
+        mainAccords.flush();
+        similarPerfumes.flush();
+    }
+
+    @Override
+    public long getPerfumeCount() {
+        return perfumes.getCount();
+    }
+
+    @Override
+    public long getMainAccordCount() {
+        return mainAccords.getCount();
+    }
+
+    @Override
+    public long getSimilarPerfumeCount() {
+        return similarPerfumes.getCount();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            DBClose.close(perfumes, mainAccords, similarPerfumes);
+            if (foreignKeyChecksDisabled) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("set foreign_key_checks = 1");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dao;
+
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.sql.SQLException;
+
+public interface PerfumeBatchRepository extends AutoCloseable {
+
+    void save(Perfume perfume) throws SQLException;
+
+    void saveMainAccord(MainAccord mainAccord) throws SQLException;
+
+    void saveSimilarPerfume(SimilarPerfume similarPerfume) throws SQLException;
+
+    // similar_perfume 은 파일 뒤쪽 향수를 가리킬 수 있으므로 한 번에 읽으면서 넣는 동안에는 외래 키 검사를 끈다.
+    void disableForeignKeyChecks() throws SQLException;
+
+    // 남은 row 를 내보내고, 없는 향수를 가리키는 similar_perfume 을 지운 뒤 외래 키 검사를 다시 켠다. 지운 row 수를 돌려준다.
+    long enableForeignKeyChecks() throws SQLException;
+
+    // 모아 둔 row 를 perfume -> perfume_accord -> similar_perfume 순서로 모두 내보낸다.
+    void flush() throws SQLException;
+
+    long getPerfumeCount();
+
+    long getMainAccordCount();
+
+    long getSimilarPerfumeCount();
+
+    @Override
+    void close() throws SQLException;
+}
@@ -55,7 +55,7 @@ public class PerfumeJdbcRepository implements PerfumeRepository {
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
-            DBClose.close(pstmt);
+            DBClose.close(rs, pstmt);
         }
         return null;
     }
@@ -90,7 +90,7 @@ public class PerfumeJdbcRepository implements PerfumeRepository {
         } catch (SQLException e) {
             e.printStackTrace();
         } finally {
-            DBClose.close(pstmt);
+            DBClose.close(rs, pstmt);
         }
         return null;
     }
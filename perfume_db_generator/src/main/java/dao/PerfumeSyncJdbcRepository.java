@@ -0,0 +1,171 @@
+package dao;
+
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import util.db.BatchStatement;
+import util.db.DBClose;
+
+/**
+ * 연결 하나에서 upsert 와 어코드/비슷한 향수 교체를 BatchStatement 로 모아 보낸다.
+ * 한 향수의 어코드를 지우고 다시 넣을 때 insert 묶음보다 delete 묶음을 먼저 내보내 새로 넣은 row 가 지워지지 않게 한다.
+ */
+public class PerfumeSyncJdbcRepository implements PerfumeSyncRepository {
+
+    private static final String FIND_PERFUMES_SQL =
+        "select perfume_id, brand_id, name, image, launch_year, top_notes, middle_notes, base_notes, longevity, sillage "
+            + "from perfume";
+    private static final String FIND_MAIN_ACCORDS_SQL =
+        "select distinct perfume_id, accord_id from perfume_accord order by perfume_id, accord_id";
+    private static final String FIND_SIMILAR_PERFUMES_SQL =
+        "select distinct origin_id, similar_id from similar_perfume order by origin_id, similar_id";
+    // average_grade, total_survey, total_like 는 서비스가 리뷰와 좋아요로 바꾸므로 새 향수를 넣을 때만 채운다.
+    private static final String UPSERT_PERFUME_SQL =
+        "insert into perfume (perfume_id, brand_id, name, image, launch_year, average_grade, top_notes, middle_notes, base_notes, total_survey, total_like, longevity, sillage) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "on duplicate key update brand_id = values(brand_id), name = values(name), image = values(image), "
+            + "launch_year = values(launch_year), top_notes = values(top_notes), middle_notes = values(middle_notes), "
+            + "base_notes = values(base_notes), longevity = values(longevity), "
+            + "sillage = values(sillage)";
+    private static final String DELETE_MAIN_ACCORDS_SQL = "delete from perfume_accord where perfume_id = ?";
+    private static final String MAIN_ACCORD_SQL = "insert into perfume_accord (perfume_id, accord_id) values (?, ?)";
+    private static final String DELETE_SIMILAR_PERFUMES_SQL = "delete from similar_perfume where origin_id = ?";
+    private static final String SIMILAR_PERFUME_SQL = "insert into similar_perfume (origin_id, similar_id) values (?, ?)";
+
+    private final Connection conn;
+
+    private final BatchStatement<Perfume> perfumes;
+    private final BatchStatement<Long> mainAccordDeletes;
+    private final BatchStatement<MainAccord> mainAccords;
+    private final BatchStatement<Long> similarPerfumeDeletes;
+    private final BatchStatement<SimilarPerfume> similarPerfumes;
+
+    public PerfumeSyncJdbcRepository(Connection conn, int batchSize) throws SQLException {
+        this.conn = conn;
+        this.perfumes = new BatchStatement<>(conn, UPSERT_PERFUME_SQL, batchSize, (pstmt, perfume) -> {
+            pstmt.setLong(1, perfume.getPerfumeId());
+            pstmt.setLong(2, perfume.getBrandId());
+            pstmt.setString(3, perfume.getName());
+            pstmt.setString(4, perfume.getImage());
+            pstmt.setInt(5, perfume.getLaunchYear());
+            pstmt.setDouble(6, perfume.getAverageGrade());
+            pstmt.setString(7, perfume.getTopNotes());
+            pstmt.setString(8, perfume.getMiddleNotes());
+            pstmt.setString(9, perfume.getBaseNotes());
+            pstmt.setInt(10, perfume.getTotalSurvey());
+            pstmt.setInt(11, perfume.getTotalLike());
+            pstmt.setString(12, perfume.getLongevity());
+            pstmt.setString(13, perfume.getSillage());
+        });
+        this.mainAccordDeletes = new BatchStatement<>(conn, DELETE_MAIN_ACCORDS_SQL, batchSize,
+            (pstmt, perfumeId) -> pstmt.setLong(1, perfumeId));
+        this.mainAccords = new BatchStatement<>(conn, MAIN_ACCORD_SQL, batchSize, (pstmt, mainAccord) -> {
+            pstmt.setLong(1, mainAccord.getPerfumeId());
+            pstmt.setLong(2, mainAccord.getAccordId());
+        });
+        this.similarPerfumeDeletes = new BatchStatement<>(conn, DELETE_SIMILAR_PERFUMES_SQL, batchSize,
+            (pstmt, originId) -> pstmt.setLong(1, originId));
+        this.similarPerfumes = new BatchStatement<>(conn, SIMILAR_PERFUME_SQL, batchSize, (pstmt, similarPerfume) -> {
+            pstmt.setLong(1, similarPerfume.getOriginId());
+            pstmt.setLong(2, similarPerfume.getSimilarId());
+        });
+    }
+
+    @Override
+    public void findAllPerfumes(RowHandler<Perfume> handler) throws SQLException {
+        query(FIND_PERFUMES_SQL, rs -> handler.handle(Perfume.builder()
+            .perfumeId(rs.getLong(1))
+            .brandId(rs.getLong(2))
+            .name(rs.getString(3))
+            .image(rs.getString(4))
+            .launchYear(rs.getInt(5))
+            .topNotes(rs.getString(6))
+            .middleNotes(rs.getString(7))
+            .baseNotes(rs.getString(8))
+            .longevity(rs.getString(9))
+            .sillage(rs.getString(10))
+            .build()));
+    }
+
+    @Override
+    public void findAllMainAccords(RowHandler<MainAccord> handler) throws SQLException {
+        query(FIND_MAIN_ACCORDS_SQL, rs -> handler.handle(MainAccord.toMainAccord(rs.getLong(1), rs.getLong(2))));
+    }
+
+    @Override
+    public void findAllSimilarPerfumes(RowHandler<SimilarPerfume> handler) throws SQLException {
+        query(FIND_SIMILAR_PERFUMES_SQL,
+            rs -> handler.handle(SimilarPerfume.toSimilarPerfume(rs.getLong(1), rs.getLong(2))));
+    }
+
+    // 결과를 한 번에 메모리에 올리지 않도록 한 row 씩 받아 온다.
+    private void query(String sql, RowHandler<ResultSet> handler) throws SQLException {
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            rs = pstmt.executeQuery();
+            while (rs.next()) {
+                handler.handle(rs);
+            }
+        } finally {
+            DBClose.close(rs, pstmt);
+        }
+    }
+
+    @Override
+    public void upsert(Perfume perfume) throws SQLException {
+        perfumes.add(perfume);
+    }
+
+    @Override
+    public void deleteMainAccords(Long perfumeId) throws SQLException {
+        mainAccordDeletes.add(perfumeId);
+    }
+
+    @Override
+    public void saveMainAccord(MainAccord mainAccord) throws SQLException {
+        if (mainAccords.flushesOnNextAdd()) {
+            perfumes.flush();
+            mainAccordDeletes.flush();
+        }
+        mainAccords.add(mainAccord);
+    }
+
+    @Override
+    public void deleteSimilarPerfumes(Long originId) throws SQLException {
+        similarPerfumeDeletes.add(originId);
+    }
+
+    @Override
+    public void saveSimilarPerfume(SimilarPerfume similarPerfume) throws SQLException {
+        if (similarPerfumes.flushesOnNextAdd()) {
+            perfumes.flush();
+            similarPerfumeDeletes.flush();
+        }
+        similarPerfumes.add(similarPerfume);
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        perfumes.flush();
+        mainAccordDeletes.flush();
+        mainAccords.flush();
+        similarPerfumeDeletes.flush();
+        similarPerfumes.flush();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            DBClose.close(perfumes, mainAccordDeletes, mainAccords, similarPerfumeDeletes, similarPerfumes);
+        }
+    }
+}
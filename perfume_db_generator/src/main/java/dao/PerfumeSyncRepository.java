@@ -0,0 +1,41 @@
+package dao;
+
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.sql.SQLException;
+
+public interface PerfumeSyncRepository extends AutoCloseable {
+
+    @FunctionalInterface
+    interface RowHandler<T> {
+
+        void handle(T row) throws SQLException;
+    }
+
+    // 크롤링 데이터로 채우는 컬럼만 읽는다. 평점과 좋아요 수는 앱이 관리하므로 비교하지 않는다.
+    void findAllPerfumes(RowHandler<Perfume> handler) throws SQLException;
+
+    // perfume_id, accord_id 순서로 읽는다.
+    void findAllMainAccords(RowHandler<MainAccord> handler) throws SQLException;
+
+    // origin_id, similar_id 순서로 읽는다.
+    void findAllSimilarPerfumes(RowHandler<SimilarPerfume> handler) throws SQLException;
+
+    // 없으면 insert, 있으면 크롤링 데이터로 채우는 컬럼만 update 한다.
+    void upsert(Perfume perfume) throws SQLException;
+
+    void deleteMainAccords(Long perfumeId) throws SQLException;
+
+    void saveMainAccord(MainAccord mainAccord) throws SQLException;
+
+    void deleteSimilarPerfumes(Long originId) throws SQLException;
+
+    void saveSimilarPerfume(SimilarPerfume similarPerfume) throws SQLException;
+
+    // 모아 둔 row 를 perfume -> 삭제 -> insert 순서로 모두 내보낸다.
+    void flush() throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,91 @@
+package importer;
+
+import domain.Accord;
+import domain.Brand;
+import domain.Perfume;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.apache.commons.lang3.StringUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * 크롤링한 JSON 파일 위치와, 파일 내용을 domain 객체로 바꾸는 방법.
+ */
+public class CatalogFiles {
+
+    public static final String PERFUME_JSON = "src/main/resources/perfume_data.json";
+    public static final String BRAND_JSON = "src/main/resources/brand_data.json";
+    public static final String ACCORD_JSON_ENG = "src/main/resources/accord_data_eng.json";
+    public static final String ACCORD_JSON_KOR = "src/main/resources/accord_data_kor.json";
+
+    private CatalogFiles() {
+    }
+
+    public static List<Brand> readBrands() throws IOException, ParseException {
+        JSONObject js = (JSONObject) new JSONParser().parse(new FileReader(BRAND_JSON));
+        JSONObject brands = (JSONObject) js.get("brand");
+        List<Brand> result = new ArrayList<>();
+        for (int i = 0; i < brands.size(); i++) {
+            result.add(Brand.toBrand((String) brands.get(Integer.toString(i))));
+        }
+        return result;
+    }
+
+    public static List<Accord> readAccords() throws IOException, ParseException {
+        JSONObject js = (JSONObject) new JSONParser().parse(new FileReader(ACCORD_JSON_ENG));
+        JSONObject accordsEng = (JSONObject) js.get("accords");
+        JSONObject js2 = (JSONObject) new JSONParser().parse(new FileReader(ACCORD_JSON_KOR));
+        JSONObject accordsKor = (JSONObject) js2.get("accords");
+        List<Accord> result = new ArrayList<>();
+        for (int i = 0; i < accordsEng.size(); i++) {
+            result.add(Accord.toAccord((String) accordsKor.get(Integer.toString(i)),
+                (String) accordsEng.get(Integer.toString(i))));
+        }
+        return result;
+    }
+
+    // perfume_data.json 의 향수 하나를 perfume row 로 바꾼다.
+    public static Perfume toPerfume(JSONObject perfume, Long brandId) {
+        Long id = (Long) perfume.get("id");
+        String perfumeName = (String) perfume.get("perfume");
+        String imageData = (String) perfume.get("image");
+        String image = imageData.substring(2);
+        Double launchYearDouble = (Double) perfume.get("launch_year");
+        Integer launchYear = 0;
+        if (Objects.nonNull(launchYearDouble)){
+            launchYear = launchYearDouble.intValue();
+        }
+        Double average_grade = 0.0;
+        String topNotes = null;
+        String middleNotes = null;
+        String baseNotes = null;
+        if (perfume.get("notes") instanceof JSONArray) {
+            JSONArray notes = (JSONArray) perfume.get("notes");
+            topNotes = StringUtils.join(notes, ", ");
+            middleNotes = "";
+            baseNotes = "";
+        } else {
+            JSONObject Notes = (JSONObject) perfume.get("notes");
+            JSONArray topNotesJson = (JSONArray) Notes.get("top");
+            JSONArray middleNotesJson = (JSONArray) Notes.get("middle");
+            JSONArray baseNotesJSon = (JSONArray) Notes.get("base");
+            topNotes = StringUtils.join(topNotesJson, ", ");
+            middleNotes = StringUtils.join(middleNotesJson, ", ");
+            baseNotes = StringUtils.join(baseNotesJSon, ", ");
+        }
+        String longevity = (String) perfume.get("longevity");
+        String sillage = (String) perfume.get("sillage");
+        Long totalSurveyLong = (Long) perfume.get("total_survey");
+        Integer totalSurvey = totalSurveyLong.intValue();
+        int totalLike = 0;
+
+        return Perfume.toPerfume(id, brandId, perfumeName, image, launchYear, average_grade, topNotes, middleNotes, baseNotes,
+            totalSurvey, totalLike, longevity, sillage);
+    }
+}
@@ -0,0 +1,285 @@
+package importer;
+
+import dao.PerfumeBatchJdbcRepository;
+import dao.PerfumeBatchRepository;
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import util.ImportReport;
+import util.db.DBConnection;
+import util.json.JsonArrayReader;
+
+/**
+ * 브랜드 -> 어코드 -> 향수 -> 향수 어코드/비슷한 향수 순서로 카탈로그 전체를 입력한다.
+ * <p>
+ * 향수 단계는 파일을 읽는 스레드 하나, 브랜드 id 를 찾고 row 로 바꾸는 변환 스레드 transformers 개, 각자 연결을 하나씩 가진
+ * 쓰기 스레드 writers 개로 나눠 크기가 정해진 큐로 잇는다. 큐가 가득 차면 앞 단계가 기다리므로 파일을 DB 보다 빨리 읽어도
+ * 메모리가 늘지 않는다. 향수 어코드와 비슷한 향수는 향수를 가리키므로 (향수 id, 대상 id) 쌍만 long 배열에 모아 두었다가
+ * 향수가 모두 커밋된 뒤에 쓰기 스레드에 나눠 넣는다.
+ */
+public class CatalogImporter {
+
+    private static final JSONObject END_OF_PERFUMES = new JSONObject();
+    private static final Perfume END_OF_ROWS = Perfume.builder().build();
+    private static final long POLL_MILLIS = 100;
+
+    private final int transformers;
+    private final int writers;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final ReferenceImporter referenceImporter = new ReferenceImporter();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    public CatalogImporter(int transformers, int writers, int batchSize, int queueCapacity) {
+        this.transformers = transformers;
+        this.writers = writers;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void run() throws Exception {
+        Map<String, Long> brandIds = referenceImporter.importBrands();
+        Map<String, Long> accordIds = referenceImporter.importAccords();
+
+        List<Edges> edges = importPerfumes(brandIds, accordIds);
+
+        importEdges(edges);
+    }
+
+    private List<Edges> importPerfumes(Map<String, Long> brandIds, Map<String, Long> accordIds) throws Exception {
+        BlockingQueue<JSONObject> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Perfume> rows = new ArrayBlockingQueue<>(queueCapacity);
+        List<Edges> edges = new ArrayList<>();
+        AtomicLong skipped = new AtomicLong();
+
+        ImportReport report = ImportReport.start("perfume");
+        ExecutorService transformPool = Executors.newFixedThreadPool(transformers);
+        ExecutorService writePool = Executors.newFixedThreadPool(writers);
+        try (Progress progress = new Progress("perfume", parsed, rows)) {
+            List<Future<?>> transformTasks = new ArrayList<>();
+            for (int i = 0; i < transformers; i++) {
+                Edges workerEdges = new Edges();
+                edges.add(workerEdges);
+                transformTasks.add(transformPool.submit(guard(() ->
+                    transform(parsed, rows, brandIds, accordIds, workerEdges, skipped))));
+            }
+            List<Future<?>> writeTasks = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                writeTasks.add(writePool.submit(guard(() -> writePerfumes(rows, progress))));
+            }
+
+            try (JsonArrayReader perfumes = JsonArrayReader.open(CatalogFiles.PERFUME_JSON)) {
+                while (perfumes.hasNext()) {
+                    put(parsed, perfumes.next());
+                }
+            }
+            for (int i = 0; i < transformers; i++) {
+                put(parsed, END_OF_PERFUMES);
+            }
+            await(transformTasks);
+            for (int i = 0; i < writers; i++) {
+                put(rows, END_OF_ROWS);
+            }
+            await(writeTasks);
+            report.finish(progress.getRows(), skipped.get());
+        } finally {
+            transformPool.shutdownNow();
+            writePool.shutdownNow();
+        }
+        return edges;
+    }
+
+    private void transform(BlockingQueue<JSONObject> parsed, BlockingQueue<Perfume> rows, Map<String, Long> brandIds,
+        Map<String, Long> accordIds, Edges edges, AtomicLong skipped) throws Exception {
+        while (true) {
+            JSONObject perfume = take(parsed);
+            if (perfume == END_OF_PERFUMES) {
+                return;
+            }
+            Long id = (Long) perfume.get("id");
+            Long brandId = brandIds.get((String) perfume.get("brand"));
+            if (Objects.isNull(brandId)) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            put(rows, CatalogFiles.toPerfume(perfume, brandId));
+
+            edges.perfumeIds.add(id);
+            for (Object accordName : (JSONArray) perfume.get("main_accords")) {
+                Long accordId = accordIds.get((String) accordName);
+                if (Objects.isNull(accordId)) {
+                    edges.skippedAccords++;
+                    continue;
+                }
+                edges.mainAccords.add(id);
+                edges.mainAccords.add(accordId);
+            }
+            for (Object similarId : (JSONArray) perfume.get("similar_perfume")) {
+                edges.similarPerfumes.add(id);
+                edges.similarPerfumes.add((Long) similarId);
+            }
+        }
+    }
+
+    private void writePerfumes(BlockingQueue<Perfume> rows, Progress progress) throws Exception {
+        try (Connection conn = DBConnection.getBulkConnection();
+            PerfumeBatchRepository perfumeBatchRepository = new PerfumeBatchJdbcRepository(conn, batchSize)) {
+            long reported = 0;
+            while (true) {
+                Perfume perfume = take(rows);
+                if (perfume == END_OF_ROWS) {
+                    break;
+                }
+                perfumeBatchRepository.save(perfume);
+                reported = report(progress, reported, perfumeBatchRepository.getPerfumeCount());
+            }
+            perfumeBatchRepository.flush();
+            report(progress, reported, perfumeBatchRepository.getPerfumeCount());
+        }
+    }
+
+    // 향수가 모두 커밋된 뒤에 실행된다. 파일에 없거나 건너뛴 향수를 가리키는 비슷한 향수는 넣지 않는다.
+    private void importEdges(List<Edges> edges) throws Exception {
+        LongList perfumeIds = new LongList();
+        LongList mainAccords = new LongList();
+        LongList similarPerfumes = new LongList();
+        long skipped = 0;
+        for (Edges workerEdges : edges) {
+            perfumeIds.addAll(workerEdges.perfumeIds);
+            mainAccords.addAll(workerEdges.mainAccords);
+            skipped += workerEdges.skippedAccords;
+        }
+        perfumeIds.sort();
+        for (Edges workerEdges : edges) {
+            LongList pairs = workerEdges.similarPerfumes;
+            for (int i = 0; i < pairs.size(); i += 2) {
+                if (perfumeIds.contains(pairs.get(i + 1))) {
+                    similarPerfumes.add(pairs.get(i));
+                    similarPerfumes.add(pairs.get(i + 1));
+                } else {
+                    skipped++;
+                }
+            }
+        }
+
+        ImportReport report = ImportReport.start("perfume_accord, similar_perfume");
+        ExecutorService writePool = Executors.newFixedThreadPool(writers);
+        try (Progress progress = new Progress("perfume_accord, similar_perfume")) {
+            List<Future<?>> writeTasks = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                int writer = i;
+                writeTasks.add(writePool.submit(guard(() -> writeEdges(mainAccords, similarPerfumes, writer, progress))));
+            }
+            await(writeTasks);
+            report.finish(progress.getRows(), skipped);
+        } finally {
+            writePool.shutdownNow();
+        }
+    }
+
+    // 쌍 목록을 쓰기 스레드 수만큼 나눠 writer 번째 구간만 넣는다.
+    private void writeEdges(LongList mainAccords, LongList similarPerfumes, int writer, Progress progress)
+        throws Exception {
+        try (Connection conn = DBConnection.getBulkConnection();
+            PerfumeBatchRepository perfumeBatchRepository = new PerfumeBatchJdbcRepository(conn, batchSize)) {
+            long reported = 0;
+            int pairs = mainAccords.size() / 2;
+            for (int i = pairs * writer / writers; i < pairs * (writer + 1) / writers; i++) {
+                checkFailure();
+                perfumeBatchRepository.saveMainAccord(
+                    MainAccord.toMainAccord(mainAccords.get(i * 2), mainAccords.get(i * 2 + 1)));
+                reported = report(progress, reported, edgeCount(perfumeBatchRepository));
+            }
+            pairs = similarPerfumes.size() / 2;
+            for (int i = pairs * writer / writers; i < pairs * (writer + 1) / writers; i++) {
+                checkFailure();
+                perfumeBatchRepository.saveSimilarPerfume(
+                    SimilarPerfume.toSimilarPerfume(similarPerfumes.get(i * 2), similarPerfumes.get(i * 2 + 1)));
+                reported = report(progress, reported, edgeCount(perfumeBatchRepository));
+            }
+            perfumeBatchRepository.flush();
+            report(progress, reported, edgeCount(perfumeBatchRepository));
+        }
+    }
+
+    private long edgeCount(PerfumeBatchRepository perfumeBatchRepository) {
+        return perfumeBatchRepository.getMainAccordCount() + perfumeBatchRepository.getSimilarPerfumeCount();
+    }
+
+    // 커밋된 row 수가 늘어난 만큼만 진행 상황에 더한다.
+    private long report(Progress progress, long reported, long committed) {
+        if (committed > reported) {
+            progress.add(committed - reported);
+        }
+        return committed;
+    }
+
+    // 한 스레드라도 실패하면 나머지 스레드가 큐에서 기다리다 멈추지 않도록 실패를 기록해 둔다.
+    private Runnable guard(Task task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            }
+        };
+    }
+
+    private <T> void put(BlockingQueue<T> queue, T item) throws Exception {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            checkFailure();
+        }
+    }
+
+    private <T> T take(BlockingQueue<T> queue) throws Exception {
+        T item;
+        while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+            checkFailure();
+        }
+        return item;
+    }
+
+    private void await(List<Future<?>> tasks) throws Exception {
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws Exception {
+        Exception e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+
+        void run() throws Exception;
+    }
+
+    // 변환 스레드 하나가 모은 향수 id 와 (향수 id, 대상 id) 쌍. 스레드마다 따로 두어 잠금 없이 추가한다.
+    private static class Edges {
+
+        private final LongList perfumeIds = new LongList();
+        private final LongList mainAccords = new LongList();
+        private final LongList similarPerfumes = new LongList();
+        private long skippedAccords;
+    }
+}
@@ -0,0 +1,242 @@
+package importer;
+
+import dao.PerfumeSyncJdbcRepository;
+import dao.PerfumeSyncRepository;
+import domain.MainAccord;
+import domain.Perfume;
+import domain.SimilarPerfume;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import util.ImportReport;
+import util.db.DBConnection;
+import util.json.JsonArrayReader;
+
+/**
+ * perfume_data.json 과 DB 를 비교해 바뀐 향수만 고친다. 테이블을 비우지 않으므로 리뷰, 좋아요처럼 향수를 참조하는 데이터가
+ * 그대로 남고, 같은 파일로 다시 실행하면 아무것도 쓰지 않는다.
+ * <p>
+ * 향수마다 row, 어코드 id 목록, 비슷한 향수 id 목록의 내용 해시를 DB 와 파일 양쪽에서 계산해 비교한다. row 가 다르면 upsert 하고,
+ * 어코드나 비슷한 향수 목록이 다르면 그 향수의 목록만 지우고 다시 넣는다. 평점과 좋아요 수는 앱이 관리하므로 건드리지 않고,
+ * 파일에서 빠진 향수도 지우지 않는다. 바뀐 향수는 changeLogPath 에 한 줄에 하나씩 JSON 으로 남겨 백엔드가 캐시를 비울 때 쓴다.
+ */
+public class CatalogSync {
+
+    private static final int PERFUME = 0;
+    private static final int MAIN_ACCORDS = 1;
+    private static final int SIMILAR_PERFUMES = 2;
+
+    private final int batchSize;
+    private final Path changeLogPath;
+    private final ReferenceImporter referenceImporter = new ReferenceImporter();
+    private final ContentHash contentHash = new ContentHash();
+    private final long emptyHash = contentHash.ofIds(Collections.emptyList());
+    private final Map<Long, Change> changes = new TreeMap<>();
+
+    public CatalogSync(int batchSize, Path changeLogPath) {
+        this.batchSize = batchSize;
+        this.changeLogPath = changeLogPath;
+    }
+
+    public void run() throws Exception {
+        Map<String, Long> brandIds = referenceImporter.importBrands();
+        Map<String, Long> accordIds = referenceImporter.importAccords();
+
+        try (Connection conn = DBConnection.getBulkConnection();
+            PerfumeSyncRepository perfumeSyncRepository = new PerfumeSyncJdbcRepository(conn, batchSize)) {
+            Map<Long, long[]> hashes = readHashes(perfumeSyncRepository);
+            syncPerfumes(perfumeSyncRepository, hashes, brandIds, accordIds);
+        }
+        writeChangeLog();
+    }
+
+    // perfume_id -> {row, 어코드 목록, 비슷한 향수 목록} 해시
+    private Map<Long, long[]> readHashes(PerfumeSyncRepository perfumeSyncRepository) throws SQLException {
+        ImportReport report = ImportReport.start("read current catalog");
+        Map<Long, long[]> hashes = new HashMap<>();
+        perfumeSyncRepository.findAllPerfumes(perfume -> hashes.put(perfume.getPerfumeId(),
+            new long[]{contentHash.ofPerfume(perfume), emptyHash, emptyHash}));
+
+        GroupHash mainAccords = new GroupHash(hashes, MAIN_ACCORDS);
+        perfumeSyncRepository.findAllMainAccords(
+            mainAccord -> mainAccords.add(mainAccord.getPerfumeId(), mainAccord.getAccordId()));
+        mainAccords.finish();
+        GroupHash similarPerfumes = new GroupHash(hashes, SIMILAR_PERFUMES);
+        perfumeSyncRepository.findAllSimilarPerfumes(
+            similarPerfume -> similarPerfumes.add(similarPerfume.getOriginId(), similarPerfume.getSimilarId()));
+        similarPerfumes.finish();
+
+        report.finish(hashes.size(), 0);
+        return hashes;
+    }
+
+    private void syncPerfumes(PerfumeSyncRepository perfumeSyncRepository, Map<Long, long[]> hashes,
+        Map<String, Long> brandIds, Map<String, Long> accordIds) throws Exception {
+        ImportReport report = ImportReport.start("sync perfume_data.json");
+        LongList perfumeIds = new LongList();
+        // 비슷한 향수는 파일 뒤쪽 향수를 가리킬 수 있어 [향수 id, 개수, 대상 id...] 로 모아 두었다가 파일을 다 읽은 뒤 비교한다.
+        LongList similarPerfumes = new LongList();
+        long skipped = 0;
+
+        try (JsonArrayReader perfumes = JsonArrayReader.open(CatalogFiles.PERFUME_JSON)) {
+            while (perfumes.hasNext()) {
+                JSONObject perfume = perfumes.next();
+                Long id = (Long) perfume.get("id");
+                Long brandId = brandIds.get((String) perfume.get("brand"));
+                if (Objects.isNull(brandId)) {
+                    skipped++;
+                    continue;
+                }
+                perfumeIds.add(id);
+                long[] current = hashes.get(id);
+
+                Perfume row = CatalogFiles.toPerfume(perfume, brandId);
+                if (Objects.isNull(current) || current[PERFUME] != contentHash.ofPerfume(row)) {
+                    perfumeSyncRepository.upsert(row);
+                    change(id, current).add("perfume");
+                }
+
+                Set<Long> accords = new TreeSet<>();
+                for (Object accordName : (JSONArray) perfume.get("main_accords")) {
+                    Long accordId = accordIds.get((String) accordName);
+                    if (Objects.isNull(accordId)) {
+                        skipped++;
+                        continue;
+                    }
+                    accords.add(accordId);
+                }
+                if (hash(current, MAIN_ACCORDS) != contentHash.ofIds(accords)) {
+                    if (Objects.nonNull(current)) {
+                        perfumeSyncRepository.deleteMainAccords(id);
+                    }
+                    for (Long accordId : accords) {
+                        perfumeSyncRepository.saveMainAccord(MainAccord.toMainAccord(id, accordId));
+                    }
+                    change(id, current).add("main_accords");
+                }
+
+                JSONArray similarIds = (JSONArray) perfume.get("similar_perfume");
+                similarPerfumes.add(id);
+                similarPerfumes.add(similarIds.size());
+                for (Object similarId : similarIds) {
+                    similarPerfumes.add((Long) similarId);
+                }
+            }
+        }
+
+        // DB 에 이미 있거나 이번에 넣은 향수를 가리키는 것만 남긴다.
+        perfumeIds.sort();
+        int i = 0;
+        while (i < similarPerfumes.size()) {
+            long id = similarPerfumes.get(i++);
+            long count = similarPerfumes.get(i++);
+            Set<Long> similarIds = new TreeSet<>();
+            for (long end = i + count; i < end; i++) {
+                long similarId = similarPerfumes.get(i);
+                if (hashes.containsKey(similarId) || perfumeIds.contains(similarId)) {
+                    similarIds.add(similarId);
+                } else {
+                    skipped++;
+                }
+            }
+            long[] current = hashes.get(id);
+            if (hash(current, SIMILAR_PERFUMES) != contentHash.ofIds(similarIds)) {
+                if (Objects.nonNull(current)) {
+                    perfumeSyncRepository.deleteSimilarPerfumes(id);
+                }
+                for (Long similarId : similarIds) {
+                    perfumeSyncRepository.saveSimilarPerfume(SimilarPerfume.toSimilarPerfume(id, similarId));
+                }
+                change(id, current).add("similar_perfumes");
+            }
+        }
+        perfumeSyncRepository.flush();
+
+        report.finish(changes.size(), skipped);
+        long created = changes.values().stream().filter(change -> change.created).count();
+        long missing = hashes.keySet().stream().filter(id -> !perfumeIds.contains(id)).count();
+        System.out.printf("perfume created %,d / updated %,d / unchanged %,d (파일에 없어 그대로 둔 향수 %,d)%n",
+            created, changes.size() - created, perfumeIds.size() - changes.size(), missing);
+    }
+
+    private long hash(long[] current, int index) {
+        return Objects.isNull(current) ? emptyHash : current[index];
+    }
+
+    private List<String> change(Long id, long[] current) {
+        return changes.computeIfAbsent(id, key -> new Change(Objects.isNull(current))).fields;
+    }
+
+    // {"perfume_id": 1, "type": "updated", "fields": ["perfume", "main_accords", "similar_perfumes"]}
+    @SuppressWarnings("unchecked")
+    private void writeChangeLog() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(changeLogPath, StandardCharsets.UTF_8)) {
+            for (Map.Entry<Long, Change> entry : changes.entrySet()) {
+                JSONObject line = new JSONObject();
+                line.put("perfume_id", entry.getKey());
+                line.put("type", entry.getValue().created ? "created" : "updated");
+                JSONArray fields = new JSONArray();
+                fields.addAll(entry.getValue().fields);
+                line.put("fields", fields);
+                writer.write(line.toJSONString());
+                writer.newLine();
+            }
+        }
+        System.out.printf("change log %,d lines: %s%n", changes.size(), changeLogPath.toAbsolutePath());
+    }
+
+    private static class Change {
+
+        private final boolean created;
+        private final List<String> fields = new ArrayList<>();
+
+        Change(boolean created) {
+            this.created = created;
+        }
+    }
+
+    // 향수 id 순서로 읽은 (향수 id, 대상 id) 쌍을 향수별로 묶어 해시를 채운다.
+    private class GroupHash {
+
+        private final Map<Long, long[]> hashes;
+        private final int index;
+        private final List<Long> ids = new ArrayList<>();
+        private long owner = -1;
+
+        GroupHash(Map<Long, long[]> hashes, int index) {
+            this.hashes = hashes;
+            this.index = index;
+        }
+
+        void add(long ownerId, long id) {
+            if (ownerId != owner) {
+                finish();
+                owner = ownerId;
+            }
+            ids.add(id);
+        }
+
+        void finish() {
+            long[] current = hashes.get(owner);
+            if (Objects.nonNull(current) && !ids.isEmpty()) {
+                current[index] = contentHash.ofIds(ids);
+            }
+            ids.clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package importer;
+
+import domain.Perfume;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 향수 row 와 어코드/비슷한 향수 id 목록의 내용 해시. 파일에서 만든 값과 DB 에서 만든 값이 같으면 내용이 같다고 본다.
+ * SHA-256 의 앞 8바이트를 쓴다. 한 스레드에서만 쓴다.
+ */
+public class ContentHash {
+
+    private static final byte NULL = 0;
+    private static final byte VALUE = 1;
+
+    private final MessageDigest digest;
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+    public ContentHash() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 크롤링 데이터로 채우는 컬럼만 포함한다. 서비스가 바꾸는 평점, 설문 수, 좋아요 수는 넣지 않는다.
+    public long ofPerfume(Perfume perfume) {
+        update(perfume.getBrandId());
+        update(perfume.getName());
+        update(perfume.getImage());
+        update(Objects.isNull(perfume.getLaunchYear()) ? null : perfume.getLaunchYear().longValue());
+        update(perfume.getTopNotes());
+        update(perfume.getMiddleNotes());
+        update(perfume.getBaseNotes());
+        update(perfume.getLongevity());
+        update(perfume.getSillage());
+        return finish();
+    }
+
+    // ids 는 정렬되어 있고 중복이 없어야 한다.
+    public long ofIds(Collection<Long> ids) {
+        for (Long id : ids) {
+            update(id);
+        }
+        return finish();
+    }
+
+    private void update(Long value) {
+        if (Objects.isNull(value)) {
+            digest.update(NULL);
+            return;
+        }
+        digest.update(VALUE);
+        buffer.clear();
+        digest.update(buffer.putLong(value).array());
+    }
+
+    // 길이를 앞에 붙여 ("ab", "c") 와 ("a", "bc") 가 다르게 나오도록 한다.
+    private void update(String value) {
+        if (Objects.isNull(value)) {
+            digest.update(NULL);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update((long) bytes.length);
+        digest.update(bytes);
+    }
+
+    private long finish() {
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+}
@@ -0,0 +1,42 @@
+package importer;
+
+import java.util.Arrays;
+
+/**
+ * long 값만 담는 가변 길이 배열. 향수 id 와 (향수 id, 대상 id) 쌍을 Long 객체 없이 모아 둘 때 쓴다.
+ */
+public class LongList {
+
+    private long[] values = new long[1024];
+    private int size;
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public void addAll(LongList other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.values[i]);
+        }
+    }
+
+    public long get(int index) {
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    // sort() 뒤에만 쓸 수 있다.
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+}
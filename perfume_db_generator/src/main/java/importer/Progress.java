@@ -0,0 +1,54 @@
+package importer;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단계 진행 상황을 주기적으로 출력한다. 큐가 계속 가득 차 있으면 DB 쓰기가 병목이라는 뜻이다.
+ */
+public class Progress implements AutoCloseable {
+
+    private static final long INTERVAL_SECONDS = 5;
+
+    private final String name;
+    private final BlockingQueue<?>[] queues;
+    private final AtomicLong rows = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private final ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progress");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Progress(String name, BlockingQueue<?>... queues) {
+        this.name = name;
+        this.queues = queues;
+        reporter.scheduleAtFixedRate(this::print, INTERVAL_SECONDS, INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void add(long delta) {
+        rows.addAndGet(delta);
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    private void print() {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        StringBuilder line = new StringBuilder(String.format("[%s] %,d rows (%,.0f rows/sec)", name, rows.get(),
+            rows.get() / seconds));
+        for (BlockingQueue<?> queue : queues) {
+            line.append(String.format(", queue %d/%d", queue.size(), queue.size() + queue.remainingCapacity()));
+        }
+        System.out.println(line);
+    }
+
+    @Override
+    public void close() {
+        reporter.shutdownNow();
+    }
+}
@@ -0,0 +1,45 @@
+package importer;
+
+import dao.AccordJdbcRepository;
+import dao.AccordRepository;
+import dao.BrandJdbcRepository;
+import dao.BrandRepository;
+import domain.Accord;
+import domain.Brand;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import util.ImportReport;
+
+/**
+ * 향수가 참조하는 브랜드와 어코드를 입력한다. 이미 있는 이름은 건너뛰므로 다시 실행해도 중복되지 않는다.
+ */
+public class ReferenceImporter {
+
+    private final BrandRepository brandRepository = new BrandJdbcRepository();
+    private final AccordRepository accordRepository = new AccordJdbcRepository();
+
+    // 브랜드 이름 -> brand_id
+    public Map<String, Long> importBrands() throws Exception {
+        ImportReport report = ImportReport.start("brand");
+        Map<String, Long> existing = brandRepository.findAllIds();
+        List<Brand> brands = CatalogFiles.readBrands().stream()
+            .filter(brand -> !existing.containsKey(brand.getName()))
+            .collect(Collectors.toList());
+        brandRepository.saveAll(brands);
+        report.finish(brands.size(), 0);
+        return brandRepository.findAllIds();
+    }
+
+    // 어코드 영어 이름 -> accord_id
+    public Map<String, Long> importAccords() throws Exception {
+        ImportReport report = ImportReport.start("accord");
+        Map<String, Long> existing = accordRepository.findAllIds();
+        List<Accord> accords = CatalogFiles.readAccords().stream()
+            .filter(accord -> !existing.containsKey(accord.getEng_name()))
+            .collect(Collectors.toList());
+        accordRepository.saveAll(accords);
+        report.finish(accords.size(), 0);
+        return accordRepository.findAllIds();
+    }
+}
@@ -0,0 +1,25 @@
+package util;
+
+/**
+ * 단계별 입력 row 수와 초당 처리량을 출력한다.
+ */
+public class ImportReport {
+
+    private final String name;
+    private final long startNanos;
+
+    private ImportReport(String name) {
+        this.name = name;
+        this.startNanos = System.nanoTime();
+    }
+
+    public static ImportReport start(String name) {
+        return new ImportReport(name);
+    }
+
+    public void finish(long rows, long skipped) {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+        System.out.printf("[%s] %,d rows, %,d skipped, %.1fs (%,.0f rows/sec)%n",
+            name, rows, skipped, seconds, rows / seconds);
+    }
+}
@@ -0,0 +1,75 @@
+package util.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * PreparedStatement 하나에 row 를 addBatch 로 모아 두었다가 batchSize 개가 차면 executeBatch 후 커밋한다.
+ * batchSize 개가 하나의 트랜잭션이 되고, 실패하면 그 묶음만 롤백된다.
+ */
+public class BatchStatement<T> implements AutoCloseable {
+
+    @FunctionalInterface
+    public interface Binder<T> {
+
+        void bind(PreparedStatement pstmt, T row) throws SQLException;
+    }
+
+    private final Connection conn;
+    private final PreparedStatement pstmt;
+    private final Binder<T> binder;
+    private final int batchSize;
+    private int pending;
+    private long count;
+
+    public BatchStatement(Connection conn, String sql, int batchSize, Binder<T> binder) throws SQLException {
+        this.conn = conn;
+        this.pstmt = conn.prepareStatement(sql);
+        this.binder = binder;
+        this.batchSize = batchSize;
+    }
+
+    public void add(T row) throws SQLException {
+        binder.bind(pstmt, row);
+        pstmt.addBatch();
+        pending++;
+        if (pending >= batchSize) {
+            flush();
+        }
+    }
+
+    // 다음 add 에서 executeBatch 가 일어나는지. 참조하는 쪽 row 를 먼저 내보낼 때 쓴다.
+    public boolean flushesOnNextAdd() {
+        return pending + 1 >= batchSize;
+    }
+
+    public void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            pstmt.executeBatch();
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        }
+        count += pending;
+        pending = 0;
+    }
+
+    // 실제로 insert 된 row 수
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            pstmt.close();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package util.db;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * 물리 연결을 maxSize 개까지 만들어 두고 빌려 주는 DataSource.
+ * <p>
+ * getConnection 이 돌려주는 연결의 close() 는 물리 연결을 닫지 않고 풀에 돌려준다. 돌려받을 때 끝나지 않은 트랜잭션은 롤백하고
+ * autoCommit 을 처음 값으로 되돌린다. 연결을 유지하므로 드라이버의 PreparedStatement 캐시(cachePrepStmts)도 계속 쓰인다.
+ * 오래 놀던 연결은 빌려 주기 전에 살아 있는지 확인한다.
+ */
+public class ConnectionPool implements DataSource {
+
+    private static final long VALIDATE_AFTER_IDLE_MILLIS = 30_000;
+    private static final int VALIDATE_TIMEOUT_SECONDS = 2;
+    private static final long RETRY_MILLIS = 100;
+
+    private final String name;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final boolean autoCommit;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+
+    private final BlockingQueue<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    public ConnectionPool(String name, String url, String user, String password, boolean autoCommit, int maxSize,
+        long borrowTimeoutMillis) {
+        this.name = name;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.autoCommit = autoCommit;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException(name + " pool is closed");
+        }
+        long start = System.nanoTime();
+        PooledConnection pooled = borrow();
+        waitNanos.addAndGet(System.nanoTime() - start);
+        borrowed.incrementAndGet();
+        active.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new Lease(pooled));
+    }
+
+    // 놀고 있는 연결이 없고 더 만들 수도 없으면 조금씩 기다리며 다시 시도한다. 그사이 버려진 연결이 있으면 새로 만든다.
+    private PooledConnection borrow() throws SQLException {
+        long deadline = System.currentTimeMillis() + borrowTimeoutMillis;
+        while (true) {
+            PooledConnection pooled = idle.poll();
+            if (pooled == null) {
+                pooled = create();
+            }
+            if (pooled == null) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new SQLException(String.format("%s pool: no connection within %dms (%s)", name,
+                        borrowTimeoutMillis, getStats()));
+                }
+                try {
+                    pooled = idle.poll(Math.min(remaining, RETRY_MILLIS), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(name + " pool borrow interrupted", e);
+                }
+                if (pooled == null) {
+                    continue;
+                }
+            }
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+    }
+
+    // maxSize 개를 이미 만들었으면 null
+    private PooledConnection create() throws SQLException {
+        if (total.incrementAndGet() > maxSize) {
+            total.decrementAndGet();
+            return null;
+        }
+        try {
+            Connection conn = DriverManager.getConnection(url, user, password);
+            conn.setAutoCommit(autoCommit);
+            created.incrementAndGet();
+            return new PooledConnection(conn);
+        } catch (SQLException e) {
+            total.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastUsedMillis < VALIDATE_AFTER_IDLE_MILLIS) {
+            return true;
+        }
+        try {
+            return pooled.conn.isValid(VALIDATE_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        active.decrementAndGet();
+        try {
+            if (pooled.conn.isClosed()) {
+                discard(pooled);
+                return;
+            }
+            if (!pooled.conn.getAutoCommit()) {
+                pooled.conn.rollback();
+            }
+            if (pooled.conn.getAutoCommit() != autoCommit) {
+                pooled.conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            discard(pooled);
+            return;
+        }
+        if (closed) {
+            discard(pooled);
+            return;
+        }
+        pooled.lastUsedMillis = System.currentTimeMillis();
+        idle.offer(pooled);
+    }
+
+    private void discard(PooledConnection pooled) {
+        total.decrementAndGet();
+        discarded.incrementAndGet();
+        DBClose.close(pooled.conn);
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(name, total.get(), idle.size(), active.get(), maxSize, borrowed.get(), created.get(),
+            discarded.get(), waitNanos.get());
+    }
+
+    // 놀고 있는 연결을 닫는다. 빌려 간 연결은 돌려받을 때 닫는다.
+    public void close() {
+        closed = true;
+        List<PooledConnection> drained = new ArrayList<>();
+        idle.drainTo(drained);
+        for (PooledConnection pooled : drained) {
+            discard(pooled);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("pool is bound to one user");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return DriverManager.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        DriverManager.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    private static class PooledConnection {
+
+        private final Connection conn;
+        private long lastUsedMillis = System.currentTimeMillis();
+
+        PooledConnection(Connection conn) {
+            this.conn = conn;
+        }
+    }
+
+    // 빌려 간 연결 하나. close() 하면 풀에 돌려주고, 그 뒤로는 쓸 수 없다.
+    private class Lease implements InvocationHandler {
+
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.conn.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return name + " pooled " + pooled.conn;
+                default:
+                    if (returned) {
+                        throw new SQLException("connection already returned to " + name + " pool");
+                    }
+                    try {
+                        return method.invoke(pooled.conn, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package util.db;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
+/**
+ * 연결은 풀에서 빌려 준다. 다 쓴 연결은 close() 로 돌려준다.
+ * 풀 크기는 -Ddb.pool.size, -Ddb.bulk-pool.size 로 바꿀 수 있다.
+ */
 public class DBConnection {
 
     private static final String SERVER_ADDRESS_PORT = "j6d105.p.ssafy.io:3306";
@@ -11,12 +14,43 @@ public class DBConnection {
     private static final String USER_ID = "root";
     private static final String USER_PASSWORD = "perfume";
 
+    // 연결마다 서버 prepared statement 를 캐시해 같은 SQL 을 다시 prepare 하지 않는다.
+    private static final String STATEMENT_CACHE = "&cachePrepStmts=true&useServerPrepStmts=true"
+        + "&prepStmtCacheSize=250&prepStmtCacheSqlLimit=2048";
+    private static final long BORROW_TIMEOUT_MILLIS = 30_000;
+
+    private static final ConnectionPool POOL = new ConnectionPool("default", url() + STATEMENT_CACHE,
+        USER_ID, USER_PASSWORD, true, Integer.getInteger("db.pool.size", 4), BORROW_TIMEOUT_MILLIS);
+
+    // 대량 입력용 연결. addBatch 로 모은 insert 를 드라이버가 multi-row insert 한 번으로 바꿔 보내고, 커밋은 직접 한다.
+    private static final ConnectionPool BULK_POOL = new ConnectionPool("bulk",
+        url() + STATEMENT_CACHE + "&rewriteBatchedStatements=true",
+        USER_ID, USER_PASSWORD, false, Integer.getInteger("db.bulk-pool.size", 16), BORROW_TIMEOUT_MILLIS);
+
     private DBConnection() {
     }
 
     public static Connection getConnection() throws SQLException {
-        final String url = "jdbc:mysql://" + SERVER_ADDRESS_PORT
+        return POOL.getConnection();
+    }
+
+    public static Connection getBulkConnection() throws SQLException {
+        return BULK_POOL.getConnection();
+    }
+
+    public static void printStats() {
+        System.out.println(POOL.getStats());
+        System.out.println(BULK_POOL.getStats());
+    }
+
+    // 풀에 있는 물리 연결을 모두 닫는다.
+    public static void close() {
+        POOL.close();
+        BULK_POOL.close();
+    }
+
+    private static String url() {
+        return "jdbc:mysql://" + SERVER_ADDRESS_PORT
             + "/" + DATABASE_NAME + "?serverTimezone=UTC&useUniCode=yes&characterEncoding=UTF-8";
-        return DriverManager.getConnection(url, USER_ID, USER_PASSWORD);
     }
 }
@@ -0,0 +1,47 @@
+package util.db;
+
+import lombok.Getter;
+
+@Getter
+public class PoolStats {
+
+    private final String name;
+
+    // 지금 열려 있는 물리 연결 수 (idle + active)
+    private final int total;
+
+    private final int idle;
+
+    private final int active;
+
+    private final int maxSize;
+
+    // 지금까지 빌려 간 횟수와 그동안 새로 만든 물리 연결 수. 둘의 차이만큼 연결 생성을 아꼈다.
+    private final long borrowed;
+
+    private final long created;
+
+    // 끊어졌거나 되돌리지 못해 닫은 물리 연결 수
+    private final long discarded;
+
+    private final long waitNanos;
+
+    PoolStats(String name, int total, int idle, int active, int maxSize, long borrowed, long created, long discarded,
+        long waitNanos) {
+        this.name = name;
+        this.total = total;
+        this.idle = idle;
+        this.active = active;
+        this.maxSize = maxSize;
+        this.borrowed = borrowed;
+        this.created = created;
+        this.discarded = discarded;
+        this.waitNanos = waitNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s pool] %d/%d open (idle %d, active %d), borrowed %,d, created %,d, discarded %,d, "
+            + "waited %.1fms", name, total, maxSize, idle, active, borrowed, created, discarded, waitNanos / 1_000_000.0);
+    }
+}
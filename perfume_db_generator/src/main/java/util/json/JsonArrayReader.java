@@ -0,0 +1,171 @@
+package util.json;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * 최상위가 배열인 JSON 파일을 원소(객체) 하나씩 읽는다.
+ * json-simple 의 ContentHandler 가 객체 하나를 다 읽을 때마다 parse 를 멈추고, 다음 원소를 요청하면 멈춘 자리부터 다시 읽는다.
+ * 메모리에는 지금 읽고 있는 객체 하나만 남는다. 값의 타입(Long, Double, String, JSONArray, JSONObject)은
+ * JSONParser.parse 로 파일 전체를 읽을 때와 같다.
+ */
+public class JsonArrayReader implements Iterator<JSONObject>, AutoCloseable {
+
+    private final Reader reader;
+    private final JSONParser parser = new JSONParser();
+    private final ObjectCollector collector = new ObjectCollector();
+    private boolean started;
+    private JSONObject next;
+
+    public JsonArrayReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public static JsonArrayReader open(String path) throws IOException {
+        return new JsonArrayReader(new BufferedReader(
+            new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !collector.finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public JSONObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JSONObject current = next;
+        next = null;
+        return current;
+    }
+
+    private JSONObject readNext() {
+        try {
+            parser.parse(reader, collector, started);
+            started = true;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JSON 을 읽지 못했습니다.", e);
+        }
+        return collector.take();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static class ObjectCollector implements ContentHandler {
+
+        private final Deque<Object> containers = new ArrayDeque<>();
+        private final Deque<String> keys = new ArrayDeque<>();
+        private boolean inRootArray;
+        private boolean finished;
+        private JSONObject completed;
+
+        JSONObject take() {
+            JSONObject taken = completed;
+            completed = null;
+            return taken;
+        }
+
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+            finished = true;
+        }
+
+        @Override
+        public boolean startObject() {
+            containers.push(new JSONObject());
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean endObject() {
+            JSONObject object = (JSONObject) containers.pop();
+            if (containers.isEmpty()) {
+                // 최상위 배열의 원소 하나를 다 읽었으므로 여기서 멈춘다.
+                completed = object;
+                return false;
+            }
+            attach(object);
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            keys.push(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            keys.pop();
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            if (!inRootArray && containers.isEmpty()) {
+                inRootArray = true;
+                return true;
+            }
+            containers.push(new JSONArray());
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            if (containers.isEmpty()) {
+                inRootArray = false;
+                return true;
+            }
+            attach(containers.pop());
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            // 최상위 배열에 바로 들어 있는 값은 객체가 아니므로 건너뛴다.
+            if (!containers.isEmpty()) {
+                attach(value);
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void attach(Object value) {
+            Object parent = containers.peek();
+            if (parent == null) {
+                return;
+            }
+            if (parent instanceof JSONObject) {
+                ((JSONObject) parent).put(keys.peek(), value);
+            } else {
+                ((JSONArray) parent).add(value);
+            }
+        }
+    }
+}